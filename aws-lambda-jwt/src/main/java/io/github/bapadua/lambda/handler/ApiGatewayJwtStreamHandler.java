@@ -0,0 +1,178 @@
+package io.github.bapadua.lambda.handler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.github.bapadua.lambda.service.JwtLambdaService;
+
+/**
+ * Handler para validação JWT via API Gateway baseado em streams - Retorna apenas true/false
+ *
+ * Alternativa ao ApiGatewayJwtValidationHandler que não desserializa o evento em POJOs:
+ * percorre o JSON do evento com o parser de streaming do Jackson e lê apenas
+ * headers.Authorization/X-Token, queryStringParameters.token, pathParameters.token e body.token.
+ * A resposta é escrita a partir de bytes pré-serializados.
+ *
+ * Handler: io.github.bapadua.lambda.handler.ApiGatewayJwtStreamHandler::handleRequest
+ */
+public class ApiGatewayJwtStreamHandler implements RequestStreamHandler {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final byte[] TRUE_RESPONSE = serializeResponse("true");
+    private static final byte[] FALSE_RESPONSE = serializeResponse("false");
+
+    private final JwtLambdaService jwtLambdaService;
+
+    public ApiGatewayJwtStreamHandler() {
+        this.jwtLambdaService = new JwtLambdaService();
+    }
+
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+        boolean isValid;
+        try {
+            isValid = jwtLambdaService.validateToken(extractToken(input));
+        } catch (Exception e) {
+            context.getLogger().log("Erro durante processamento: " + e.getMessage());
+            isValid = false;
+        }
+
+        output.write(isValid ? TRUE_RESPONSE : FALSE_RESPONSE);
+    }
+
+    /**
+     * Extrai o token do evento do API Gateway sem materializar o evento.
+     * Mesma precedência do JwtLambdaService: Authorization, X-Token, query, path e body.
+     */
+    static String extractToken(InputStream input) throws IOException {
+        String xToken = null;
+        String queryToken = null;
+        String pathToken = null;
+        String body = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "headers" -> {
+                        String[] headers = readStringFields(parser, value, "Authorization", "X-Token");
+                        if (isPresent(headers[0])) {
+                            // Maior precedência: não é necessário ler o restante do evento
+                            return headers[0].startsWith("Bearer ") ? headers[0].substring(7) : headers[0];
+                        }
+                        xToken = headers[1];
+                    }
+                    case "queryStringParameters" -> queryToken = readStringFields(parser, value, "token")[0];
+                    case "pathParameters" -> pathToken = readStringFields(parser, value, "token")[0];
+                    case "body" -> {
+                        if (value == JsonToken.VALUE_STRING) {
+                            body = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        if (isPresent(xToken)) return xToken;
+        if (isPresent(queryToken)) return queryToken;
+        if (isPresent(pathToken)) return pathToken;
+        if (isPresent(body)) return extractTokenFromBody(body);
+
+        return null;
+    }
+
+    /**
+     * Lê os valores string dos campos informados de um objeto JSON, ignorando os demais
+     */
+    private static String[] readStringFields(JsonParser parser, JsonToken value, String... names) throws IOException {
+        String[] values = new String[names.length];
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return values;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(field) && fieldValue == JsonToken.VALUE_STRING) {
+                    values[i] = parser.getText();
+                }
+            }
+            parser.skipChildren();
+        }
+        return values;
+    }
+
+    /**
+     * Procura a propriedade "token" no primeiro nível do body JSON
+     */
+    private static String extractTokenFromBody(String body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("token".equals(field) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    String token = parser.getText().trim();
+                    return token.isEmpty() ? null : token;
+                }
+                parser.skipChildren();
+            }
+            return null;
+
+        } catch (JsonProcessingException e) {
+            // Body não é um JSON válido: busca simples por "token":"valor"
+            String[] parts = body.split("\"token\"\\s*:\\s*\"");
+            if (parts.length > 1) {
+                int endIndex = parts[1].indexOf('"');
+                if (endIndex > 0) {
+                    return parts[1].substring(0, endIndex);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Serializa a resposta do API Gateway uma única vez (mesmos headers CORS do handler POJO)
+     */
+    private static byte[] serializeResponse(String body) {
+        String json = "{\"statusCode\":200,"
+                + "\"headers\":{"
+                + "\"Content-Type\":\"text/plain\","
+                + "\"Access-Control-Allow-Origin\":\"*\","
+                + "\"Access-Control-Allow-Methods\":\"GET, POST, PUT, DELETE, OPTIONS\","
+                + "\"Access-Control-Allow-Headers\":\"Content-Type, Authorization, X-Token\"},"
+                + "\"body\":\"" + body + "\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,65 +1,95 @@
 package io.github.bapadua.lambda.handler;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.logging.LogLevel;
 
 import io.github.bapadua.lambda.service.JwtLambdaService;
 
 /**
  * Handler para validação JWT via API Gateway - Retorna apenas true/false
+ * 
+ * As respostas (true, false, erro e OPTIONS) são pré-computadas e compartilhadas entre invocações,
+ * com headers em mapas imutáveis: nenhuma delas deve ser alterada após a criação.
+ * Logs por invocação só são gerados quando AWS_LAMBDA_LOG_LEVEL é DEBUG ou TRACE.
+ * 
+ * Eventos de warm-up (sem httpMethod, headers e body, como regras agendadas do EventBridge
+ * ou warmers de provisioned concurrency) são respondidos imediatamente, sem extração de token. No primeiro
+ * warm-up da instância são executadas JWT_WARMUP_VALIDATIONS validações sintéticas (padrão 0).
  */
 public class ApiGatewayJwtValidationHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
     
+    // Headers CORS
+    private static final Map<String, String> RESPONSE_HEADERS = Map.of(
+            "Content-Type", "text/plain",
+            "Access-Control-Allow-Origin", "*",
+            "Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS",
+            "Access-Control-Allow-Headers", "Content-Type, Authorization, X-Token");
+    
+    // Headers CORS para erro também
+    private static final Map<String, String> ERROR_HEADERS = Map.of(
+            "Content-Type", "text/plain",
+            "Access-Control-Allow-Origin", "*");
+    
+    private static final Map<String, String> OPTIONS_HEADERS = Map.of(
+            "Access-Control-Allow-Origin", "*",
+            "Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS",
+            "Access-Control-Allow-Headers", "Content-Type, Authorization, X-Token",
+            "Access-Control-Max-Age", "86400");
+    
+    private static final Map<String, String> WARM_UP_HEADERS = Map.of("Content-Type", "text/plain");
+    
+    private static final APIGatewayProxyResponseEvent TRUE_RESPONSE = response("true", RESPONSE_HEADERS);
+    private static final APIGatewayProxyResponseEvent FALSE_RESPONSE = response("false", RESPONSE_HEADERS);
+    // Mesmo erro retorna 200 mas false
+    private static final APIGatewayProxyResponseEvent ERROR_RESPONSE = response("false", ERROR_HEADERS);
+    private static final APIGatewayProxyResponseEvent OPTIONS_RESPONSE = response("", OPTIONS_HEADERS);
+    private static final APIGatewayProxyResponseEvent WARM_UP_RESPONSE = response("warmup", WARM_UP_HEADERS);
+    
+    private static final boolean DEBUG_ENABLED = isDebugEnabled(System.getenv("AWS_LAMBDA_LOG_LEVEL"));
+    
     private final JwtLambdaService jwtLambdaService;
+    private final int warmUpValidations;
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
     
     public ApiGatewayJwtValidationHandler() {
-        this.jwtLambdaService = new JwtLambdaService();
+        this(new JwtLambdaService(), parseWarmUpValidations(System.getenv("JWT_WARMUP_VALIDATIONS")));
+    }
+    
+    public ApiGatewayJwtValidationHandler(JwtLambdaService jwtLambdaService, int warmUpValidations) {
+        this.jwtLambdaService = jwtLambdaService;
+        this.warmUpValidations = warmUpValidations;
     }
     
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
-        context.getLogger().log("Recebido evento do API Gateway: " + input.getHttpMethod() + " " + input.getPath());
+        if (isWarmUpEvent(input)) {
+            return handleWarmUp(context);
+        }
+        
+        if (DEBUG_ENABLED) {
+            context.getLogger().log("Recebido evento do API Gateway: " + input.getHttpMethod() + " " + input.getPath(), LogLevel.DEBUG);
+        }
         
         try {
             // Valida o JWT e retorna apenas true/false
             boolean isValid = jwtLambdaService.validateJwtFromApiGateway(input);
             
-            // Cria response do API Gateway
-            APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
-            response.setStatusCode(200);
-            response.setBody(String.valueOf(isValid));
-            
-            // Headers CORS
-            Map<String, String> headers = new HashMap<>();
-            headers.put("Content-Type", "text/plain");
-            headers.put("Access-Control-Allow-Origin", "*");
-            headers.put("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-            headers.put("Access-Control-Allow-Headers", "Content-Type, Authorization, X-Token");
-            response.setHeaders(headers);
+            if (DEBUG_ENABLED) {
+                context.getLogger().log("Response enviado: " + isValid, LogLevel.DEBUG);
+            }
             
-            context.getLogger().log("Response enviado: " + isValid);
-            
-            return response;
+            return isValid ? TRUE_RESPONSE : FALSE_RESPONSE;
             
         } catch (Exception e) {
-            context.getLogger().log("Erro durante processamento: " + e.getMessage());
-            
-            APIGatewayProxyResponseEvent errorResponse = new APIGatewayProxyResponseEvent();
-            errorResponse.setStatusCode(200); // Mesmo erro retorna 200 mas false
-            errorResponse.setBody("false");
+            context.getLogger().log("Erro durante processamento: " + e.getMessage(), LogLevel.ERROR);
             
-            // Headers CORS para erro também
-            Map<String, String> errorHeaders = new HashMap<>();
-            errorHeaders.put("Content-Type", "text/plain");
-            errorHeaders.put("Access-Control-Allow-Origin", "*");
-            errorResponse.setHeaders(errorHeaders);
-            
-            return errorResponse;
+            return ERROR_RESPONSE;
         }
     }
     
@@ -67,17 +97,53 @@ public class ApiGatewayJwtValidationHandler implements RequestHandler<APIGateway
      * Método para lidar com OPTIONS (CORS preflight)
      */
     public APIGatewayProxyResponseEvent handleOptions(Context context) {
+        return OPTIONS_RESPONSE;
+    }
+    
+    /**
+     * Responde ao warm-up; as validações sintéticas rodam apenas uma vez por instância
+     */
+    private APIGatewayProxyResponseEvent handleWarmUp(Context context) {
+        if (warmUpValidations > 0 && warmedUp.compareAndSet(false, true)) {
+            long start = System.nanoTime();
+            int executed = jwtLambdaService.warmUp(warmUpValidations);
+            
+            if (DEBUG_ENABLED) {
+                context.getLogger().log(String.format("Warm-up: %d validações sintéticas em %d ms",
+                        executed, (System.nanoTime() - start) / 1_000_000), LogLevel.DEBUG);
+            }
+        }
+        return WARM_UP_RESPONSE;
+    }
+    
+    /**
+     * Requisições HTTP sempre trazem httpMethod (API Gateway) ou headers (Function URL, payload 2.0)
+     */
+    static boolean isWarmUpEvent(APIGatewayProxyRequestEvent input) {
+        return input == null
+                || (input.getHttpMethod() == null && input.getHeaders() == null && input.getBody() == null);
+    }
+    
+    static int parseWarmUpValidations(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    static boolean isDebugEnabled(String logLevel) {
+        return "DEBUG".equalsIgnoreCase(logLevel) || "TRACE".equalsIgnoreCase(logLevel);
+    }
+    
+    private static APIGatewayProxyResponseEvent response(String body, Map<String, String> headers) {
         APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
         response.setStatusCode(200);
-        response.setBody("");
-        
-        Map<String, String> headers = new HashMap<>();
-        headers.put("Access-Control-Allow-Origin", "*");
-        headers.put("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-        headers.put("Access-Control-Allow-Headers", "Content-Type, Authorization, X-Token");
-        headers.put("Access-Control-Max-Age", "86400");
+        response.setBody(body);
         response.setHeaders(headers);
-        
         return response;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package io.github.bapadua.lambda.handler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.KinesisEvent;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+
+import io.github.bapadua.lambda.service.JwtBatchValidationService;
+import io.github.bapadua.lambda.service.JwtLambdaService;
+
+/**
+ * Handler para validação JWT de registros Kinesis em lote
+ * 
+ * O dado de cada registro (UTF-8) é o token ou um JSON com a propriedade "token".
+ * Registros com token inválido são apenas registrados no log: o veredito não muda numa nova
+ * tentativa. Só registros cujo processamento lançou exceção vão para batchItemFailures pelo
+ * sequence number; o Lambda retoma o shard a partir do menor sequence number com falha.
+ * 
+ * Requer ReportBatchItemFailures habilitado no event source mapping.
+ * 
+ * Handler: io.github.bapadua.lambda.handler.KinesisJwtValidationHandler::handleRequest
+ */
+public class KinesisJwtValidationHandler implements RequestHandler<KinesisEvent, StreamsEventResponse> {
+    
+    private final JwtBatchValidationService batchValidationService;
+    
+    public KinesisJwtValidationHandler() {
+        this(new JwtBatchValidationService(new JwtLambdaService()));
+    }
+    
+    public KinesisJwtValidationHandler(JwtBatchValidationService batchValidationService) {
+        this.batchValidationService = batchValidationService;
+    }
+    
+    @Override
+    public StreamsEventResponse handleRequest(KinesisEvent event, Context context) {
+        List<KinesisEvent.KinesisEventRecord> records = event.getRecords();
+        
+        JwtBatchValidationService.BatchResult result = batchValidationService.validate(
+                records,
+                record -> record.getKinesis().getSequenceNumber(),
+                record -> decode(record.getKinesis().getData()));
+        
+        context.getLogger().log(String.format("Lote Kinesis processado: %d registros, %d com token inválido, %d falhas",
+                result.records(), result.invalidItems().size(), result.failedItems().size()));
+        if (!result.invalidItems().isEmpty()) {
+            context.getLogger().log("Registros Kinesis com token inválido (sequence numbers): " + result.invalidItems());
+        }
+        
+        return new StreamsEventResponse(result.failedItems().stream()
+                .map(StreamsEventResponse.BatchItemFailure::new)
+                .toList());
+    }
+    
+    private static String decode(ByteBuffer data) {
+        return data == null ? null : StandardCharsets.UTF_8.decode(data.duplicate()).toString();
+    }
+}
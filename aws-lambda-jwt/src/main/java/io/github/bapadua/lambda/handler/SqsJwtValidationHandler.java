@@ -0,0 +1,54 @@
+package io.github.bapadua.lambda.handler;
+
+import java.util.List;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+
+import io.github.bapadua.lambda.service.JwtBatchValidationService;
+import io.github.bapadua.lambda.service.JwtLambdaService;
+
+/**
+ * Handler para validação JWT de mensagens SQS em lote
+ * 
+ * O body de cada mensagem é o token (com ou sem "Bearer ") ou um JSON com a propriedade "token".
+ * Mensagens com token inválido são consumidas e apenas registradas no log: repeti-las até a DLQ
+ * não muda o veredito. Só mensagens cujo processamento lançou exceção são reportadas em
+ * batchItemFailures e voltam para a fila, sem reprocessar o lote inteiro.
+ * 
+ * Requer ReportBatchItemFailures habilitado no event source mapping.
+ * 
+ * Handler: io.github.bapadua.lambda.handler.SqsJwtValidationHandler::handleRequest
+ */
+public class SqsJwtValidationHandler implements RequestHandler<SQSEvent, SQSBatchResponse> {
+    
+    private final JwtBatchValidationService batchValidationService;
+    
+    public SqsJwtValidationHandler() {
+        this(new JwtBatchValidationService(new JwtLambdaService()));
+    }
+    
+    public SqsJwtValidationHandler(JwtBatchValidationService batchValidationService) {
+        this.batchValidationService = batchValidationService;
+    }
+    
+    @Override
+    public SQSBatchResponse handleRequest(SQSEvent event, Context context) {
+        List<SQSEvent.SQSMessage> records = event.getRecords();
+        
+        JwtBatchValidationService.BatchResult result = batchValidationService.validate(
+                records, SQSEvent.SQSMessage::getMessageId, SQSEvent.SQSMessage::getBody);
+        
+        context.getLogger().log(String.format("Lote SQS processado: %d mensagens, %d com token inválido, %d falhas",
+                result.records(), result.invalidItems().size(), result.failedItems().size()));
+        if (!result.invalidItems().isEmpty()) {
+            context.getLogger().log("Mensagens SQS com token inválido (message ids): " + result.invalidItems());
+        }
+        
+        return new SQSBatchResponse(result.failedItems().stream()
+                .map(SQSBatchResponse.BatchItemFailure::new)
+                .toList());
+    }
+}
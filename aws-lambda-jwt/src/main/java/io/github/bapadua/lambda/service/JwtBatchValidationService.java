@@ -0,0 +1,84 @@
+package io.github.bapadua.lambda.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Serviço de validação em lote para eventos de fila/stream (SQS, Kinesis)
+ * 
+ * Os registros são validados em paralelo e o resultado separa os identificadores em:
+ * - inválidos: token ausente ou recusado, um veredito definitivo que nova tentativa não muda;
+ * - falhas: o processamento do registro lançou exceção (leitura do payload, erro inesperado).
+ * 
+ * Só as falhas vão para a resposta de falhas parciais do lote: reportar inválidos faria o
+ * Kinesis reentregar o shard a partir deles até o registro expirar, e o SQS repetir a
+ * mensagem até a DLQ.
+ */
+public class JwtBatchValidationService {
+    
+    private final JwtLambdaService jwtLambdaService;
+    private final ExecutorService executor;
+    
+    public JwtBatchValidationService(JwtLambdaService jwtLambdaService) {
+        this(jwtLambdaService, Runtime.getRuntime().availableProcessors());
+    }
+    
+    public JwtBatchValidationService(JwtLambdaService jwtLambdaService, int parallelism) {
+        this.jwtLambdaService = jwtLambdaService;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), daemonThreadFactory());
+    }
+    
+    /**
+     * Resultado do lote; os identificadores seguem a ordem dos registros
+     * @param invalidItems registros com token ausente ou inválido (não devem ser reprocessados)
+     * @param failedItems registros cujo processamento lançou exceção (reprocessáveis)
+     */
+    public record BatchResult(int records, List<String> invalidItems, List<String> failedItems) {
+        
+        static final BatchResult EMPTY = new BatchResult(0, List.of(), List.of());
+    }
+    
+    /**
+     * Valida o payload de cada registro, separando tokens inválidos de falhas de processamento
+     */
+    public <R> BatchResult validate(List<R> records, Function<R, String> itemIdentifier,
+                                    Function<R, String> payload) {
+        if (records == null || records.isEmpty()) {
+            return BatchResult.EMPTY;
+        }
+        
+        List<CompletableFuture<Boolean>> validations = new ArrayList<>(records.size());
+        for (R record : records) {
+            validations.add(CompletableFuture.supplyAsync(
+                    () -> jwtLambdaService.validateMessage(payload.apply(record)), executor));
+        }
+        
+        List<String> invalidItems = new ArrayList<>();
+        List<String> failedItems = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                if (!validations.get(i).join()) {
+                    invalidItems.add(itemIdentifier.apply(records.get(i)));
+                }
+            } catch (Exception e) {
+                failedItems.add(itemIdentifier.apply(records.get(i)));
+            }
+        }
+        return new BatchResult(records.size(), invalidItems, failedItems);
+    }
+    
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "jwt-batch-validation-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
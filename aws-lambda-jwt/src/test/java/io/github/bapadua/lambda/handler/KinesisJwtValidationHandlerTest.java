@@ -0,0 +1,57 @@
+package io.github.bapadua.lambda.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.lambda.runtime.events.KinesisEvent;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+
+import io.github.bapadua.lambda.service.JwtBatchValidationService;
+import io.github.bapadua.lambda.service.JwtLambdaService;
+
+/**
+ * Testes unitários para KinesisJwtValidationHandler
+ */
+class KinesisJwtValidationHandlerTest {
+
+    private static final String JSON_PAYLOAD_SEQUENCE_NUMBER = "49590338271490256608559692540925702759324208523137515618";
+
+    @Test
+    @DisplayName("Registro com token inválido não deve ser reportado, para não travar o shard")
+    void testInvalidRecordDoesNotBlockShard() throws Exception {
+        KinesisEvent event = LambdaEventFixtures.load("kinesis-event.json", KinesisEvent.class);
+        assertEquals(2, event.getRecords().size());
+
+        StreamsEventResponse response = new KinesisJwtValidationHandler().handleRequest(event, new TestContext());
+
+        assertTrue(response.getBatchItemFailures().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reportar o sequence number dos registros cujo processamento lançou exceção")
+    void testReportsProcessingFailuresBySequenceNumber() throws Exception {
+        KinesisEvent event = LambdaEventFixtures.load("kinesis-event.json", KinesisEvent.class);
+        JwtLambdaService failingService = new JwtLambdaService() {
+            @Override
+            public boolean validateMessage(String payload) {
+                if (payload.startsWith("{")) {
+                    throw new IllegalStateException("falha inesperada");
+                }
+                return super.validateMessage(payload);
+            }
+        };
+        KinesisJwtValidationHandler handler = new KinesisJwtValidationHandler(new JwtBatchValidationService(failingService));
+
+        StreamsEventResponse response = handler.handleRequest(event, new TestContext());
+
+        List<String> failedSequenceNumbers = response.getBatchItemFailures().stream()
+                .map(StreamsEventResponse.BatchItemFailure::getItemIdentifier)
+                .toList();
+        assertEquals(List.of(JSON_PAYLOAD_SEQUENCE_NUMBER), failedSequenceNumbers);
+    }
+}
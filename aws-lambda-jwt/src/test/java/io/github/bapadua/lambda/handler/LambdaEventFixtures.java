@@ -0,0 +1,59 @@
+package io.github.bapadua.lambda.handler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Carrega eventos capturados em src/test/resources/events
+ * (chaves como "Records" e "eventSourceARN" e datas em segundos epoch seguem o formato enviado pelo Lambda)
+ */
+final class LambdaEventFixtures {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new SimpleModule().addDeserializer(Date.class, new EpochSecondsDateDeserializer()))
+            .build();
+
+    private LambdaEventFixtures() {
+    }
+
+    static <T> T load(String name, Class<T> type) throws IOException {
+        try (InputStream input = LambdaEventFixtures.class.getResourceAsStream("/events/" + name)) {
+            if (input == null) {
+                throw new IOException("Fixture não encontrada: " + name);
+            }
+            return OBJECT_MAPPER.readValue(input, type);
+        }
+    }
+
+    /**
+     * Bytes do evento como recebidos pelos handlers de stream
+     */
+    static byte[] bytes(String name) throws IOException {
+        try (InputStream input = LambdaEventFixtures.class.getResourceAsStream("/events/" + name)) {
+            if (input == null) {
+                throw new IOException("Fixture não encontrada: " + name);
+            }
+            return input.readAllBytes();
+        }
+    }
+
+    private static final class EpochSecondsDateDeserializer extends JsonDeserializer<Date> {
+
+        @Override
+        public Date deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return new Date((long) (parser.getDoubleValue() * 1000));
+        }
+    }
+}
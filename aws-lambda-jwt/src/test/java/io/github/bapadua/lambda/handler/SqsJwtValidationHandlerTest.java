@@ -0,0 +1,73 @@
+package io.github.bapadua.lambda.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+
+import io.github.bapadua.lambda.service.JwtBatchValidationService;
+import io.github.bapadua.lambda.service.JwtLambdaService;
+
+/**
+ * Testes unitários para SqsJwtValidationHandler
+ */
+class SqsJwtValidationHandlerTest {
+
+    private final SqsJwtValidationHandler handler = new SqsJwtValidationHandler();
+
+    @Test
+    @DisplayName("Mensagens com token inválido devem ser consumidas, sem voltar para a fila")
+    void testInvalidMessagesAreNotRetried() throws Exception {
+        SQSEvent event = LambdaEventFixtures.load("sqs-event.json", SQSEvent.class);
+        assertEquals(4, event.getRecords().size());
+
+        JwtBatchValidationService.BatchResult result = new JwtBatchValidationService(new JwtLambdaService())
+                .validate(event.getRecords(), SQSEvent.SQSMessage::getMessageId, SQSEvent.SQSMessage::getBody);
+        assertEquals(List.of("6a1b2c3d-0000-4f5e-9a8b-7c6d5e4f3a2b", "8f7e6d5c-1111-4a2b-8c3d-4e5f6a7b8c9d"), result.invalidItems());
+        assertTrue(result.failedItems().isEmpty());
+
+        SQSBatchResponse response = handler.handleRequest(event, new TestContext());
+
+        assertTrue(response.getBatchItemFailures().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reportar apenas as mensagens cujo processamento lançou exceção como falhas do lote")
+    void testReportsOnlyProcessingFailures() throws Exception {
+        SQSEvent event = LambdaEventFixtures.load("sqs-event.json", SQSEvent.class);
+        JwtLambdaService failingService = new JwtLambdaService() {
+            @Override
+            public boolean validateMessage(String payload) {
+                if (payload.startsWith("{")) {
+                    throw new IllegalStateException("falha inesperada");
+                }
+                return super.validateMessage(payload);
+            }
+        };
+        SqsJwtValidationHandler failingHandler = new SqsJwtValidationHandler(new JwtBatchValidationService(failingService));
+
+        SQSBatchResponse response = failingHandler.handleRequest(event, new TestContext());
+
+        List<String> failedIds = response.getBatchItemFailures().stream()
+                .map(SQSBatchResponse.BatchItemFailure::getItemIdentifier)
+                .toList();
+        assertEquals(List.of("2e1424d4-f796-459a-8184-9c92662be6da"), failedIds);
+    }
+
+    @Test
+    @DisplayName("Lote vazio não deve gerar falhas")
+    void testEmptyBatch() {
+        SQSEvent event = new SQSEvent();
+        event.setRecords(List.of());
+
+        SQSBatchResponse response = handler.handleRequest(event, new TestContext());
+
+        assertTrue(response.getBatchItemFailures().isEmpty());
+    }
+}
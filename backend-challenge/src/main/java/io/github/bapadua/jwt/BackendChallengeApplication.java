@@ -2,12 +2,12 @@ package io.github.bapadua.jwt;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
 
-@SpringBootApplication
-@ComponentScan(basePackages = {
-	"io.github.bapadua.jwt",           // Pacotes da aplicação principal
-	"io.github.bapadua.jwt.lib"        // Pacotes da biblioteca JWT
+// A biblioteca JWT (io.github.bapadua.jwt.lib) entra pela auto-configuração; a varredura
+// fica restrita aos pacotes da aplicação para não percorrer o jar da biblioteca
+@SpringBootApplication(scanBasePackages = {
+	"io.github.bapadua.jwt.presentation",
+	"io.github.bapadua.jwt.infrastructure"
 })
 public class BackendChallengeApplication {
 
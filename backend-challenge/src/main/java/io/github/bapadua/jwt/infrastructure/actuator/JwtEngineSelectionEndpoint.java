@@ -0,0 +1,72 @@
+package io.github.bapadua.jwt.infrastructure.actuator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import io.github.bapadua.jwt.lib.engine.SwitchableEngine;
+
+/**
+ * Endpoint /actuator/jwtengines: troca a engine de uma etapa sem reinício
+ * 
+ * Operação de escrita sem autenticação, por isso só existe com o Actuator em porta própria
+ * (management.server.port), fora da porta pública da aplicação. Na mesma porta o bean nem
+ * é registrado e as engines só mudam pela configuração.
+ * 
+ * Exemplo: POST {"engine": "primeNumberValidator", "primary": "admissionControlledPrimeNumberValidator",
+ * "candidate": "bailliePswPrimeNumberValidator", "sampleRate": 0.05}. Só são aceitas as engines de
+ * jwt.validation.engines.*.runtime-selectable.
+ */
+@Component
+@ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+@Endpoint(id = "jwtengines")
+public class JwtEngineSelectionEndpoint {
+    
+    private final Map<String, SwitchableEngine<?>> switchableEngines = new LinkedHashMap<>();
+    private final JwtValidationEndpoint validationEndpoint;
+    
+    public JwtEngineSelectionEndpoint(List<SwitchableEngine<?>> switchableEngines,
+                                      JwtValidationEndpoint validationEndpoint) {
+        switchableEngines.forEach(engine -> this.switchableEngines.put(engine.getRole(), engine));
+        this.validationEndpoint = validationEndpoint;
+    }
+    
+    @ReadOperation
+    public Map<String, Object> engines() {
+        return validationEndpoint.engines();
+    }
+    
+    /**
+     * Troca a primária e a candidata de uma etapa
+     * 
+     * @param engine etapa: claimsExtractor, claimsValidator ou primeNumberValidator
+     * @param primary nome do bean que passa a responder
+     * @param candidate nome do bean avaliado em modo sombra; ausente desliga o modo sombra
+     * @param sampleRate fração das chamadas avaliadas pela candidata; ausente mantém a atual
+     * @return a seção engines atualizada
+     */
+    @WriteOperation
+    public Map<String, Object> selectEngine(String engine, String primary, @Nullable String candidate,
+                                            @Nullable Double sampleRate) {
+        SwitchableEngine<?> target = switchableEngines.get(engine);
+        if (target == null) {
+            String message = "Etapa desconhecida: " + engine + ". Disponíveis: " + switchableEngines.keySet();
+            throw new InvalidEndpointRequestException(message, message);
+        }
+        try {
+            target.selectAtRuntime(primary, candidate, sampleRate != null ? sampleRate : target.getSampleRate());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return validationEndpoint.engines();
+    }
+}
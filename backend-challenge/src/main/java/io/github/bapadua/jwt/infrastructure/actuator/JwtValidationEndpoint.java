@@ -0,0 +1,214 @@
+package io.github.bapadua.jwt.infrastructure.actuator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.github.bapadua.jwt.lib.engine.ShadowComparison;
+import io.github.bapadua.jwt.lib.engine.ShadowEvaluator;
+import io.github.bapadua.jwt.lib.engine.SwitchableEngine;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.TokenRevocationList;
+import io.github.bapadua.jwt.lib.service.impl.AdmissionControlledPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.BloomFilterTokenRevocationList;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics.SeedSize;
+import io.github.bapadua.jwt.lib.stats.RollingLatency;
+import io.github.bapadua.jwt.lib.stats.ValidationStage;
+import io.github.bapadua.jwt.lib.web.RequestScopedValidationMemo;
+
+/**
+ * Endpoint /actuator/jwtvalidation com as estatísticas da validação em tempo real
+ * 
+ * - stages: vazão e percentis de latência por etapa na janela deslizante (~60 s)
+ * - reasons: distribuição dos motivos desde o início do processo
+ * - caches: memo por request, coalescência e filtro de Bloom da revogação
+ * - primeCheck: custo por faixa de tamanho da Seed e controle de admissão
+ * - engines: implementações ativas de cada etapa e comparação da candidata em modo sombra
+ * 
+ * Só lê LongAdders e contadores já existentes; nada é bloqueado no caminho do request.
+ * 
+ * Somente leitura: a troca de engines fica no JwtEngineSelectionEndpoint, registrado apenas
+ * com o Actuator em porta própria.
+ */
+@Component
+@Endpoint(id = "jwtvalidation")
+public class JwtValidationEndpoint {
+    
+    private final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
+    
+    private final JwtValidationService validationService;
+    private final Map<String, SwitchableEngine<?>> switchableEngines = new LinkedHashMap<>();
+    private final ShadowEvaluator shadowEvaluator;
+    private final TokenRevocationList revocationList;
+    private final RequestScopedValidationMemo validationMemo;
+    private final InFlightValidationCoalescer validationCoalescer;
+    
+    public JwtValidationEndpoint(JwtValidationService validationService,
+                                 List<SwitchableEngine<?>> switchableEngines,
+                                 ShadowEvaluator shadowEvaluator,
+                                 TokenRevocationList revocationList,
+                                 RequestScopedValidationMemo validationMemo,
+                                 InFlightValidationCoalescer validationCoalescer) {
+        this.validationService = validationService;
+        switchableEngines.forEach(engine -> this.switchableEngines.put(engine.getRole(), engine));
+        this.shadowEvaluator = shadowEvaluator;
+        this.revocationList = revocationList;
+        this.validationMemo = validationMemo;
+        this.validationCoalescer = validationCoalescer;
+    }
+    
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("stages", stages());
+        body.put("reasons", reasons());
+        body.put("caches", caches());
+        body.put("primeCheck", primeCheck());
+        body.put("engines", engines());
+        return body;
+    }
+    
+    private Map<String, Object> stages() {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (ValidationStage stage : ValidationStage.values()) {
+            RollingLatency.Snapshot snapshot = statistics.getStage(stage);
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("total", snapshot.getTotal());
+            details.put("windowSeconds", snapshot.getWindowSeconds());
+            details.put("windowCount", snapshot.getCount());
+            details.put("throughputPerSecond", round(snapshot.getThroughputPerSecond()));
+            details.put("meanMicros", round(snapshot.getMeanMicros()));
+            details.put("p50Micros", round(snapshot.getPercentileMicros(50)));
+            details.put("p90Micros", round(snapshot.getPercentileMicros(90)));
+            details.put("p99Micros", round(snapshot.getPercentileMicros(99)));
+            details.put("p999Micros", round(snapshot.getPercentileMicros(99.9)));
+            details.put("maxMicros", round(snapshot.getMaxMicros()));
+            stages.put(stage.name(), details);
+        }
+        return stages;
+    }
+    
+    private Map<String, Long> reasons() {
+        Map<String, Long> reasons = new LinkedHashMap<>();
+        statistics.getReasonCounts().forEach((reason, count) -> reasons.put(reason.name(), count));
+        return reasons;
+    }
+    
+    private Map<String, Object> caches() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        
+        long validations = validationMemo.getValidations();
+        long duplicatesAvoided = validationMemo.getDuplicateValidationsAvoided();
+        caches.put("requestMemo", Map.of(
+                "validations", validations,
+                "duplicatesAvoided", duplicatesAvoided,
+                "hitRatio", ratio(duplicatesAvoided, validations + duplicatesAvoided)));
+        
+        caches.put("coalescing", Map.of(
+                "leaders", validationCoalescer.getLeaders(),
+                "coalesced", validationCoalescer.getCoalesced(),
+                "fallbacks", validationCoalescer.getFallbacks(),
+                "inFlight", validationCoalescer.getInFlight(),
+                "hitRatio", round(validationCoalescer.getCoalescingRatio())));
+        
+        if (revocationList instanceof BloomFilterTokenRevocationList bloom) {
+            Map<String, Object> revocation = new LinkedHashMap<>();
+            revocation.put("enabled", bloom.isEnabled());
+            revocation.put("revokedTokens", bloom.getRevokedTokens());
+            revocation.put("lookups", bloom.getLookups());
+            revocation.put("bloomPositives", bloom.getBloomPositives());
+            revocation.put("confirmedRevocations", bloom.getConfirmedRevocations());
+            revocation.put("falsePositiveRate", bloom.getFalsePositiveRate());
+            revocation.put("expectedFalsePositiveRate", bloom.getExpectedFalsePositiveRate());
+            caches.put("revocationBloomFilter", revocation);
+        }
+        return caches;
+    }
+    
+    private Map<String, Object> primeCheck() {
+        Map<String, Object> primeCheck = new LinkedHashMap<>();
+        
+        Map<String, Object> costs = new LinkedHashMap<>();
+        for (SeedSize size : SeedSize.values()) {
+            costs.put(size.name(), Map.of(
+                    "checks", statistics.getPrimeChecks(size),
+                    "meanMicros", round(statistics.getPrimeCheckMeanMicros(size))));
+        }
+        primeCheck.put("costBySeedSize", costs);
+        
+        // Contadores da admissão mesmo quando ela não é a primária, para acompanhar a avaliação sombra
+        SwitchableEngine<?> primeNumberValidators = switchableEngines.get("primeNumberValidator");
+        if (primeNumberValidators != null) {
+            primeNumberValidators.getEngines().values().stream()
+                    .filter(AdmissionControlledPrimeNumberValidator.class::isInstance)
+                    .map(AdmissionControlledPrimeNumberValidator.class::cast)
+                    .findFirst()
+                    .ifPresent(admission -> primeCheck.put("admission", Map.of(
+                            "inline", admission.getInlineChecks(),
+                            "offloaded", admission.getOffloadedChecks(),
+                            "rejected", admission.getRejectedChecks(),
+                            "timedOut", admission.getTimedOutChecks(),
+                            "queueSize", admission.getQueueSize())));
+        }
+        return primeCheck;
+    }
+    
+    /**
+     * Seção engines, também devolvida pelo JwtEngineSelectionEndpoint após uma troca
+     */
+    Map<String, Object> engines() {
+        Map<String, Object> engines = new LinkedHashMap<>();
+        engines.put("validationService", className(validationService));
+        switchableEngines.forEach((role, engine) -> engines.put(role, selection(engine)));
+        engines.put("revocationList", className(revocationList));
+        engines.put("shadowQueueSize", shadowEvaluator.getQueueSize());
+        return engines;
+    }
+    
+    private static Map<String, Object> selection(SwitchableEngine<?> engine) {
+        Map<String, Object> selection = new LinkedHashMap<>();
+        selection.put("primary", engine.getPrimaryName());
+        selection.put("candidate", engine.getCandidateName());
+        selection.put("sampleRate", engine.getSampleRate());
+        selection.put("runtimeSelectable", engine.getRuntimeSelectable());
+        
+        Map<String, String> available = new LinkedHashMap<>();
+        engine.getEngines().forEach((name, bean) -> available.put(name, className(bean)));
+        selection.put("available", available);
+        
+        if (engine.getCandidateName() != null) {
+            ShadowComparison comparison = engine.getComparison();
+            Map<String, Object> shadow = new LinkedHashMap<>();
+            shadow.put("sampled", comparison.getSampled());
+            shadow.put("dropped", comparison.getDropped());
+            shadow.put("compared", comparison.getCompared());
+            shadow.put("mismatches", comparison.getMismatches());
+            shadow.put("failures", comparison.getFailures());
+            shadow.put("mismatchRate", round(comparison.getMismatchRate()));
+            shadow.put("meanPrimaryMicros", round(comparison.getMeanPrimaryMicros()));
+            shadow.put("meanCandidateMicros", round(comparison.getMeanCandidateMicros()));
+            shadow.put("meanLatencyDeltaMicros", round(comparison.getMeanLatencyDeltaMicros()));
+            selection.put("shadow", shadow);
+        }
+        return selection;
+    }
+    
+    private static String className(Object bean) {
+        return ClassUtils.getUserClass(bean).getName();
+    }
+    
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : round((double) part / total);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
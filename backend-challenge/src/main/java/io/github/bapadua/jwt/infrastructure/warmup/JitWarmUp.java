@@ -0,0 +1,332 @@
+package io.github.bapadua.jwt.infrastructure.warmup;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.github.bapadua.jwt.generator.SyntheticToken;
+import io.github.bapadua.jwt.generator.SyntheticTokenGenerator;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.web.RequestScopedValidationMemo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Aquecimento do JIT antes de liberar a readiness
+ *
+ * Assim que o servidor web sobe, uma thread daemon envia uma carga sintética
+ * (jwt-token-generator) por dois caminhos:
+ * - direto no JwtValidationService;
+ * - requests HTTP locais aos endpoints @ValidateJwt (MVC + aspecto + controller).
+ *
+ * O aquecimento termina quando o tempo de compilação do JIT numa janela fica abaixo do limite
+ * configurado (após a duração mínima) ou ao atingir a duração máxima. Enquanto isso, o
+ * JitWarmUpHealthIndicator mantém o grupo de readiness fora de serviço. Ao terminar, as
+ * estatísticas de validação (etapas, motivos), o memo por request e a coalescência são
+ * zerados antes de liberar a readiness, para que o /actuator/jwtvalidation só mostre tráfego real.
+ *
+ * Com jwt.warmup.exit-on-completion=true a aplicação encerra ao fim do aquecimento: é o
+ * training run do perfil Maven cds, que grava no arquivo AppCDS as classes carregadas
+ * (Spring, Tomcat, biblioteca) ao sair da JVM.
+ */
+@Component
+public class JitWarmUp {
+
+    private static final Logger logger = LoggerFactory.getLogger(JitWarmUp.class);
+
+    private static final String APPLICATION_LOGGER = "io.github.bapadua.jwt";
+
+    private static final int TOKEN_POOL_SIZE = 1024;
+    private static final int SERVICE_VALIDATIONS_PER_ROUND = 200;
+    private static final int HTTP_REQUESTS_PER_ROUND = 20;
+
+    /**
+     * Fases do aquecimento
+     */
+    public enum State {
+        PENDING, RUNNING, COMPLETED, FAILED, DISABLED
+    }
+
+    private final WarmUpProperties properties;
+    private final JwtValidationService validationService;
+    private final RequestScopedValidationMemo validationMemo;
+    private final InFlightValidationCoalescer validationCoalescer;
+    private final LoggingSystem loggingSystem;
+
+    private volatile State state;
+    private volatile String stopCondition;
+    private volatile String failure;
+    private volatile long durationNanos;
+    private volatile long serviceValidations;
+    private volatile long httpRequests;
+    private volatile long compilationMillis;
+    private volatile double firstRoundLatencyMicros = Double.NaN;
+    private volatile double lastRoundLatencyMicros = Double.NaN;
+
+    public JitWarmUp(WarmUpProperties properties, JwtValidationService validationService,
+                     RequestScopedValidationMemo validationMemo, InFlightValidationCoalescer validationCoalescer,
+                     LoggingSystem loggingSystem, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.validationService = validationService;
+        this.validationMemo = validationMemo;
+        this.validationCoalescer = validationCoalescer;
+        this.loggingSystem = loggingSystem;
+        this.state = properties.isEnabled() ? State.PENDING : State.DISABLED;
+        registerMetrics(meterRegistry);
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        // Servidor de management em porta separada não dispara o aquecimento
+        if (event.getApplicationContext().getServerNamespace() != null || state != State.PENDING) {
+            return;
+        }
+
+        state = State.RUNNING;
+        URI baseUri = URI.create("http://localhost:" + event.getWebServer().getPort());
+        ApplicationContext context = event.getApplicationContext();
+        Thread warmUpThread = new Thread(() -> {
+            run(baseUri);
+            if (properties.isExitOnCompletion()) {
+                exit(context);
+            }
+        }, "jwt-jit-warmup");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    private void run(URI baseUri) {
+        logger.info("Aquecimento do JIT iniciado - readiness retida por até {}", properties.getMaxDuration());
+        LogLevel previousLevel = properties.isQuietLogging() ? silenceApplicationLogging() : null;
+
+        long start = System.nanoTime();
+        State outcome = State.FAILED;
+        try {
+            warmUp(baseUri, start);
+            outcome = State.COMPLETED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "interrompido";
+        } catch (IOException | RuntimeException e) {
+            failure = e.getMessage();
+        } finally {
+            durationNanos = System.nanoTime() - start;
+            if (properties.isQuietLogging()) {
+                loggingSystem.setLogLevel(APPLICATION_LOGGER, previousLevel);
+            }
+            // Readiness ainda retida: não há tráfego real para perder
+            resetValidationStatistics();
+            state = outcome;
+        }
+
+        if (outcome == State.COMPLETED) {
+            logger.info("Aquecimento do JIT concluído em {} ms ({}): {} validações, {} requests, {} ms de compilação, "
+                    + "latência HTTP {} us -> {} us",
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), stopCondition, serviceValidations, httpRequests,
+                    compilationMillis, Math.round(firstRoundLatencyMicros), Math.round(lastRoundLatencyMicros));
+        } else {
+            logger.warn("Aquecimento do JIT falhou após {} ms - liberando readiness: {}",
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), failure);
+        }
+    }
+
+    private void warmUp(URI baseUri, long start) throws IOException, InterruptedException {
+        String[] tokens = SyntheticTokenGenerator.builder()
+                .seed(properties.getSeed())
+                .build()
+                .stream()
+                .limit(TOKEN_POOL_SIZE)
+                .map(SyntheticToken::getToken)
+                .toArray(String[]::new);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean compilationMonitored = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long compilationStart = compilationMonitored ? compiler.getTotalCompilationTime() : 0;
+
+        long minNanos = properties.getMinDuration().toNanos();
+        long maxNanos = properties.getMaxDuration().toNanos();
+        long windowNanos = properties.getStabilityWindow().toNanos();
+        long stableCompilationMillis = properties.getStableCompilationTime().toMillis();
+
+        long windowStart = start;
+        long windowCompilation = compilationStart;
+        int next = 0;
+
+        while (true) {
+            for (int i = 0; i < SERVICE_VALIDATIONS_PER_ROUND; i++) {
+                validationService.validate(tokens[next++ & (TOKEN_POOL_SIZE - 1)]);
+            }
+            serviceValidations += SERVICE_VALIDATIONS_PER_ROUND;
+
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < HTTP_REQUESTS_PER_ROUND; i++) {
+                client.send(request(baseUri, i, tokens[next++ & (TOKEN_POOL_SIZE - 1)]), HttpResponse.BodyHandlers.discarding());
+            }
+            httpRequests += HTTP_REQUESTS_PER_ROUND;
+
+            double roundLatencyMicros = (System.nanoTime() - roundStart) / 1_000.0 / HTTP_REQUESTS_PER_ROUND;
+            if (Double.isNaN(firstRoundLatencyMicros)) {
+                firstRoundLatencyMicros = roundLatencyMicros;
+            }
+            lastRoundLatencyMicros = roundLatencyMicros;
+
+            long now = System.nanoTime();
+            if (compilationMonitored) {
+                compilationMillis = compiler.getTotalCompilationTime() - compilationStart;
+            }
+            if (now - start >= maxNanos) {
+                stopCondition = "duração máxima";
+                return;
+            }
+            if (now - windowStart < windowNanos) {
+                continue;
+            }
+
+            long compilation = compilationMonitored ? compiler.getTotalCompilationTime() : 0;
+            if (now - start >= minNanos && (!compilationMonitored || compilation - windowCompilation <= stableCompilationMillis)) {
+                stopCondition = compilationMonitored ? "compilação estável" : "duração mínima";
+                return;
+            }
+            windowStart = now;
+            windowCompilation = compilation;
+        }
+    }
+
+    private void resetValidationStatistics() {
+        JwtValidationStatistics.shared().reset();
+        validationMemo.resetCounters();
+        validationCoalescer.resetCounters();
+    }
+
+    /**
+     * Fecha o contexto e encerra a JVM; o código de saída indica se o aquecimento completou
+     */
+    private void exit(ApplicationContext context) {
+        logger.info("Encerrando a aplicação ao fim do aquecimento (jwt.warmup.exit-on-completion)");
+        int exitCode = SpringApplication.exit(context, () -> state == State.COMPLETED ? 0 : 1);
+        System.exit(exitCode);
+    }
+
+    /**
+     * Alterna entre os endpoints para cobrir header, query param, body e injeção de claims
+     */
+    private static HttpRequest request(URI baseUri, int index, String token) {
+        return switch (index & 3) {
+            case 0 -> HttpRequest.newBuilder(baseUri.resolve("/api/jwt/validate"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build();
+            case 1 -> HttpRequest.newBuilder(baseUri.resolve("/api/jwt/validate-param?jwt="
+                            + URLEncoder.encode(token, StandardCharsets.UTF_8)))
+                    .GET().build();
+            case 2 -> HttpRequest.newBuilder(baseUri.resolve("/api/jwt/validate-body"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"jwtToken\":\"" + token + "\"}"))
+                    .build();
+            default -> HttpRequest.newBuilder(baseUri.resolve("/api/jwt/claims"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build();
+        };
+    }
+
+    /**
+     * Desliga os logs da aplicação (validações sintéticas geram várias linhas cada)
+     * @return nível configurado antes do aquecimento, para restauração
+     */
+    private LogLevel silenceApplicationLogging() {
+        LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(APPLICATION_LOGGER);
+        LogLevel previousLevel = configuration != null ? configuration.getConfiguredLevel() : null;
+        loggingSystem.setLogLevel(APPLICATION_LOGGER, LogLevel.OFF);
+        return previousLevel;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        TimeGauge.builder("jwt.warmup.duration", this, TimeUnit.NANOSECONDS, warmUp -> warmUp.durationNanos)
+                .description("Duração do aquecimento do JIT")
+                .register(meterRegistry);
+        TimeGauge.builder("jwt.warmup.jit.compilation", this, TimeUnit.MILLISECONDS, warmUp -> warmUp.compilationMillis)
+                .description("Tempo gasto pelo JIT compilando durante o aquecimento")
+                .register(meterRegistry);
+        Gauge.builder("jwt.warmup.validations", this, warmUp -> warmUp.serviceValidations)
+                .description("Validações executadas no aquecimento")
+                .tag("path", "service")
+                .register(meterRegistry);
+        Gauge.builder("jwt.warmup.validations", this, warmUp -> warmUp.httpRequests)
+                .description("Validações executadas no aquecimento")
+                .tag("path", "http")
+                .register(meterRegistry);
+        TimeGauge.builder("jwt.warmup.request.latency", this, TimeUnit.MICROSECONDS, warmUp -> warmUp.firstRoundLatencyMicros)
+                .description("Latência média dos requests HTTP na primeira e na última rodada do aquecimento")
+                .tag("round", "first")
+                .register(meterRegistry);
+        TimeGauge.builder("jwt.warmup.request.latency", this, TimeUnit.MICROSECONDS, warmUp -> warmUp.lastRoundLatencyMicros)
+                .description("Latência média dos requests HTTP na primeira e na última rodada do aquecimento")
+                .tag("round", "last")
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Motivo do término: compilação estável, duração mínima (sem monitoramento do JIT) ou duração máxima
+     */
+    public String getStopCondition() {
+        return stopCondition;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public Duration getDuration() {
+        return Duration.ofNanos(durationNanos);
+    }
+
+    public long getServiceValidations() {
+        return serviceValidations;
+    }
+
+    public long getHttpRequests() {
+        return httpRequests;
+    }
+
+    public long getCompilationMillis() {
+        return compilationMillis;
+    }
+
+    public double getFirstRoundLatencyMicros() {
+        return firstRoundLatencyMicros;
+    }
+
+    public double getLastRoundLatencyMicros() {
+        return lastRoundLatencyMicros;
+    }
+}
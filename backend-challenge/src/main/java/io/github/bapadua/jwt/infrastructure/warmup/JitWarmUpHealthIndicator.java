@@ -0,0 +1,49 @@
+package io.github.bapadua.jwt.infrastructure.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator do aquecimento do JIT (componente "jitWarmUp" do Actuator)
+ * 
+ * Fica OUT_OF_SERVICE até o aquecimento terminar. Incluído no grupo de readiness,
+ * impede que o pod receba tráfego com o código ainda interpretado. Uma falha no
+ * aquecimento não retém a readiness.
+ */
+@Component
+public class JitWarmUpHealthIndicator implements HealthIndicator {
+    
+    private final JitWarmUp warmUp;
+    
+    public JitWarmUpHealthIndicator(JitWarmUp warmUp) {
+        this.warmUp = warmUp;
+    }
+    
+    @Override
+    public Health health() {
+        JitWarmUp.State state = warmUp.getState();
+        return switch (state) {
+            case PENDING, RUNNING -> Health.outOfService()
+                    .withDetail("state", state)
+                    .build();
+            case COMPLETED -> Health.up()
+                    .withDetail("state", state)
+                    .withDetail("stopCondition", warmUp.getStopCondition())
+                    .withDetail("durationMs", warmUp.getDuration().toMillis())
+                    .withDetail("serviceValidations", warmUp.getServiceValidations())
+                    .withDetail("httpRequests", warmUp.getHttpRequests())
+                    .withDetail("jitCompilationMs", warmUp.getCompilationMillis())
+                    .withDetail("firstRoundLatencyMicros", Math.round(warmUp.getFirstRoundLatencyMicros()))
+                    .withDetail("lastRoundLatencyMicros", Math.round(warmUp.getLastRoundLatencyMicros()))
+                    .build();
+            case FAILED -> Health.up()
+                    .withDetail("state", state)
+                    .withDetail("failure", String.valueOf(warmUp.getFailure()))
+                    .build();
+            case DISABLED -> Health.up()
+                    .withDetail("state", state)
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.bapadua.jwt.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra as propriedades do aquecimento (jwt.warmup)
+ */
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfiguration {
+}
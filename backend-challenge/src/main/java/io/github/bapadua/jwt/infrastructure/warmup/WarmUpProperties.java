@@ -0,0 +1,118 @@
+package io.github.bapadua.jwt.infrastructure.warmup;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades do aquecimento do JIT na inicialização
+ * 
+ * Prefixo: jwt.warmup
+ */
+@ConfigurationProperties(prefix = "jwt.warmup")
+public class WarmUpProperties {
+    
+    /**
+     * Se true, a readiness só é liberada após o aquecimento
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Duração mínima do aquecimento
+     */
+    private Duration minDuration = Duration.ofSeconds(2);
+    
+    /**
+     * Duração máxima: a readiness é liberada mesmo que a compilação não tenha estabilizado
+     */
+    private Duration maxDuration = Duration.ofSeconds(20);
+    
+    /**
+     * Janela em que o tempo de compilação do JIT é medido
+     */
+    private Duration stabilityWindow = Duration.ofMillis(500);
+    
+    /**
+     * Tempo de compilação por janela abaixo do qual a compilação é considerada estável
+     */
+    private Duration stableCompilationTime = Duration.ofMillis(10);
+    
+    /**
+     * Se true, os logs da aplicação ficam desligados durante o aquecimento
+     */
+    private boolean quietLogging = true;
+    
+    /**
+     * Semente da carga sintética
+     */
+    private long seed = 42;
+    
+    /**
+     * Se true, a aplicação encerra ao fim do aquecimento (training run do arquivo AppCDS)
+     */
+    private boolean exitOnCompletion = false;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Duration getMinDuration() {
+        return minDuration;
+    }
+    
+    public void setMinDuration(Duration minDuration) {
+        this.minDuration = minDuration;
+    }
+    
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+    
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+    
+    public Duration getStabilityWindow() {
+        return stabilityWindow;
+    }
+    
+    public void setStabilityWindow(Duration stabilityWindow) {
+        this.stabilityWindow = stabilityWindow;
+    }
+    
+    public Duration getStableCompilationTime() {
+        return stableCompilationTime;
+    }
+    
+    public void setStableCompilationTime(Duration stableCompilationTime) {
+        this.stableCompilationTime = stableCompilationTime;
+    }
+    
+    public boolean isQuietLogging() {
+        return quietLogging;
+    }
+    
+    public void setQuietLogging(boolean quietLogging) {
+        this.quietLogging = quietLogging;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+    
+    public boolean isExitOnCompletion() {
+        return exitOnCompletion;
+    }
+    
+    public void setExitOnCompletion(boolean exitOnCompletion) {
+        this.exitOnCompletion = exitOnCompletion;
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.bapadua.jwt.presentation.controller;
 
+import java.util.Map;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,7 +15,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.github.bapadua.jwt.lib.annotation.TokenPolicy;
 import io.github.bapadua.jwt.lib.annotation.ValidateJwt;
+import io.github.bapadua.jwt.lib.model.JwtClaims;
 
 /**
  * Controller REST para validação de JWT usando a anotação @ValidateJwt
@@ -146,6 +150,32 @@ public class JwtValidationController {
         return ResponseEntity.ok(true);
     }
 
+    /**
+     * Endpoint para demonstrar a validação de todos os tokens do body
+     *
+     * @param request objeto com multiple tokens (adminToken obrigatório, userToken se presente)
+     * @return true se chegou até aqui (todos os tokens válidos)
+     */
+    @PostMapping("/validate-body-all")
+    @ValidateJwt(policy = TokenPolicy.ALL)
+    public ResponseEntity<Boolean> validateAllBodyTokens(@RequestBody MultiTokenRequest request) {
+        // Os tokens são validados em paralelo; o primeiro inválido já decide
+        return ResponseEntity.ok(true);
+    }
+
+    /**
+     * Endpoint para demonstrar a validação de qualquer um dos tokens do body
+     *
+     * @param request objeto com multiple tokens
+     * @return true se chegou até aqui (ao menos um token válido)
+     */
+    @PostMapping("/validate-body-any")
+    @ValidateJwt(policy = TokenPolicy.ANY)
+    public ResponseEntity<Boolean> validateAnyBodyToken(@RequestBody MultiTokenRequest request) {
+        // Os tokens são validados em paralelo; o primeiro válido já decide
+        return ResponseEntity.ok(true);
+    }
+
     /**
      * Endpoint para demonstrar validação opcional de propriedades
      * 
@@ -192,6 +222,22 @@ public class JwtValidationController {
         return ResponseEntity.ok(true);
     }
 
+    /**
+     * Endpoint que retorna os claims do token validado
+     * Os claims são injetados pela anotação, sem decodificar o token novamente
+     * 
+     * @param authorization header Authorization contendo o JWT
+     * @param claims claims injetados pela anotação
+     * @return Name e Role do token
+     */
+    @GetMapping("/claims")
+    @ValidateJwt(headerName = "Authorization", injectClaims = true)
+    public ResponseEntity<Map<String, String>> getClaims(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            JwtClaims claims) {
+        return ResponseEntity.ok(Map.of("Name", claims.getName(), "Role", claims.getRole()));
+    }
+
     /**
      * Classe para receber JWT no corpo da requisição com anotação @ValidateJwt
      */
@@ -9,6 +9,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Handler global de exceções
@@ -52,6 +53,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
     
+    /**
+     * Mantém o status de ResponseStatusException (ex.: 400 das operações do Actuator com parâmetros inválidos)
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex) {
+        ErrorResponse error = new ErrorResponse(
+            "REQUEST_ERROR",
+            ex.getReason(),
+            ex.getStatusCode().value()
+        );
+        return ResponseEntity.status(ex.getStatusCode()).body(error);
+    }
+    
     /**
      * Trata exceções gerais não tratadas
      */
@@ -0,0 +1,78 @@
+package io.github.bapadua.jwt.infrastructure.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.ValidationStage;
+import io.github.bapadua.jwt.lib.web.RequestScopedValidationMemo;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Testes de integração do aquecimento do JIT e da retenção da readiness
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.warmup.min-duration=200ms",
+        "jwt.warmup.max-duration=5s"
+})
+class JitWarmUpTest {
+
+    private static final Set<JitWarmUp.State> TERMINAL_STATES = EnumSet.of(JitWarmUp.State.COMPLETED, JitWarmUp.State.FAILED);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JitWarmUp warmUp;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RequestScopedValidationMemo validationMemo;
+
+    @Autowired
+    private InFlightValidationCoalescer validationCoalescer;
+
+    @Test
+    void testReadinessIsHeldUntilWarmUpCompletes() throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!TERMINAL_STATES.contains(warmUp.getState()) && System.nanoTime() < deadline) {
+            HttpStatusCode readiness = restTemplate.getForEntity("/actuator/health/readiness", String.class).getStatusCode();
+            // O aquecimento pode terminar durante o request; só vale se ainda não terminou depois da resposta
+            if (!TERMINAL_STATES.contains(warmUp.getState())) {
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE, readiness);
+            }
+            Thread.sleep(50);
+        }
+
+        if (warmUp.getState() == JitWarmUp.State.FAILED) {
+            fail("Aquecimento falhou: " + warmUp.getFailure());
+        }
+        assertEquals(JitWarmUp.State.COMPLETED, warmUp.getState());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health/readiness", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health/liveness", String.class).getStatusCode());
+
+        assertTrue(warmUp.getHttpRequests() > 0);
+        assertTrue(meterRegistry.get("jwt.warmup.validations").tag("path", "service").gauge().value() > 0);
+        assertTrue(meterRegistry.get("jwt.warmup.duration").timeGauge().value() > 0);
+
+        // Tráfego sintético fora das estatísticas expostas (só os requests de readiness acima, sem validação)
+        assertEquals(0, JwtValidationStatistics.shared().getStage(ValidationStage.VALIDATION).getTotal());
+        assertTrue(JwtValidationStatistics.shared().getReasonCounts().values().stream().allMatch(count -> count == 0));
+        assertEquals(0, validationMemo.getValidations());
+        assertEquals(0, validationCoalescer.getLeaders() + validationCoalescer.getCoalesced());
+    }
+}
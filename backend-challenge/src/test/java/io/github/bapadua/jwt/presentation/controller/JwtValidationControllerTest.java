@@ -3,6 +3,9 @@ package io.github.bapadua.jwt.presentation.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -24,7 +27,8 @@ import org.springframework.http.ResponseEntity;
  * - Caso 3: JWT com Name contendo números → false
  * - Caso 4: JWT com mais de 3 claims → false
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// Sem aquecimento do JIT: os requests sintéticos concorreriam com os testes
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "jwt.warmup.enabled=false")
 class JwtValidationControllerTest {
 
     @LocalServerPort
@@ -157,6 +161,84 @@ class JwtValidationControllerTest {
         assertFalse(response.getBody(), "Token com Name contendo números no body deve retornar false");
     }
     
+    @Test
+    void testPostValidateBody_InvalidToken_ShouldBeRejectedBeforeBinding() {
+        // otherData como objeto não cabe em String: o binding falharia, mas o token é rejeitado antes
+        String body = "{\"otherData\":{\"nested\":true},\"jwtToken\":\"" + INVALID_JWT + "\"}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        
+        ResponseEntity<String> response = restTemplate.exchange(
+            createURLWithPort("/validate-body"), 
+            HttpMethod.POST, 
+            new HttpEntity<>(body, headers), 
+            String.class);
+            
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("false", response.getBody(), "Token inválido no body deve ser rejeitado antes do binding");
+    }
+    
+    @Test
+    void testPostValidateBodySpecific_ValidAdminToken_ShouldReturnTrue() {
+        String body = "{\"userToken\":\"" + INVALID_JWT + "\",\"adminToken\":\"" + VALID_JWT + "\",\"data\":\"x\"}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        
+        ResponseEntity<Boolean> response = restTemplate.exchange(
+            createURLWithPort("/validate-body-specific"), 
+            HttpMethod.POST, 
+            new HttpEntity<>(body, headers), 
+            Boolean.class);
+            
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody(), "bodyField adminToken deve ter precedência sobre userToken");
+    }
+
+    @Test
+    void testPostValidateBodyAll_OneInvalidToken_ShouldReturnFalse() {
+        assertFalse(postMultiToken("/validate-body-all", INVALID_JWT, VALID_JWT),
+            "Policy ALL com um token inválido deve retornar false");
+        assertFalse(postMultiToken("/validate-body-all", VALID_JWT, null),
+            "Policy ALL sem o adminToken obrigatório deve retornar false");
+    }
+
+    @Test
+    void testPostValidateBodyAll_AllTokensValid_ShouldReturnTrue() {
+        assertTrue(postMultiToken("/validate-body-all", VALID_JWT, VALID_JWT),
+            "Policy ALL com todos os tokens válidos deve retornar true");
+        assertTrue(postMultiToken("/validate-body-all", null, VALID_JWT),
+            "Policy ALL deve ignorar o userToken opcional ausente");
+    }
+
+    @Test
+    void testPostValidateBodyAny_OneValidToken_ShouldReturnTrue() {
+        assertTrue(postMultiToken("/validate-body-any", JWT_WITH_NUMBER_NAME, VALID_JWT),
+            "Policy ANY com um token válido deve retornar true");
+        assertFalse(postMultiToken("/validate-body-any", JWT_WITH_NUMBER_NAME, INVALID_JWT),
+            "Policy ANY sem token válido deve retornar false");
+    }
+
+    private Boolean postMultiToken(String uri, String userToken, String adminToken) {
+        StringBuilder body = new StringBuilder("{\"data\":\"x\"");
+        if (userToken != null) {
+            body.append(",\"userToken\":\"").append(userToken).append('"');
+        }
+        if (adminToken != null) {
+            body.append(",\"adminToken\":\"").append(adminToken).append('"');
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<Boolean> response = restTemplate.exchange(
+            createURLWithPort(uri),
+            HttpMethod.POST,
+            new HttpEntity<>(body.append('}').toString(), headers),
+            Boolean.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+    
     // ========== PUT TESTS ==========
     
     @Test
@@ -218,6 +300,39 @@ class JwtValidationControllerTest {
         assertTrue(response.getBody(), "DELETE opcional com token válido deve retornar true");
     }
     
+    // ========== CLAIMS INJECTION ==========
+    
+    @Test
+    @SuppressWarnings("rawtypes")
+    void testGetClaims_ValidToken_ShouldReturnInjectedClaims() {
+        HttpHeaders headers = createAuthHeaders(VALID_JWT);
+        HttpEntity<String> entity = new HttpEntity<>(null, headers);
+        
+        ResponseEntity<Map> response = restTemplate.exchange(
+            createURLWithPort("/claims"), 
+            HttpMethod.GET, 
+            entity, 
+            Map.class);
+            
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Toninho Araujo", response.getBody().get("Name"));
+        assertEquals("Admin", response.getBody().get("Role"));
+    }
+    
+    @Test
+    void testGetClaims_InvalidToken_ShouldReturnUnauthorized() {
+        HttpHeaders headers = createAuthHeaders(JWT_WITH_NUMBER_NAME);
+        HttpEntity<String> entity = new HttpEntity<>(null, headers);
+        
+        ResponseEntity<String> response = restTemplate.exchange(
+            createURLWithPort("/claims"), 
+            HttpMethod.GET, 
+            entity, 
+            String.class);
+            
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+    
     // ========== EDGE CASES ==========
     
     @Test
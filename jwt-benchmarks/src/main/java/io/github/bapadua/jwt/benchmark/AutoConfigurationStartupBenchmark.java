@@ -0,0 +1,68 @@
+package io.github.bapadua.jwt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationAutoConfiguration;
+
+/**
+ * Benchmark da subida a frio de um contexto Spring com a JwtValidationAutoConfiguration
+ *
+ * Cada fork é uma JVM nova que sobe e fecha o contexto uma única vez, como uma réplica
+ * recém-criada em um scale-out; classloading e varredura de classpath entram na medição.
+ *
+ * - enabled: biblioteca completa, incluindo o JwtValidationAspect
+ * - aspect-disabled: jwt.validation.aspect.enabled=false, só serviço, engines e caches
+ * - disabled: jwt.validation.enabled=false, o piso de um contexto com AOP e nada da biblioteca
+ *
+ * A diferença entre enabled e disabled é o custo da biblioteca na inicialização; aspect-disabled
+ * mostra quanto dele um consumidor sem @ValidateJwt economiza desligando só o aspect.
+ *
+ * Execução: java -jar jwt-benchmarks/target/benchmarks.jar AutoConfigurationStartupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class AutoConfigurationStartupBenchmark {
+
+    @Param({"enabled", "aspect-disabled", "disabled"})
+    private String library;
+
+    @Benchmark
+    public ConfigurableApplicationContext startup() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("jwt.validation.enabled=" + !"disabled".equals(library),
+                        "jwt.validation.aspect.enabled=" + "enabled".equals(library), "logging.level.root=WARN")
+                .run()) {
+            return context;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({AopAutoConfiguration.class, JwtValidationAutoConfiguration.class})
+    static class StartupApplication {
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.bapadua.jwt.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bapadua.jwt.generator.SeedMagnitude;
+import io.github.bapadua.jwt.generator.SyntheticToken;
+import io.github.bapadua.jwt.generator.SyntheticTokenGenerator;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+
+/**
+ * Benchmark da validação completa sobre uma carga sintética determinística
+ * 
+ * - challenge: apenas Seeds pequenas, próximo dos exemplos do desafio
+ * - mixed: distribuição padrão do SyntheticTokenGenerator
+ * - adversarial: metade das Seeds grandes e só 20% de tokens válidos
+ * 
+ * Os tokens são gerados no setup a partir de uma semente fixa, então o mesmo workload
+ * é reproduzido entre execuções e no jwt-load-test.
+ * 
+ * Execução: java -jar jwt-benchmarks/target/benchmarks.jar JwtValidationServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationServiceBenchmark {
+    
+    private static final int TOKENS = 4096;
+    
+    @Param({"challenge", "mixed", "adversarial"})
+    private String workload;
+    
+    private DefaultJwtValidationService validationService;
+    
+    private String[] tokens;
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        validationService = new DefaultJwtValidationService(new DefaultJwtClaimsExtractor(),
+                new DefaultJwtClaimsValidator(new BailliePswPrimeNumberValidator(100)));
+        
+        tokens = createWorkload(workload).stream()
+                .limit(TOKENS)
+                .map(SyntheticToken::getToken)
+                .toArray(String[]::new);
+    }
+    
+    @Benchmark
+    public JwtValidationResult validate() {
+        return validationService.validate(tokens[next()]);
+    }
+    
+    private static SyntheticTokenGenerator createWorkload(String workload) {
+        SyntheticTokenGenerator.Builder builder = SyntheticTokenGenerator.builder().seed(42);
+        return switch (workload) {
+            case "challenge" -> builder.seedMagnitudes(Map.of(SeedMagnitude.SMALL, 1)).build();
+            case "mixed" -> builder.build();
+            case "adversarial" -> builder
+                    .validRatio(0.2)
+                    .seedMagnitudes(Map.of(SeedMagnitude.SMALL, 1, SeedMagnitude.LARGE, 1))
+                    .build();
+            default -> throw new IllegalArgumentException("Workload desconhecido: " + workload);
+        };
+    }
+    
+    private int next() {
+        int current = index;
+        index = (current + 1) & (TOKENS - 1);
+        return current;
+    }
+}
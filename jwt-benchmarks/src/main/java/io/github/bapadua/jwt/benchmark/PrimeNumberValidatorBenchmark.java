@@ -0,0 +1,76 @@
+package io.github.bapadua.jwt.benchmark;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+
+/**
+ * Benchmark da verificação de primalidade da Seed por tamanho em bits
+ * 
+ * - 63 bits: caminho rápido primitivo (cabe em long)
+ * - 64, 128 e 256 bits: Baillie-PSW de precisão arbitrária
+ * 
+ * Compara com BigInteger.isProbablePrime como referência.
+ * 
+ * Execução: java -jar jwt-benchmarks/target/benchmarks.jar PrimeNumberValidatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimeNumberValidatorBenchmark {
+    
+    private static final int SEEDS = 256;
+    
+    @Param({"63", "64", "128", "256"})
+    private int bits;
+    
+    private final BailliePswPrimeNumberValidator validator = new BailliePswPrimeNumberValidator(100);
+    
+    private String[] primeSeeds;
+    private BigInteger[] primeValues;
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        primeSeeds = new String[SEEDS];
+        primeValues = new BigInteger[SEEDS];
+        for (int i = 0; i < SEEDS; i++) {
+            primeValues[i] = BigInteger.probablePrime(bits, random);
+            primeSeeds[i] = primeValues[i].toString();
+        }
+    }
+    
+    @Benchmark
+    public boolean bailliePsw() {
+        return validator.isPrime(primeSeeds[next()]);
+    }
+    
+    @Benchmark
+    public boolean jdkIsProbablePrime() {
+        return new BigInteger(primeSeeds[next()]).isProbablePrime(100);
+    }
+    
+    private int next() {
+        int current = index;
+        index = (current + 1) & (SEEDS - 1);
+        return current;
+    }
+}
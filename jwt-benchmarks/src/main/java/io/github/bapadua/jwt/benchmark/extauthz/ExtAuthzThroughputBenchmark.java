@@ -0,0 +1,163 @@
+package io.github.bapadua.jwt.benchmark.extauthz;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.envoyproxy.envoy.service.auth.v3.AttributeContext;
+import io.envoyproxy.envoy.service.auth.v3.AuthorizationGrpc;
+import io.envoyproxy.envoy.service.auth.v3.CheckRequest;
+import io.github.bapadua.jwt.generator.SyntheticToken;
+import io.github.bapadua.jwt.generator.SyntheticTokenGenerator;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+
+/**
+ * Throughput da validação no sidecar ext_authz (gRPC Check) x endpoint HTTP da backend-challenge
+ *
+ * Cada transporte sobe o seu jar executável em processo separado, em porta livre:
+ * - grpc: jwt-ext-authz.jar, CheckRequest com o header authorization (como o Envoy envia)
+ * - http: backend-challenge, GET /api/jwt/validate com Authorization: Bearer (aquecimento próprio desligado)
+ *
+ * Os dois recebem a mesma carga do SyntheticTokenGenerator (semente fixa) e as mensagens de
+ * request são montadas no setup, então o benchmark mede transporte + validação.
+ *
+ * Execução (na raiz, após mvn package):
+ *   java -jar jwt-benchmarks/target/benchmarks.jar ExtAuthzThroughputBenchmark
+ * Jars em outro local: -jvmArgsAppend "-Djwt.ext-authz.jar=... -Djwt.backend.jar=..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ExtAuthzThroughputBenchmark {
+
+    private static final int TOKENS = 1024;
+
+    @Param({"grpc", "http"})
+    private String transport;
+
+    private ServerProcess server;
+    private ManagedChannel channel;
+    private AuthorizationGrpc.AuthorizationBlockingStub stub;
+    private HttpClient httpClient;
+
+    private CheckRequest[] checkRequests;
+    private HttpRequest[] httpRequests;
+
+    /**
+     * Posição de cada thread na carga, para não compartilhar contador entre threads
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int next() {
+            int current = index;
+            index = (current + 1) & (TOKENS - 1);
+            return current;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        String[] tokens = SyntheticTokenGenerator.builder()
+                .seed(42)
+                .build()
+                .stream()
+                .limit(TOKENS)
+                .map(SyntheticToken::getToken)
+                .toArray(String[]::new);
+        int port = ServerProcess.freePort();
+
+        if ("grpc".equals(transport)) {
+            channel = NettyChannelBuilder.forAddress("localhost", port).usePlaintext().build();
+            stub = AuthorizationGrpc.newBlockingStub(channel);
+            checkRequests = new CheckRequest[TOKENS];
+            for (int i = 0; i < TOKENS; i++) {
+                checkRequests[i] = checkRequest(tokens[i]);
+            }
+            server = ServerProcess.start(jar("jwt.ext-authz.jar", "jwt-ext-authz/target/jwt-ext-authz.jar"),
+                    List.of("--port=" + port),
+                    () -> stub.withDeadlineAfter(1, TimeUnit.SECONDS).check(checkRequests[0]) != null);
+        } else {
+            URI baseUri = URI.create("http://localhost:" + port + "/");
+            httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            httpRequests = new HttpRequest[TOKENS];
+            for (int i = 0; i < TOKENS; i++) {
+                httpRequests[i] = HttpRequest.newBuilder(baseUri.resolve("api/jwt/validate"))
+                        .header("Authorization", "Bearer " + tokens[i])
+                        .GET()
+                        .build();
+            }
+            HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("actuator/health"))
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            server = ServerProcess.start(jar("jwt.backend.jar", "backend-challenge/target/backend-challenge-0.0.1-SNAPSHOT.jar"),
+                    List.of("--server.port=" + port, "--jwt.warmup.enabled=false", "--logging.level.io.github.bapadua.jwt=WARN"),
+                    () -> httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (channel != null) {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    /**
+     * Uma autorização completa; retorna se o token foi aceito
+     */
+    @Benchmark
+    public boolean authorize(Cursor cursor) throws IOException, InterruptedException {
+        int index = cursor.next();
+        if (stub != null) {
+            return stub.check(checkRequests[index]).hasOkResponse();
+        }
+        // Endpoints ResponseEntity<Boolean> respondem 200 com true/false
+        return "true".equals(httpClient.send(httpRequests[index], HttpResponse.BodyHandlers.ofString()).body());
+    }
+
+    private static CheckRequest checkRequest(String token) {
+        return CheckRequest.newBuilder()
+                .setAttributes(AttributeContext.newBuilder()
+                        .setRequest(AttributeContext.Request.newBuilder()
+                                .setHttp(AttributeContext.HttpRequest.newBuilder()
+                                        .setMethod("GET")
+                                        .setPath("/api/jwt/validate")
+                                        .putHeaders("authorization", "Bearer " + token))))
+                .build();
+    }
+
+    private static Path jar(String property, String defaultPath) {
+        return Path.of(System.getProperty(property, defaultPath));
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.bapadua.jwt.benchmark.extauthz;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor medido em um processo separado, para não disputar heap e JIT com o cliente do JMH
+ */
+final class ServerProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    /**
+     * Verificação de prontidão; exceções contam como "ainda não pronto"
+     */
+    @FunctionalInterface
+    interface ReadinessProbe {
+        boolean isReady() throws Exception;
+    }
+
+    private final Process process;
+
+    private ServerProcess(Process process) {
+        this.process = process;
+    }
+
+    /**
+     * Executa java -jar com os argumentos informados e aguarda a verificação de prontidão
+     */
+    static ServerProcess start(Path jar, List<String> args, ReadinessProbe probe) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IOException("Jar não encontrado: " + jar.toAbsolutePath() + " (execute mvn package na raiz)");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+
+        Path log = Files.createTempFile(jar.getFileName().toString().replace(".jar", "-"), ".log");
+        ServerProcess server = new ServerProcess(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start());
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!server.process.isAlive()) {
+                throw new IOException(jar.getFileName() + " encerrou durante a inicialização - log em " + log);
+            }
+            try {
+                if (probe.isReady()) {
+                    return server;
+                }
+            } catch (Exception e) {
+                // Servidor ainda não aceita conexões
+            }
+            Thread.sleep(250);
+        }
+        server.close();
+        throw new IOException(jar.getFileName() + " não ficou pronto em " + STARTUP_TIMEOUT.toSeconds() + "s - log em " + log);
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.bapadua.jwt.benchmark.lambda;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+/**
+ * Context do Lambda sem efeitos colaterais para execução local dos handlers
+ */
+public class NoOpContext implements Context {
+    
+    private static final LambdaLogger LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+        
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+    
+    @Override
+    public String getAwsRequestId() {
+        return "benchmark";
+    }
+    
+    @Override
+    public String getLogGroupName() {
+        return "benchmark";
+    }
+    
+    @Override
+    public String getLogStreamName() {
+        return "benchmark";
+    }
+    
+    @Override
+    public String getFunctionName() {
+        return "jwt-validation-benchmark";
+    }
+    
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+    
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:us-east-1:000000000000:function:jwt-validation-benchmark";
+    }
+    
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+    
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+    
+    @Override
+    public int getRemainingTimeInMillis() {
+        return Integer.MAX_VALUE;
+    }
+    
+    @Override
+    public int getMemoryLimitInMB() {
+        return 512;
+    }
+    
+    @Override
+    public LambdaLogger getLogger() {
+        return LOGGER;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.bapadua.jwt.bulk;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Resultado agregado de uma validação em massa: contagem por motivo e vazão
+ */
+public class BulkValidationSummary {
+    
+    private final long lines;
+    private final Map<JwtValidationReason, Long> reasonCounts;
+    private final long tokens;
+    private final long elapsedNanos;
+    
+    BulkValidationSummary(long lines, long[] counts, long elapsedNanos) {
+        this.lines = lines;
+        this.elapsedNanos = elapsedNanos;
+        this.reasonCounts = new EnumMap<>(JwtValidationReason.class);
+        
+        long total = 0;
+        for (JwtValidationReason reason : JwtValidationReason.values()) {
+            long count = counts[reason.ordinal()];
+            if (count > 0) {
+                reasonCounts.put(reason, count);
+                total += count;
+            }
+        }
+        this.tokens = total;
+    }
+    
+    public long getLines() {
+        return lines;
+    }
+    
+    public long getTokens() {
+        return tokens;
+    }
+    
+    public long getCount(JwtValidationReason reason) {
+        return reasonCounts.getOrDefault(reason, 0L);
+    }
+    
+    public Map<JwtValidationReason, Long> getReasonCounts() {
+        return reasonCounts;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+    
+    public long getTokensPerMinute() {
+        return elapsedNanos == 0 ? 0 : (long) (tokens * 60_000_000_000d / elapsedNanos);
+    }
+    
+    public String toJson() {
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"lines\":").append(lines)
+                .append(",\"tokens\":").append(tokens)
+                .append(",\"valid\":").append(getCount(JwtValidationReason.VALID))
+                .append(",\"reasons\":{");
+        
+        String separator = "";
+        for (Map.Entry<JwtValidationReason, Long> entry : reasonCounts.entrySet()) {
+            json.append(separator).append('"').append(entry.getKey().name()).append("\":").append(entry.getValue());
+            separator = ",";
+        }
+        
+        return json.append("},\"elapsedMillis\":").append(getElapsedMillis())
+                .append(",\"tokensPerMinute\":").append(getTokensPerMinute())
+                .append('}')
+                .toString();
+    }
+}
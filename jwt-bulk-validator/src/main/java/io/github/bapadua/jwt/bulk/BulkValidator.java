@@ -0,0 +1,266 @@
+package io.github.bapadua.jwt.bulk;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+
+/**
+ * Validação em massa de tokens JWT a partir de arquivos NDJSON
+ * 
+ * O arquivo é mapeado em memória e dividido em blocos alinhados ao fim de linha, validados em paralelo.
+ * Cada bloco produz apenas um byte (o motivo) por linha; os resultados são escritos em ordem e a
+ * quantidade de blocos em processamento é limitada, mantendo a memória constante para qualquer tamanho
+ * de arquivo.
+ * 
+ * Cada linha pode ser um objeto JSON com o token no campo configurado ou o próprio token.
+ * Linhas em branco são ignoradas (mas contam na numeração); linhas JSON inválidas resultam em ERROR.
+ */
+public class BulkValidator {
+    
+    public static final String DEFAULT_TOKEN_FIELD = "token";
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JwtValidationReason[] REASONS = JwtValidationReason.values();
+    private static final byte BLANK_LINE = -1;
+    
+    private static final byte[] LINE_PREFIX = "{\"line\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] RESULT_SUFFIXES = resultSuffixes();
+    
+    private final JwtValidationService validationService;
+    private final String tokenField;
+    private final int threads;
+    private final int chunkSize;
+    
+    public BulkValidator(JwtValidationService validationService) {
+        this(validationService, DEFAULT_TOKEN_FIELD, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+    
+    public BulkValidator(JwtValidationService validationService, String tokenField, int threads, int chunkSize) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("threads e chunkSize devem ser positivos");
+        }
+        this.validationService = validationService;
+        this.tokenField = tokenField;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * Valida todas as linhas de input, escrevendo um resultado JSON por linha em output
+     */
+    public BulkValidationSummary validate(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        long[] counts = new long[REASONS.length];
+        long lines = 0;
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads, daemonThreadFactory());
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), 1 << 20)) {
+            
+            long size = channel.size();
+            long position = 0;
+            byte[] digits = new byte[20];
+            
+            // Janela limitada de blocos em processamento: memória constante e saída em ordem
+            Deque<Future<byte[]>> inFlight = new ArrayDeque<>();
+            int window = threads * 2;
+            
+            while (position < size || !inFlight.isEmpty()) {
+                while (position < size && inFlight.size() < window) {
+                    long chunkStart = position;
+                    long chunkEnd = alignToLineEnd(channel, Math.min(size, position + chunkSize), size);
+                    inFlight.add(executor.submit(() -> validateChunk(channel, chunkStart, chunkEnd)));
+                    position = chunkEnd;
+                }
+                
+                for (byte reason : await(inFlight.poll())) {
+                    lines++;
+                    if (reason != BLANK_LINE) {
+                        counts[reason]++;
+                        writeResult(out, lines, reason, digits);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        return new BulkValidationSummary(lines, counts, System.nanoTime() - start);
+    }
+    
+    /**
+     * Avança a posição até o byte seguinte ao próximo '\n' (ou o fim do arquivo)
+     */
+    private static long alignToLineEnd(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+    
+    /**
+     * Valida as linhas do bloco [start, end), retornando o ordinal do motivo de cada linha
+     */
+    private byte[] validateChunk(FileChannel channel, long start, long end) throws IOException {
+        long length = end - start;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Linha excede o tamanho máximo mapeável a partir do byte " + start);
+        }
+        
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        int limit = (int) length;
+        
+        byte[] results = new byte[256];
+        int count = 0;
+        byte[] line = new byte[1024];
+        
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            
+            int lineLength = lineEnd - lineStart;
+            if (line.length < lineLength) {
+                line = new byte[Math.max(lineLength, line.length * 2)];
+            }
+            buffer.get(lineStart, line, 0, lineLength);
+            
+            if (count == results.length) {
+                results = Arrays.copyOf(results, count * 2);
+            }
+            results[count++] = validateLine(line, lineLength);
+            
+            lineStart = lineEnd + 1;
+        }
+        
+        return Arrays.copyOf(results, count);
+    }
+    
+    private byte validateLine(byte[] line, int length) {
+        int from = 0;
+        int to = length;
+        while (from < to && isWhitespace(line[from])) {
+            from++;
+        }
+        while (to > from && isWhitespace(line[to - 1])) {
+            to--;
+        }
+        if (from == to) {
+            return BLANK_LINE;
+        }
+        
+        try {
+            String token = line[from] == '{'
+                    ? extractTokenField(line, from, to - from)
+                    : new String(line, from, to - from, StandardCharsets.UTF_8);
+            
+            if (token != null && token.startsWith("Bearer ")) {
+                token = token.substring(7);
+            }
+            return (byte) validationService.validate(token).getReason().ordinal();
+            
+        } catch (Exception e) {
+            return (byte) JwtValidationReason.ERROR.ordinal();
+        }
+    }
+    
+    private String extractTokenField(byte[] line, int offset, int length) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(line, offset, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (tokenField.equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+    
+    private static void writeResult(OutputStream out, long line, byte reason, byte[] digits) throws IOException {
+        out.write(LINE_PREFIX);
+        
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + line % 10);
+            line /= 10;
+        } while (line > 0);
+        out.write(digits, position, digits.length - position);
+        
+        out.write(RESULT_SUFFIXES[reason]);
+    }
+    
+    private static byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Validação em massa interrompida", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+    
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+    
+    private static byte[][] resultSuffixes() {
+        byte[][] suffixes = new byte[REASONS.length][];
+        for (JwtValidationReason reason : REASONS) {
+            suffixes[reason.ordinal()] = (",\"valid\":" + reason.isValid() + ",\"reason\":\"" + reason.name() + "\"}\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+        }
+        return suffixes;
+    }
+    
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "jwt-bulk-validation-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
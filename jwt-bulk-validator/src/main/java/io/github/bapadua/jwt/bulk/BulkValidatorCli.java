@@ -0,0 +1,89 @@
+package io.github.bapadua.jwt.bulk;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+
+/**
+ * CLI de validação em massa de tokens JWT
+ * 
+ * Uso: java -jar jwt-bulk-validator.jar <entrada.ndjson> <saida.ndjson>
+ *          [--field=token] [--threads=N] [--chunk-size-mb=8] [--max-digits=100]
+ * 
+ * Escreve um resultado por linha em saida.ndjson, o resumo por motivo em saida.ndjson.summary.json
+ * e o mesmo resumo na saída padrão.
+ */
+public final class BulkValidatorCli {
+    
+    private static final String USAGE = "Uso: java -jar jwt-bulk-validator.jar <entrada.ndjson> <saida.ndjson> "
+            + "[--field=token] [--threads=N] [--chunk-size-mb=8] [--max-digits=100]";
+    
+    private BulkValidatorCli() {
+    }
+    
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        String field = BulkValidator.DEFAULT_TOKEN_FIELD;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkSize = BulkValidator.DEFAULT_CHUNK_SIZE;
+        int maxDigits = new JwtValidationProperties.PrimeCheck().getMaxDigits();
+        
+        try {
+            for (int i = 2; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.startsWith("--field=")) {
+                    field = value(arg);
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(value(arg));
+                } else if (arg.startsWith("--chunk-size-mb=")) {
+                    chunkSize = Math.multiplyExact(Integer.parseInt(value(arg)), 1024 * 1024);
+                } else if (arg.startsWith("--max-digits=")) {
+                    maxDigits = Integer.parseInt(value(arg));
+                } else {
+                    throw new IllegalArgumentException("Opção desconhecida: " + arg);
+                }
+            }
+            
+            BulkValidator validator = new BulkValidator(createValidationService(maxDigits), field, threads, chunkSize);
+            BulkValidationSummary summary = validator.validate(input, output);
+            
+            String json = summary.toJson();
+            Files.writeString(Path.of(output + ".summary.json"), json + System.lineSeparator(), StandardCharsets.UTF_8);
+            System.out.println(json);
+            
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Erro na validação em massa: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Monta o serviço de validação sem Spring (mesma composição usada no Lambda, sem prazo para Seeds grandes)
+     */
+    static JwtValidationService createValidationService(int maxDigits) {
+        DefaultJwtClaimsValidator claimsValidator = new DefaultJwtClaimsValidator(new BailliePswPrimeNumberValidator(maxDigits));
+        return new DefaultJwtValidationService(new DefaultJwtClaimsExtractor(), claimsValidator);
+    }
+    
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.bapadua.jwt.extauthz;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+/**
+ * Servidor gRPC (Netty) do ext_authz, para rodar como sidecar do Envoy
+ *
+ * Uso: java -jar jwt-ext-authz.jar [--port=9191] [--header=authorization] [--max-digits=100]
+ *
+ * As chamadas são executadas direto na event loop do Netty (directExecutor): a validação é
+ * CPU-bound, curta e não bloqueia, então a troca para um pool de threads custaria mais que o Check.
+ */
+public final class ExtAuthzServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtAuthzServer.class);
+
+    public static final int DEFAULT_PORT = 9191;
+
+    private static final String USAGE = "Uso: java -jar jwt-ext-authz.jar [--port=" + DEFAULT_PORT + "] "
+            + "[--header=" + JwtAuthorizationService.DEFAULT_TOKEN_HEADER + "] [--max-digits=100]";
+
+    private final Server server;
+    private final JwtAuthorizationService authorizationService;
+
+    private ExtAuthzServer(Server server, JwtAuthorizationService authorizationService) {
+        this.server = server;
+        this.authorizationService = authorizationService;
+    }
+
+    /**
+     * Inicia o servidor na porta informada (0 para uma porta livre)
+     */
+    public static ExtAuthzServer start(JwtAuthorizationService authorizationService, int port) throws IOException {
+        Server server = NettyServerBuilder.forPort(port)
+                .directExecutor()
+                .addService(authorizationService)
+                .build()
+                .start();
+        return new ExtAuthzServer(server, authorizationService);
+    }
+
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        String header = JwtAuthorizationService.DEFAULT_TOKEN_HEADER;
+        int maxDigits = new JwtValidationProperties.PrimeCheck().getMaxDigits();
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--port=")) {
+                    port = Integer.parseInt(value(arg));
+                } else if (arg.startsWith("--header=")) {
+                    header = value(arg);
+                } else if (arg.startsWith("--max-digits=")) {
+                    maxDigits = Integer.parseInt(value(arg));
+                } else {
+                    throw new IllegalArgumentException("Opção desconhecida: " + arg);
+                }
+            }
+
+            ExtAuthzServer server = start(new JwtAuthorizationService(createValidationService(maxDigits), header), port);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "jwt-ext-authz-shutdown"));
+            logger.info("ext_authz escutando na porta {} (header {})", server.getPort(), header);
+            server.awaitTermination();
+
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Erro ao iniciar o servidor ext_authz: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Monta o serviço de validação sem Spring (mesma composição do jwt-bulk-validator)
+     */
+    static JwtValidationService createValidationService(int maxDigits) {
+        DefaultJwtClaimsValidator claimsValidator = new DefaultJwtClaimsValidator(new BailliePswPrimeNumberValidator(maxDigits));
+        return new DefaultJwtValidationService(new DefaultJwtClaimsExtractor(), claimsValidator);
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public JwtAuthorizationService getAuthorizationService() {
+        return authorizationService;
+    }
+
+    public void awaitTermination() throws InterruptedException {
+        server.awaitTermination();
+    }
+
+    @Override
+    public void close() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info("ext_authz encerrado: {} permitidos, {} negados",
+                authorizationService.getAllowed(), authorizationService.getDenied());
+    }
+}
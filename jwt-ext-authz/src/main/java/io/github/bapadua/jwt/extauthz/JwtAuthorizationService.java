@@ -0,0 +1,139 @@
+package io.github.bapadua.jwt.extauthz;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.envoyproxy.envoy.config.core.v3.HeaderValue;
+import io.envoyproxy.envoy.config.core.v3.HeaderValueOption;
+import io.envoyproxy.envoy.service.auth.v3.AuthorizationGrpc;
+import io.envoyproxy.envoy.service.auth.v3.CheckRequest;
+import io.envoyproxy.envoy.service.auth.v3.CheckResponse;
+import io.envoyproxy.envoy.service.auth.v3.DeniedHttpResponse;
+import io.envoyproxy.envoy.service.auth.v3.OkHttpResponse;
+import io.envoyproxy.envoy.type.v3.HttpStatus;
+import io.envoyproxy.envoy.type.v3.StatusCode;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Implementação do serviço envoy.service.auth.v3.Authorization (ext_authz) sobre o JwtValidationService
+ *
+ * O token é lido direto do mapa de headers do CheckRequest (sem copiar o mapa) e o veredito é
+ * respondido com uma das CheckResponse pré-montadas por JwtValidationReason: mensagens protobuf são
+ * imutáveis, então nenhuma resposta é construída por chamada.
+ *
+ * - VALID: OK, request segue para o upstream com o header x-jwt-validation-reason
+ * - falhas de capacidade/erro (PRIME_CHECK_*, ERROR): UNAVAILABLE com HTTP 503
+ * - demais motivos: UNAUTHENTICATED com HTTP 401
+ */
+public class JwtAuthorizationService extends AuthorizationGrpc.AuthorizationImplBase {
+
+    public static final String DEFAULT_TOKEN_HEADER = "authorization";
+    public static final String REASON_HEADER = "x-jwt-validation-reason";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtValidationService validationService;
+    private final String tokenHeader;
+    private final CheckResponse[] responses;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public JwtAuthorizationService(JwtValidationService validationService) {
+        this(validationService, DEFAULT_TOKEN_HEADER);
+    }
+
+    public JwtAuthorizationService(JwtValidationService validationService, String tokenHeader) {
+        if (tokenHeader == null || tokenHeader.isBlank()) {
+            throw new IllegalArgumentException("O header do token não pode ser vazio");
+        }
+        this.validationService = validationService;
+        // O Envoy envia os nomes de header em minúsculas
+        this.tokenHeader = tokenHeader.toLowerCase(Locale.ROOT);
+        this.responses = createResponses();
+    }
+
+    @Override
+    public void check(CheckRequest request, StreamObserver<CheckResponse> responseObserver) {
+        JwtValidationReason reason = authorize(request);
+        if (reason.isValid()) {
+            allowed.increment();
+        } else {
+            denied.increment();
+        }
+        responseObserver.onNext(responses[reason.ordinal()]);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Extrai o token do header configurado e valida
+     */
+    JwtValidationReason authorize(CheckRequest request) {
+        String header = request.getAttributes().getRequest().getHttp().getHeadersOrDefault(tokenHeader, null);
+        if (header == null || header.isEmpty()) {
+            return JwtValidationReason.EMPTY_TOKEN;
+        }
+        String token = header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()) : header;
+        return validationService.validate(token).getReason();
+    }
+
+    /**
+     * Resposta pré-montada para o motivo informado
+     */
+    static CheckResponse responseFor(JwtValidationReason reason) {
+        HeaderValueOption reasonHeader = HeaderValueOption.newBuilder()
+                .setHeader(HeaderValue.newBuilder().setKey(REASON_HEADER).setValue(reason.name()))
+                .build();
+
+        if (reason.isValid()) {
+            return CheckResponse.newBuilder()
+                    .setStatus(com.google.rpc.Status.newBuilder().setCode(Status.Code.OK.value()))
+                    .setOkResponse(OkHttpResponse.newBuilder().addHeaders(reasonHeader))
+                    .build();
+        }
+
+        boolean unavailable = switch (reason) {
+            case PRIME_CHECK_REJECTED, PRIME_CHECK_TIMEOUT, ERROR -> true;
+            default -> false;
+        };
+        Status.Code code = unavailable ? Status.Code.UNAVAILABLE : Status.Code.UNAUTHENTICATED;
+        StatusCode httpStatus = unavailable ? StatusCode.ServiceUnavailable : StatusCode.Unauthorized;
+
+        return CheckResponse.newBuilder()
+                .setStatus(com.google.rpc.Status.newBuilder().setCode(code.value()).setMessage(reason.name()))
+                .setDeniedResponse(DeniedHttpResponse.newBuilder()
+                        .setStatus(HttpStatus.newBuilder().setCode(httpStatus))
+                        .addHeaders(reasonHeader))
+                .build();
+    }
+
+    private static CheckResponse[] createResponses() {
+        JwtValidationReason[] reasons = JwtValidationReason.values();
+        CheckResponse[] responses = new CheckResponse[reasons.length];
+        for (JwtValidationReason reason : reasons) {
+            responses[reason.ordinal()] = responseFor(reason);
+        }
+        return responses;
+    }
+
+    public String getTokenHeader() {
+        return tokenHeader;
+    }
+
+    /**
+     * Checks respondidos com OK
+     */
+    public long getAllowed() {
+        return allowed.sum();
+    }
+
+    /**
+     * Checks negados (401 ou 503)
+     */
+    public long getDenied() {
+        return denied.sum();
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.bapadua.jwt.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Sobe a backend-challenge (ou o jwt-standalone-server) em um processo separado, em uma porta livre aleatória
+ * 
+ * O processo separado evita que o gerador de carga dispute CPU e heap com o servidor medido.
+ * O servidor é considerado pronto quando /actuator/health responde 200; o intervalo entre o
+ * lançamento do processo e essa resposta é o tempo de inicialização reportado.
+ */
+public class BackendLauncher implements AutoCloseable {
+    
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+    
+    /**
+     * Polling curto: o standalone sobe em ~100 ms e 250 ms de intervalo dominariam a medição
+     */
+    private static final long READY_POLL_MILLIS = 10;
+    
+    private final Process process;
+    private final URI baseUri;
+    private final long launchedAt;
+    private long startupMillis;
+    
+    private BackendLauncher(Process process, URI baseUri, long launchedAt) {
+        this.process = process;
+        this.baseUri = baseUri;
+        this.launchedAt = launchedAt;
+    }
+    
+    /**
+     * Inicia o jar executável da backend-challenge com os argumentos extras (ex.: --jwt.validation.coalescing.enabled=false)
+     */
+    public static BackendLauncher start(Path backendJar, List<String> serverArgs, Path logFile)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        
+        List<String> command = javaCommand(List.of(), backendJar);
+        command.add("--server.port=" + port);
+        // Logs por requisição distorcem a latência medida
+        command.add("--logging.level.io.github.bapadua.jwt=WARN");
+        command.addAll(serverArgs);
+        return launch(command, port, logFile);
+    }
+    
+    /**
+     * Inicia o jar do jwt-standalone-server; jvmArgs vão antes do -jar (ex.: -XX:SharedArchiveFile=...)
+     */
+    public static BackendLauncher startStandalone(Path standaloneJar, List<String> jvmArgs, Path logFile)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        
+        List<String> command = javaCommand(jvmArgs, standaloneJar);
+        command.add("--port=" + port);
+        return launch(command, port, logFile);
+    }
+    
+    private static List<String> javaCommand(List<String> jvmArgs, Path jar) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        return command;
+    }
+    
+    private static BackendLauncher launch(List<String> command, int port, Path logFile)
+            throws IOException, InterruptedException {
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        URI baseUri = URI.create("http://localhost:" + port + "/");
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        // Primeira tentativa (conexão recusada) antes do lançamento: a inicialização do próprio
+        // HttpClient não entra no tempo de inicialização do servidor
+        isHealthy(client, health);
+        
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        
+        BackendLauncher launcher = new BackendLauncher(process, baseUri, launchedAt);
+        try {
+            launcher.awaitReady(client, health);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            launcher.close();
+            throw e;
+        }
+        return launcher;
+    }
+    
+    private void awaitReady(HttpClient client, HttpRequest health) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Servidor encerrou durante a inicialização (código " + process.exitValue() + ")");
+            }
+            if (isHealthy(client, health)) {
+                startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchedAt);
+                return;
+            }
+            Thread.sleep(READY_POLL_MILLIS);
+        }
+        throw new IOException("Servidor não ficou pronto em " + STARTUP_TIMEOUT.toSeconds() + "s");
+    }
+    
+    private static boolean isHealthy(HttpClient client, HttpRequest health) throws InterruptedException {
+        try {
+            return client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // Servidor ainda não aceita conexões
+            return false;
+        }
+    }
+    
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+    
+    public URI getBaseUri() {
+        return baseUri;
+    }
+    
+    /**
+     * Do lançamento do processo até o primeiro 200 em /actuator/health
+     */
+    public long getStartupMillis() {
+        return startupMillis;
+    }
+    
+    /**
+     * Memória residente atual do processo (VmRSS), ou -1 fora do Linux
+     */
+    public long getResidentSetKilobytes() {
+        return procStatusKilobytes("VmRSS:");
+    }
+    
+    /**
+     * Pico de memória residente do processo (VmHWM), ou -1 fora do Linux
+     */
+    public long getPeakResidentSetKilobytes() {
+        return procStatusKilobytes("VmHWM:");
+    }
+    
+    private long procStatusKilobytes(String field) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", Long.toString(process.pid()), "status"))) {
+            return lines.filter(line -> line.startsWith(field))
+                    .map(line -> line.substring(field.length()).replace("kB", "").trim())
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException | UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+    
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
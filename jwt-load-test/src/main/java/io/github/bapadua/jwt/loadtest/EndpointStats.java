@@ -0,0 +1,69 @@
+package io.github.bapadua.jwt.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latências (HdrHistogram, em microssegundos) e contagem de respostas de um cenário
+ */
+public class EndpointStats {
+    
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Registra uma resposta; status 0 indica falha de transporte (timeout, conexão recusada)
+     */
+    public void record(int status, long latencyMicros) {
+        recorder.recordValue(Math.max(1, latencyMicros));
+        if (status >= 200 && status < 300) {
+            success.increment();
+        } else if (status >= 400 && status < 500) {
+            clientErrors.increment();
+        } else {
+            failures.increment();
+        }
+    }
+    
+    /**
+     * Descarta o que foi registrado até agora (fim do aquecimento)
+     */
+    public void reset() {
+        recorder.reset();
+        success.reset();
+        clientErrors.reset();
+        failures.reset();
+    }
+    
+    /**
+     * Histograma acumulado desde o último reset (consumido uma única vez, ao final da execução)
+     */
+    public Histogram getHistogram() {
+        return recorder.getIntervalHistogram();
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public long getSuccess() {
+        return success.sum();
+    }
+    
+    public long getClientErrors() {
+        return clientErrors.sum();
+    }
+    
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.bapadua.jwt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cenário de carga derivado de um item da collection Postman
+ * 
+ * Caminho, headers e body são templates em que TOKEN_PLACEHOLDER é substituído
+ * pelo token sintético de cada requisição.
+ */
+public class LoadScenario {
+    
+    public static final String TOKEN_PLACEHOLDER = "${token}";
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final String name;
+    private final String method;
+    private final String pathTemplate;
+    private final List<Map.Entry<String, String>> headerTemplates;
+    private final String bodyTemplate;
+    private final int weight;
+    
+    public LoadScenario(String name, String method, String pathTemplate,
+                        List<Map.Entry<String, String>> headerTemplates, String bodyTemplate, int weight) {
+        this.name = name;
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.headerTemplates = List.copyOf(headerTemplates);
+        this.bodyTemplate = bodyTemplate;
+        this.weight = weight;
+    }
+    
+    /**
+     * Monta a requisição para o servidor base com o token informado
+     */
+    public HttpRequest toRequest(URI baseUri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(fill(pathTemplate, token)))
+                .timeout(REQUEST_TIMEOUT)
+                .method(method, bodyTemplate == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(fill(bodyTemplate, token)));
+        
+        for (Map.Entry<String, String> header : headerTemplates) {
+            builder.header(header.getKey(), fill(header.getValue(), token));
+        }
+        return builder.build();
+    }
+    
+    private static String fill(String template, String token) {
+        return template.replace(TOKEN_PLACEHOLDER, token);
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getMethod() {
+        return method;
+    }
+    
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+    
+    public List<Map.Entry<String, String>> getHeaderTemplates() {
+        return headerTemplates;
+    }
+    
+    public String getBodyTemplate() {
+        return bodyTemplate;
+    }
+    
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.bapadua.jwt.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.HdrHistogram.Histogram;
+
+import io.github.bapadua.jwt.generator.SeedMagnitude;
+import io.github.bapadua.jwt.generator.SyntheticTokenGenerator;
+
+/**
+ * CLI do teste de carga
+ * 
+ * Uso: java -jar jwt-load-test.jar [opções]
+ *   --collection=collection/challenge.postman_collection.json
+ *   --backend-jar=backend-challenge/target/backend-challenge-0.0.1-SNAPSHOT.jar  (sobe o servidor em porta aleatória)
+ *   --standalone-jar=jwt-standalone-server/target/jwt-standalone-server.jar  (sobe o servidor sem Spring no lugar da backend-challenge)
+ *   --jvm-arg=-XX:SharedArchiveFile=...   (repetível, opção de JVM do servidor standalone)
+ *   --target=http://localhost:8090/       (usa um servidor já em execução em vez de subir o jar)
+ *   --server-arg=--chave=valor            (repetível, repassado ao servidor iniciado)
+ *   --rate=200 --warmup=10s --duration=30s --seed=42 --max-in-flight=2000
+ *   --valid-ratio=0.8 --reuse-ratio=0 --seed-mix=SMALL=90,LONG=9,LARGE=1  (distribuição dos tokens sintéticos)
+ *   --weights="valida header=5,valida body=2" --output=target/load-test
+ * 
+ * Imprime os percentis por endpoint e grava a distribuição completa (.hgrm) de cada um no diretório de saída.
+ * Quando o servidor é iniciado pela CLI, imprime também o tempo de inicialização e a memória residente.
+ */
+public final class LoadTestCli {
+    
+    private static final int TOKEN_POOL_SIZE = 10_000;
+    
+    private LoadTestCli() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Path collection = Path.of("collection/challenge.postman_collection.json");
+        Path backendJar = null;
+        Path standaloneJar = null;
+        List<String> jvmArgs = new ArrayList<>();
+        URI target = null;
+        List<String> serverArgs = new ArrayList<>();
+        double rate = 200;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        SyntheticTokenGenerator.Builder tokenWorkload = SyntheticTokenGenerator.builder();
+        long seed = 42;
+        int maxInFlight = 2_000;
+        Map<String, Integer> weights = new HashMap<>();
+        Path output = Path.of("target/load-test");
+        
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--collection=")) {
+                collection = Path.of(value);
+            } else if (arg.startsWith("--backend-jar=")) {
+                backendJar = Path.of(value);
+            } else if (arg.startsWith("--standalone-jar=")) {
+                standaloneJar = Path.of(value);
+            } else if (arg.startsWith("--jvm-arg=")) {
+                jvmArgs.add(value);
+            } else if (arg.startsWith("--target=")) {
+                target = URI.create(value.endsWith("/") ? value : value + "/");
+            } else if (arg.startsWith("--server-arg=")) {
+                serverArgs.add(value);
+            } else if (arg.startsWith("--rate=")) {
+                rate = Double.parseDouble(value);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = parseDuration(value);
+            } else if (arg.startsWith("--duration=")) {
+                duration = parseDuration(value);
+            } else if (arg.startsWith("--valid-ratio=")) {
+                tokenWorkload.validRatio(Double.parseDouble(value));
+            } else if (arg.startsWith("--reuse-ratio=")) {
+                tokenWorkload.reuse(Double.parseDouble(value), 1024);
+            } else if (arg.startsWith("--seed-mix=")) {
+                tokenWorkload.seedMagnitudes(parseSeedMix(value));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--max-in-flight=")) {
+                maxInFlight = Integer.parseInt(value);
+            } else if (arg.startsWith("--weights=")) {
+                weights.putAll(parseWeights(value));
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(value);
+            } else {
+                System.err.println("Opção desconhecida: " + arg);
+                System.exit(2);
+            }
+        }
+        
+        List<LoadScenario> scenarios = PostmanCollectionLoader.load(collection, weights);
+        SyntheticTokenSource tokens = new SyntheticTokenSource(tokenWorkload.seed(seed).build(), TOKEN_POOL_SIZE);
+        Files.createDirectories(output);
+        
+        BackendLauncher launcher = null;
+        try {
+            if (target == null && standaloneJar != null) {
+                launcher = BackendLauncher.startStandalone(standaloneJar, jvmArgs, output.resolve("standalone.log"));
+                target = launcher.getBaseUri();
+            } else if (target == null) {
+                launcher = BackendLauncher.start(backendJar != null ? backendJar : findBackendJar(),
+                        serverArgs, output.resolve("backend.log"));
+                target = launcher.getBaseUri();
+            }
+            
+            System.out.printf("Carga: %d cenários, %.0f req/s, aquecimento %ds, medição %ds em %s%n",
+                    scenarios.size(), rate, warmup.toSeconds(), duration.toSeconds(), target);
+            
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(target, scenarios, tokens, maxInFlight, seed);
+            List<EndpointStats> stats = generator.run(rate, warmup, duration);
+            
+            report(stats, generator.getDropped(), duration, output);
+            if (launcher != null) {
+                System.out.printf("Servidor: inicialização %d ms, RSS %.1f MiB (pico %.1f MiB)%n", launcher.getStartupMillis(),
+                        launcher.getResidentSetKilobytes() / 1024.0, launcher.getPeakResidentSetKilobytes() / 1024.0);
+            }
+        } finally {
+            if (launcher != null) {
+                launcher.close();
+            }
+        }
+    }
+    
+    private static void report(List<EndpointStats> stats, long dropped, Duration duration, Path output) throws IOException {
+        PrintStream out = System.out;
+        out.printf("%-24s %8s %6s %6s %8s %8s %8s %8s %8s%n",
+                "endpoint", "count", "4xx", "erros", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        
+        long answered = 0;
+        for (EndpointStats endpoint : stats) {
+            Histogram histogram = endpoint.getHistogram();
+            answered += histogram.getTotalCount() - endpoint.getFailures();
+            out.printf("%-24s %8d %6d %6d %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    endpoint.getName(), histogram.getTotalCount(), endpoint.getClientErrors(), endpoint.getFailures(),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+            
+            Path file = output.resolve(endpoint.getName().replaceAll("[^A-Za-z0-9._-]", "_") + ".hgrm");
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        
+        // Taxa atingida: pode ficar abaixo de --rate quando o servidor satura
+        out.printf("Respostas: %.1f req/s%n", answered / (duration.toMillis() / 1000.0));
+        if (dropped > 0) {
+            out.printf("Chegadas descartadas pelo limite de requisições em voo: %d%n", dropped);
+        }
+        out.println("Distribuições completas (.hgrm, ms) em " + output.toAbsolutePath());
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+    
+    private static Path findBackendJar() throws IOException {
+        Path targetDir = Path.of("backend-challenge/target");
+        try (Stream<Path> files = Files.list(targetDir)) {
+            return files.filter(file -> file.getFileName().toString().matches("backend-challenge-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IOException("Jar da backend-challenge não encontrado em " + targetDir
+                            + " (execute mvn package ou informe --backend-jar/--target)"));
+        }
+    }
+    
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("s")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+    
+    static Map<String, Integer> parseWeights(String value) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                weights.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+            }
+        }
+        return weights;
+    }
+    
+    static Map<SeedMagnitude, Integer> parseSeedMix(String value) {
+        Map<SeedMagnitude, Integer> mix = new EnumMap<>(SeedMagnitude.class);
+        parseWeights(value).forEach((magnitude, weight) -> mix.put(SeedMagnitude.valueOf(magnitude.toUpperCase()), weight));
+        return mix;
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.bapadua.jwt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto
+ * 
+ * As chegadas seguem um processo de Poisson com a taxa configurada, independente das respostas:
+ * um servidor lento acumula requisições em voo em vez de reduzir a carga. A latência é medida a partir
+ * do instante planejado de envio, evitando coordinated omission quando o próprio gerador atrasa.
+ * Chegadas acima do limite de requisições em voo são descartadas e contabilizadas.
+ */
+public class OpenModelLoadGenerator {
+    
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    
+    private final URI baseUri;
+    private final List<LoadScenario> scenarios;
+    private final List<EndpointStats> stats;
+    private final int[] cumulativeWeights;
+    private final SyntheticTokenSource tokens;
+    private final Random random;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final LongAdder dropped = new LongAdder();
+    
+    public OpenModelLoadGenerator(URI baseUri, List<LoadScenario> scenarios, SyntheticTokenSource tokens,
+                                  int maxInFlight, long seed) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum cenário de carga configurado");
+        }
+        this.baseUri = baseUri;
+        this.scenarios = List.copyOf(scenarios);
+        this.tokens = tokens;
+        this.random = new Random(seed);
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        
+        this.stats = new ArrayList<>(scenarios.size());
+        this.cumulativeWeights = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            stats.add(new EndpointStats(scenarios.get(i).getName()));
+            total += scenarios.get(i).getWeight();
+            cumulativeWeights[i] = total;
+        }
+    }
+    
+    /**
+     * Executa o aquecimento (descartado) seguido da medição, na taxa em requisições por segundo
+     */
+    public List<EndpointStats> run(double ratePerSecond, Duration warmup, Duration duration) throws InterruptedException {
+        drive(ratePerSecond, warmup);
+        stats.forEach(EndpointStats::reset);
+        dropped.reset();
+        
+        drive(ratePerSecond, duration);
+        return stats;
+    }
+    
+    private void drive(double ratePerSecond, Duration duration) throws InterruptedException {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intendedStart = start;
+        
+        while (true) {
+            // Intervalo exponencial entre chegadas (processo de Poisson)
+            intendedStart += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (intendedStart >= end) {
+                break;
+            }
+            
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            int index = pickScenario();
+            if (!inFlight.tryAcquire()) {
+                dropped.increment();
+                continue;
+            }
+            send(index, intendedStart);
+        }
+        
+        // Aguarda as requisições em voo desta fase
+        if (inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+    }
+    
+    private void send(int index, long intendedStart) {
+        HttpRequest request = scenarios.get(index).toRequest(baseUri, tokens.next());
+        EndpointStats endpoint = stats.get(index);
+        
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                    endpoint.record(error == null ? response.statusCode() : 0, latencyMicros);
+                    inFlight.release();
+                });
+    }
+    
+    private int pickScenario() {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+    
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
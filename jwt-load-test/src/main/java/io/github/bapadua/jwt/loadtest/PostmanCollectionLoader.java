@@ -0,0 +1,102 @@
+package io.github.bapadua.jwt.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converte a collection Postman (v2.1) em cenários de carga ponderados
+ * 
+ * - Apenas itens com URL relativa ao servidor ({{protocol}}://{{url}}:{{port}}) são considerados;
+ *   itens externos, como a URL do Lambda, são ignorados.
+ * - {{jwt_token}}, o valor literal dessa variável e SEU_JWT_TOKEN_AQUI viram o placeholder do token sintético.
+ * - As demais variáveis são substituídas pelos valores definidos na collection.
+ */
+public final class PostmanCollectionLoader {
+    
+    private static final String SERVER_PREFIX = "{{protocol}}://{{url}}:{{port}}";
+    private static final String TOKEN_VARIABLE = "jwt_token";
+    private static final String TOKEN_SAMPLE = "SEU_JWT_TOKEN_AQUI";
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{([^}]+)}}");
+    
+    private PostmanCollectionLoader() {
+    }
+    
+    /**
+     * Carrega os cenários; o peso padrão é 1 e pode ser sobrescrito pelo nome do item
+     */
+    public static List<LoadScenario> load(Path collection, Map<String, Integer> weights) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(collection.toFile());
+        
+        Map<String, String> variables = new HashMap<>();
+        for (JsonNode variable : root.path("variable")) {
+            variables.put(variable.path("key").asText(), variable.path("value").asText());
+        }
+        
+        List<LoadScenario> scenarios = new ArrayList<>();
+        collectItems(root.path("item"), variables, weights, scenarios);
+        return scenarios;
+    }
+    
+    private static void collectItems(JsonNode items, Map<String, String> variables,
+                                     Map<String, Integer> weights, List<LoadScenario> scenarios) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                // Pastas da collection
+                collectItems(item.path("item"), variables, weights, scenarios);
+                continue;
+            }
+            
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            String rawUrl = url.isTextual() ? url.asText() : url.path("raw").asText();
+            if (!rawUrl.startsWith(SERVER_PREFIX)) {
+                continue;
+            }
+            
+            String name = item.path("name").asText();
+            int weight = weights.getOrDefault(name, 1);
+            if (weight <= 0) {
+                continue;
+            }
+            
+            List<Map.Entry<String, String>> headers = new ArrayList<>();
+            for (JsonNode header : request.path("header")) {
+                if (!header.path("disabled").asBoolean(false)) {
+                    headers.add(Map.entry(header.path("key").asText(), resolve(header.path("value").asText(), variables)));
+                }
+            }
+            
+            JsonNode body = request.path("body");
+            String bodyTemplate = "raw".equals(body.path("mode").asText()) ? resolve(body.path("raw").asText(), variables) : null;
+            
+            scenarios.add(new LoadScenario(name, request.path("method").asText("GET"),
+                    resolve(rawUrl.substring(SERVER_PREFIX.length()), variables), headers, bodyTemplate, weight));
+        }
+    }
+    
+    static String resolve(String template, Map<String, String> variables) {
+        String sampleToken = variables.get(TOKEN_VARIABLE);
+        String resolved = template.replace("{{" + TOKEN_VARIABLE + "}}", LoadScenario.TOKEN_PLACEHOLDER)
+                .replace(TOKEN_SAMPLE, LoadScenario.TOKEN_PLACEHOLDER);
+        if (sampleToken != null && !sampleToken.isEmpty()) {
+            resolved = resolved.replace(sampleToken, LoadScenario.TOKEN_PLACEHOLDER);
+        }
+        
+        Matcher matcher = VARIABLE.matcher(resolved);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(variables.getOrDefault(matcher.group(1), "")));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
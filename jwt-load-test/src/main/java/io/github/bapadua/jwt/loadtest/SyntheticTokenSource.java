@@ -0,0 +1,32 @@
+package io.github.bapadua.jwt.loadtest;
+
+import io.github.bapadua.jwt.generator.SyntheticToken;
+import io.github.bapadua.jwt.generator.SyntheticTokenGenerator;
+
+/**
+ * Pool de tokens sintéticos para a carga
+ * 
+ * O pool é preenchido uma vez a partir do SyntheticTokenGenerator: gerar Seeds primas grandes
+ * na thread do agendador atrasaria as chegadas planejadas.
+ */
+public class SyntheticTokenSource {
+    
+    private final String[] tokens;
+    private int next;
+    
+    public SyntheticTokenSource(SyntheticTokenGenerator generator, int poolSize) {
+        this.tokens = generator.stream()
+                .limit(poolSize)
+                .map(SyntheticToken::getToken)
+                .toArray(String[]::new);
+    }
+    
+    /**
+     * Próximo token do pool (chamado apenas pela thread do agendador)
+     */
+    public String next() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+}
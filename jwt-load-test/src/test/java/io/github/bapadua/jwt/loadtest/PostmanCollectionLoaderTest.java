@@ -0,0 +1,58 @@
+package io.github.bapadua.jwt.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para PostmanCollectionLoader
+ */
+class PostmanCollectionLoaderTest {
+
+    private static final Path COLLECTION = Path.of("../collection/challenge.postman_collection.json");
+
+    @Test
+    @DisplayName("Deve converter os itens do servidor em cenários, ignorando o Lambda")
+    void testLoadsServerScenarios() throws Exception {
+        List<LoadScenario> scenarios = PostmanCollectionLoader.load(COLLECTION, Map.of("valida header", 5, "valida body", 0));
+
+        assertFalse(scenarios.stream().anyMatch(scenario -> scenario.getName().equals("aws lambda")));
+        assertFalse(scenarios.stream().anyMatch(scenario -> scenario.getName().equals("valida body")));
+
+        LoadScenario header = scenario(scenarios, "valida header");
+        assertEquals(5, header.getWeight());
+        assertEquals("/api/jwt/validate", header.getPathTemplate());
+        assertEquals(Map.entry("Authorization", "Bearer " + LoadScenario.TOKEN_PLACEHOLDER), header.getHeaderTemplates().get(0));
+
+        // Token literal do body também vira placeholder
+        LoadScenario directHeader = scenario(scenarios, "valida header directly");
+        assertTrue(directHeader.getBodyTemplate().contains(LoadScenario.TOKEN_PLACEHOLDER));
+        assertFalse(directHeader.getBodyTemplate().contains("eyJ"));
+    }
+
+    @Test
+    @DisplayName("Deve montar a requisição substituindo o token sintético")
+    void testBuildsRequestWithToken() throws Exception {
+        List<LoadScenario> scenarios = PostmanCollectionLoader.load(COLLECTION, Map.of());
+
+        HttpRequest path = scenario(scenarios, "valida path").toRequest(URI.create("http://localhost:8080/"), "a.b.c");
+        HttpRequest delete = scenario(scenarios, "DELETE valida param").toRequest(URI.create("http://localhost:8080/"), "a.b.c");
+
+        assertEquals(URI.create("http://localhost:8080/api/jwt/validate-path/a.b.c"), path.uri());
+        assertEquals("DELETE", delete.method());
+        assertEquals(URI.create("http://localhost:8080/api/jwt/validate-direct-param?jwt=a.b.c"), delete.uri());
+    }
+
+    private static LoadScenario scenario(List<LoadScenario> scenarios, String name) {
+        return scenarios.stream().filter(scenario -> scenario.getName().equals(name)).findFirst().orElseThrow();
+    }
+}
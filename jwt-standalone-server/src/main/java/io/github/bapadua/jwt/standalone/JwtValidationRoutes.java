@@ -0,0 +1,293 @@
+package io.github.bapadua.jwt.standalone;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+
+/**
+ * Rotas /api/jwt/* com o mesmo contrato do JwtValidationController
+ *
+ * A extração do token segue o JwtValidationAspect: headers com prefixo "Bearer " removido
+ * (exceto X-Auth-Token em validate-custom-header), path variable, query param jwt e propriedades
+ * do body JSON. Endpoints booleanos respondem 200 com true/false; /claims responde 401 com o
+ * mesmo ErrorResponse do GlobalExceptionHandler.
+ *
+ * Diferença conhecida: header/param obrigatório ausente responde false em vez do erro do Spring MVC.
+ */
+final class JwtValidationRoutes implements HttpHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtValidationRoutes.class);
+
+    static final String BASE_PATH = "/api/jwt/";
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TOKEN_NOT_FOUND = errorBody("Token JWT não encontrado");
+    private static final byte[] TOKEN_INVALID = errorBody("Token JWT inválido ou expirado");
+
+    private final JwtValidationService validationService;
+
+    JwtValidationRoutes(JwtValidationService validationService) {
+        this.validationService = validationService;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String route = path.substring(BASE_PATH.length());
+            int slash = route.indexOf('/');
+            String pathVariable = slash >= 0 ? route.substring(slash + 1) : null;
+            String name = slash >= 0 ? route.substring(0, slash) : route;
+            String method = exchange.getRequestMethod();
+
+            switch (name) {
+                case "validate" -> respondIf(anyOf(method, "GET", "PUT"), exchange, () -> header(exchange, "Authorization", true));
+                case "validate-param" -> respondIf(anyOf(method, "GET", "PATCH"), exchange, () -> queryParam(exchange, "jwt"));
+                case "validate-direct-param" -> respondIf(anyOf(method, "GET", "DELETE"), exchange, () -> queryParam(exchange, "jwt"));
+                case "validate-path", "validate-direct-path" ->
+                        respondIf(anyOf(method, "GET", "PATCH") && pathVariable != null, exchange, () -> pathVariable);
+                case "validate-custom-header" -> respondIf(anyOf(method, "POST"), exchange, () -> header(exchange, "X-Auth-Token", false));
+                case "validate-direct-header" -> respondIf(anyOf(method, "POST", "PUT"), exchange, () -> header(exchange, "Authorization", true));
+                case "validate-body" -> respondIf(anyOf(method, "POST", "PUT"), exchange, () -> bodyField(exchange, "jwtToken", "authToken"));
+                case "validate-body-specific" -> respondIf(anyOf(method, "POST"), exchange, () -> bodyField(exchange, "adminToken", "userToken"));
+                case "validate-body-all" -> respondAll(anyOf(method, "POST"), exchange);
+                case "validate-body-any" -> respondIf(anyOf(method, "POST"), exchange, () -> firstValid(bodyValues(exchange, "userToken", "adminToken")));
+                case "validate-body-optional" -> respondOptional(anyOf(method, "POST"), exchange);
+                case "validate-optional" -> respondOptional(anyOf(method, "GET", "DELETE"), exchange);
+                case "validate-multiple" -> respondIf(anyOf(method, "GET", "DELETE") && pathVariable != null, exchange,
+                        () -> firstPresent(header(exchange, "X-Auth-Token", true), pathVariable, queryParam(exchange, "jwt")));
+                case "claims" -> {
+                    if (anyOf(method, "GET")) {
+                        claims(exchange);
+                    } else {
+                        send(exchange, 405, null);
+                    }
+                }
+                default -> send(exchange, 404, null);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Erro ao processar {}: {}", exchange.getRequestURI().getPath(), e.getMessage());
+            send(exchange, 500, null);
+        }
+    }
+
+    /**
+     * Métodos aceitos por rota, como os @GetMapping/@PutMapping/@PatchMapping/@DeleteMapping do controller
+     */
+    private static boolean anyOf(String method, String... accepted) {
+        for (String candidate : accepted) {
+            if (candidate.equals(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface TokenSource {
+        String token() throws IOException;
+    }
+
+    /**
+     * Endpoints ResponseEntity<Boolean>: 200 com o veredito
+     */
+    private void respondIf(boolean methodMatches, HttpExchange exchange, TokenSource source) throws IOException {
+        if (!methodMatches) {
+            send(exchange, 405, null);
+            return;
+        }
+        String token = source.token();
+        boolean valid = token != null && !token.isBlank() && validationService.validate(token).isValid();
+        send(exchange, 200, valid ? TRUE : FALSE);
+    }
+
+    /**
+     * policy = ALL: adminToken obrigatório e userToken, se presente, também válido
+     */
+    private void respondAll(boolean methodMatches, HttpExchange exchange) throws IOException {
+        if (!methodMatches) {
+            send(exchange, 405, null);
+            return;
+        }
+        String[] tokens = bodyValues(exchange, "adminToken", "userToken");
+        boolean valid = tokens != null && tokens[0] != null && validationService.validate(tokens[0]).isValid()
+                && (tokens[1] == null || validationService.validate(tokens[1]).isValid());
+        send(exchange, 200, valid ? TRUE : FALSE);
+    }
+
+    /**
+     * policy = ANY: primeiro token válido, ou null quando nenhum é
+     */
+    private String firstValid(String[] tokens) {
+        if (tokens != null) {
+            for (String token : tokens) {
+                if (token != null && validationService.validate(token).isValid()) {
+                    return token;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Endpoints com optional = true respondem true com ou sem token
+     */
+    private static void respondOptional(boolean methodMatches, HttpExchange exchange) throws IOException {
+        send(exchange, methodMatches ? 200 : 405, methodMatches ? TRUE : null);
+    }
+
+    private void claims(HttpExchange exchange) throws IOException {
+        String token = header(exchange, "Authorization", true);
+        if (token == null || token.isBlank()) {
+            send(exchange, 401, TOKEN_NOT_FOUND);
+            return;
+        }
+        JwtValidationResult result = validationService.validate(token);
+        if (!result.isValid()) {
+            send(exchange, 401, TOKEN_INVALID);
+            return;
+        }
+        Map<String, String> claims = result.getClaims();
+        send(exchange, 200, ("{\"Name\":" + jsonString(claims.get("Name")) + ",\"Role\":" + jsonString(claims.get("Role")) + "}")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String header(HttpExchange exchange, String name, boolean removeBearerPrefix) {
+        String value = exchange.getRequestHeaders().getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        if (removeBearerPrefix && value.regionMatches(true, 0, "bearer ", 0, 7)) {
+            return value.substring(7).trim();
+        }
+        return value;
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.regionMatches(0, name, 0, separator) && separator == name.length()) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Primeira propriedade string não vazia do body, na ordem informada (prefixo Bearer removido)
+     */
+    private static String bodyField(HttpExchange exchange, String... fields) throws IOException {
+        String[] values = bodyValues(exchange, fields);
+        if (values != null) {
+            for (String value : values) {
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Propriedades string do body na ordem informada (null se ausentes ou vazias, prefixo Bearer
+     * removido) ou null para JSON inválido
+     */
+    private static String[] bodyValues(HttpExchange exchange, String... fields) throws IOException {
+        String[] values = new String[fields.length];
+        try (InputStream body = exchange.getRequestBody(); JsonParser parser = Json.FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                for (int i = 0; i < fields.length; i++) {
+                    if (value == JsonToken.VALUE_STRING && fields[i].equals(field)) {
+                        values[i] = parser.getText();
+                    }
+                }
+                parser.skipChildren();
+            }
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            return null;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i] == null || values[i].isBlank() ? null : values[i].trim();
+            values[i] = value != null && value.regionMatches(true, 0, "bearer ", 0, 7) ? value.substring(7).trim() : value;
+        }
+        return values;
+    }
+
+    /**
+     * Jackson carregado só no primeiro endpoint com body, fora do caminho de inicialização
+     */
+    private static final class Json {
+        static final JsonFactory FACTORY = new JsonFactory();
+    }
+
+    private static String firstPresent(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.isBlank()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] errorBody(String message) {
+        return ("{\"code\":\"JWT_VALIDATION_ERROR\",\"message\":" + jsonString(message) + ",\"status\":401}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String jsonString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+}
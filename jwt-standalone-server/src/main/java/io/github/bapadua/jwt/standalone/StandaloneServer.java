@@ -0,0 +1,113 @@
+package io.github.bapadua.jwt.standalone;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.impl.AdmissionControlledPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+
+/**
+ * Servidor HTTP sem Spring (com.sun.net.httpserver + virtual threads) para implantações enxutas
+ *
+ * Uso: java -jar jwt-standalone-server.jar [--port=8080]
+ *
+ * Para inicialização abaixo de ~100 ms: -XX:+UseSerialGC -XX:TieredStopAtLevel=1 e um arquivo AppCDS
+ * (-XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=jwt-standalone.jsa, criado na primeira execução).
+ *
+ * Expõe /api/jwt/* (JwtValidationRoutes) e /actuator/health, para reaproveitar probes e
+ * healthchecks da backend-challenge. O tempo de inicialização (início da JVM até o socket
+ * aceitar conexões) é registrado no log.
+ */
+public final class StandaloneServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandaloneServer.class);
+
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final byte[] HEALTH_UP = "{\"status\":\"UP\"}".getBytes(StandardCharsets.US_ASCII);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StandaloneServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Inicia o servidor na porta informada (0 para uma porta livre)
+     */
+    public static StandaloneServer start(JwtValidationService validationService, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(JwtValidationRoutes.BASE_PATH, new JwtValidationRoutes(validationService));
+        server.createContext("/actuator/health", exchange -> {
+            try (exchange) {
+                JwtValidationRoutes.send(exchange, 200, HEALTH_UP);
+            }
+        });
+        server.start();
+        return new StandaloneServer(server, executor);
+    }
+
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring(arg.indexOf('=') + 1));
+            } else {
+                System.err.println("Opção desconhecida: " + arg);
+                System.err.println("Uso: java -jar jwt-standalone-server.jar [--port=" + DEFAULT_PORT + "]");
+                System.exit(2);
+            }
+        }
+
+        try {
+            StandaloneServer server = start(createValidationService(), port);
+            long readyAt = System.currentTimeMillis();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "jwt-standalone-shutdown"));
+
+            // Início da JVM lido só depois do start: o java.management fica fora do tempo medido
+            logger.info("Servidor iniciado em {} ms na porta {}",
+                    readyAt - ManagementFactory.getRuntimeMXBean().getStartTime(), server.getPort());
+        } catch (IOException e) {
+            System.err.println("Erro ao iniciar o servidor: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Monta o serviço de validação sem Spring, com a mesma composição do JwtLambdaService
+     */
+    static JwtValidationService createValidationService() {
+        JwtValidationProperties.PrimeCheck primeCheck = new JwtValidationProperties.PrimeCheck();
+        AdmissionControlledPrimeNumberValidator primeValidator = new AdmissionControlledPrimeNumberValidator(
+                new BailliePswPrimeNumberValidator(primeCheck.getMaxDigits()), primeCheck);
+        return new DefaultJwtValidationService(new DefaultJwtClaimsExtractor(), new DefaultJwtClaimsValidator(primeValidator));
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
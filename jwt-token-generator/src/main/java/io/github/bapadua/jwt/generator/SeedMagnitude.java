@@ -0,0 +1,32 @@
+package io.github.bapadua.jwt.generator;
+
+/**
+ * Faixa de tamanho (em bits) da Seed gerada
+ */
+public enum SeedMagnitude {
+    
+    /** Até 31 bits, como as Seeds dos exemplos do desafio */
+    SMALL(2, 31),
+    
+    /** Cabe em long: caminho primitivo do validador de primos */
+    LONG(32, 62),
+    
+    /** Primos grandes adversariais (até ~96 dígitos, dentro do limite padrão de 100) */
+    LARGE(64, 320);
+    
+    private final int minBits;
+    private final int maxBits;
+    
+    SeedMagnitude(int minBits, int maxBits) {
+        this.minBits = minBits;
+        this.maxBits = maxBits;
+    }
+    
+    public int getMinBits() {
+        return minBits;
+    }
+    
+    public int getMaxBits() {
+        return maxBits;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.bapadua.jwt.generator;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Token sintético gerado com o tipo que o originou
+ */
+public final class SyntheticToken {
+    
+    private final String token;
+    private final TokenKind kind;
+    private final boolean reused;
+    
+    SyntheticToken(String token, TokenKind kind, boolean reused) {
+        this.token = token;
+        this.kind = kind;
+        this.reused = reused;
+    }
+    
+    public String getToken() {
+        return token;
+    }
+    
+    public TokenKind getKind() {
+        return kind;
+    }
+    
+    public JwtValidationReason getExpectedReason() {
+        return kind.getExpectedReason();
+    }
+    
+    /**
+     * Indica se o token é repetição de um token emitido recentemente
+     */
+    public boolean isReused() {
+        return reused;
+    }
+    
+    @Override
+    public String toString() {
+        return kind + (reused ? " (reuso): " : ": ") + token;
+    }
+}
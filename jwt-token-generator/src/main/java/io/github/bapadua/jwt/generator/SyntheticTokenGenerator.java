@@ -0,0 +1,251 @@
+package io.github.bapadua.jwt.generator;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+
+/**
+ * Gerador determinístico de tokens JWT sintéticos
+ * 
+ * A mesma semente produz sempre a mesma sequência. Os tokens são gerados sob demanda
+ * (apenas a janela de reuso fica em memória), então a sequência pode ser consumida como
+ * stream infinito. Não é thread-safe: use um gerador por thread, com sementes distintas.
+ * 
+ * Distribuições configuráveis:
+ * - proporção de tokens válidos e mistura dos tipos inválidos
+ * - tamanho da Seed (incluindo primos grandes adversariais)
+ * - tamanho do Name, até MAX_NAME_LENGTH
+ * - proporção de reuso de tokens recentes, para realismo de cache
+ */
+public final class SyntheticTokenGenerator implements Iterator<SyntheticToken> {
+    
+    private static final String HEADER = "eyJhbGciOiJIUzI1NiJ9";
+    private static final String[] ROLES = {"Admin", "Member", "External"};
+    private static final String[] INVALID_ROLES = {"Root", "admin", "Guest", ""};
+    private static final String NAME_LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    
+    private final Random random;
+    private final double validRatio;
+    private final WeightedChoice<TokenKind> invalidKinds;
+    private final WeightedChoice<SeedMagnitude> seedMagnitudes;
+    private final int minNameLength;
+    private final int maxNameLength;
+    private final double reuseRatio;
+    private final SyntheticToken[] reuseWindow;
+    private int reuseCount;
+    private int reuseNext;
+    
+    private SyntheticTokenGenerator(Builder builder) {
+        this.random = new Random(builder.seed);
+        this.validRatio = builder.validRatio;
+        this.invalidKinds = builder.validRatio < 1 ? new WeightedChoice<>(builder.invalidMix) : null;
+        this.seedMagnitudes = new WeightedChoice<>(builder.seedMagnitudes);
+        this.minNameLength = builder.minNameLength;
+        this.maxNameLength = builder.maxNameLength;
+        this.reuseRatio = builder.reuseRatio;
+        this.reuseWindow = new SyntheticToken[builder.reuseWindow];
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+    
+    @Override
+    public SyntheticToken next() {
+        if (reuseCount > 0 && random.nextDouble() < reuseRatio) {
+            SyntheticToken previous = reuseWindow[random.nextInt(reuseCount)];
+            return new SyntheticToken(previous.getToken(), previous.getKind(), true);
+        }
+        
+        TokenKind kind = random.nextDouble() < validRatio ? TokenKind.VALID : invalidKinds.pick(random);
+        SyntheticToken token = new SyntheticToken(generate(kind), kind, false);
+        
+        if (reuseWindow.length > 0) {
+            reuseWindow[reuseNext] = token;
+            reuseNext = (reuseNext + 1) % reuseWindow.length;
+            reuseCount = Math.min(reuseCount + 1, reuseWindow.length);
+        }
+        return token;
+    }
+    
+    /**
+     * Stream infinito e sequencial sobre este gerador
+     */
+    public Stream<SyntheticToken> stream() {
+        return Stream.generate(this::next);
+    }
+    
+    private String generate(TokenKind kind) {
+        return switch (kind) {
+            case EMPTY -> "";
+            case MALFORMED_STRUCTURE -> HEADER + "." + encode(payload(role(), primeSeed(), name(false)));
+            case UNDECODABLE_PAYLOAD -> HEADER + ".%%" + randomName(8) + "%%." + signature();
+            case NAME_WITH_DIGIT -> token(payload(role(), primeSeed(), name(true)));
+            case NAME_TOO_LONG -> token(payload(role(), primeSeed(),
+                    randomName(DefaultJwtClaimsValidator.MAX_NAME_LENGTH + 1 + random.nextInt(64))));
+            case INVALID_ROLE -> token(payload(INVALID_ROLES[random.nextInt(INVALID_ROLES.length)], primeSeed(), name(false)));
+            case COMPOSITE_SEED -> token(payload(role(), compositeSeed(), name(false)));
+            case EXTRA_CLAIM -> token(payload(role(), primeSeed(), name(false)).replace("}", ",\"Org\":\"Acme\"}"));
+            case VALID -> token(payload(role(), primeSeed(), name(false)));
+        };
+    }
+    
+    private String token(String payload) {
+        return HEADER + "." + encode(payload) + "." + signature();
+    }
+    
+    private static String payload(String role, BigInteger seed, String name) {
+        return "{\"Role\":\"" + role + "\",\"Seed\":\"" + seed + "\",\"Name\":\"" + name + "\"}";
+    }
+    
+    private String role() {
+        return ROLES[random.nextInt(ROLES.length)];
+    }
+    
+    private BigInteger primeSeed() {
+        return BigInteger.probablePrime(seedBits(), random);
+    }
+    
+    private BigInteger compositeSeed() {
+        int bits = Math.max(4, seedBits());
+        return BigInteger.probablePrime(bits / 2, random).multiply(BigInteger.probablePrime(bits - bits / 2, random));
+    }
+    
+    private int seedBits() {
+        SeedMagnitude magnitude = seedMagnitudes.pick(random);
+        return magnitude.getMinBits() + random.nextInt(magnitude.getMaxBits() - magnitude.getMinBits() + 1);
+    }
+    
+    private String name(boolean withDigit) {
+        String name = randomName(minNameLength + random.nextInt(maxNameLength - minNameLength + 1));
+        if (!withDigit) {
+            return name;
+        }
+        int position = random.nextInt(name.length());
+        return name.substring(0, position) + (char) ('0' + random.nextInt(10)) + name.substring(position + 1);
+    }
+    
+    private String randomName(int length) {
+        char[] name = new char[length];
+        for (int i = 0; i < length; i++) {
+            // Espaços ocasionais entre nome e sobrenome, nunca nas pontas
+            name[i] = i > 0 && i < length - 1 && name[i - 1] != ' ' && random.nextInt(8) == 0
+                    ? ' '
+                    : NAME_LETTERS.charAt(random.nextInt(NAME_LETTERS.length()));
+        }
+        return new String(name);
+    }
+    
+    private String signature() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+    
+    private static String encode(String payload) {
+        return ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Configuração do gerador
+     */
+    public static final class Builder {
+        
+        private long seed = 42;
+        private double validRatio = 0.8;
+        private final Map<TokenKind, Integer> invalidMix = new EnumMap<>(TokenKind.class);
+        private final Map<SeedMagnitude, Integer> seedMagnitudes = new EnumMap<>(SeedMagnitude.class);
+        private int minNameLength = 3;
+        private int maxNameLength = 32;
+        private double reuseRatio = 0;
+        private int reuseWindow = 1024;
+        
+        private Builder() {
+            for (TokenKind kind : TokenKind.values()) {
+                if (kind != TokenKind.VALID) {
+                    invalidMix.put(kind, 1);
+                }
+            }
+            seedMagnitudes.put(SeedMagnitude.SMALL, 90);
+            seedMagnitudes.put(SeedMagnitude.LONG, 9);
+            seedMagnitudes.put(SeedMagnitude.LARGE, 1);
+        }
+        
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+        
+        public Builder validRatio(double validRatio) {
+            this.validRatio = requireRatio(validRatio, "validRatio");
+            return this;
+        }
+        
+        /**
+         * Substitui a mistura de tipos inválidos (pesos relativos; VALID é controlado por validRatio)
+         */
+        public Builder invalidMix(Map<TokenKind, Integer> weights) {
+            if (weights.containsKey(TokenKind.VALID)) {
+                throw new IllegalArgumentException("VALID é controlado por validRatio");
+            }
+            invalidMix.clear();
+            invalidMix.putAll(weights);
+            return this;
+        }
+        
+        /**
+         * Substitui a distribuição de tamanho das Seeds (pesos relativos)
+         */
+        public Builder seedMagnitudes(Map<SeedMagnitude, Integer> weights) {
+            seedMagnitudes.clear();
+            seedMagnitudes.putAll(weights);
+            return this;
+        }
+        
+        public Builder nameLength(int min, int max) {
+            if (min < 1 || max < min || max > DefaultJwtClaimsValidator.MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Tamanho do Name deve estar entre 1 e "
+                        + DefaultJwtClaimsValidator.MAX_NAME_LENGTH);
+            }
+            this.minNameLength = min;
+            this.maxNameLength = max;
+            return this;
+        }
+        
+        /**
+         * Proporção de tokens repetidos, sorteados entre os últimos window tokens inéditos
+         */
+        public Builder reuse(double ratio, int window) {
+            if (window < 0) {
+                throw new IllegalArgumentException("window não pode ser negativo");
+            }
+            this.reuseRatio = requireRatio(ratio, "reuseRatio");
+            this.reuseWindow = window;
+            return this;
+        }
+        
+        public SyntheticTokenGenerator build() {
+            return new SyntheticTokenGenerator(this);
+        }
+        
+        private static double requireRatio(double ratio, String name) {
+            if (ratio < 0 || ratio > 1) {
+                throw new IllegalArgumentException(name + " deve estar entre 0 e 1");
+            }
+            return ratio;
+        }
+    }
+}
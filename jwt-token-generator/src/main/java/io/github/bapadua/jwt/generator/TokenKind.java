@@ -0,0 +1,46 @@
+package io.github.bapadua.jwt.generator;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Tipo de token sintético e o motivo esperado na validação
+ */
+public enum TokenKind {
+    
+    /** Token válido - todas as regras das claims atendidas */
+    VALID(JwtValidationReason.VALID),
+    
+    /** Token vazio */
+    EMPTY(JwtValidationReason.EMPTY_TOKEN),
+    
+    /** Apenas duas partes (sem assinatura) */
+    MALFORMED_STRUCTURE(JwtValidationReason.MALFORMED_STRUCTURE),
+    
+    /** Payload que não é Base64 URL válido */
+    UNDECODABLE_PAYLOAD(JwtValidationReason.UNDECODABLE_PAYLOAD),
+    
+    /** Name com dígitos */
+    NAME_WITH_DIGIT(JwtValidationReason.INVALID_CLAIMS),
+    
+    /** Name acima de MAX_NAME_LENGTH */
+    NAME_TOO_LONG(JwtValidationReason.INVALID_CLAIMS),
+    
+    /** Role fora de Admin, Member e External */
+    INVALID_ROLE(JwtValidationReason.INVALID_CLAIMS),
+    
+    /** Seed composta (produto de dois primos, resistente à divisão por primos pequenos) */
+    COMPOSITE_SEED(JwtValidationReason.INVALID_CLAIMS),
+    
+    /** Claim extra além de Name, Role e Seed */
+    EXTRA_CLAIM(JwtValidationReason.INVALID_CLAIMS);
+    
+    private final JwtValidationReason expectedReason;
+    
+    TokenKind(JwtValidationReason expectedReason) {
+        this.expectedReason = expectedReason;
+    }
+    
+    public JwtValidationReason getExpectedReason() {
+        return expectedReason;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.bapadua.jwt.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Sorteio ponderado sobre um conjunto fixo de opções
+ */
+final class WeightedChoice<T> {
+    
+    private final List<T> options = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    
+    WeightedChoice(Map<T, Integer> weights) {
+        int[] cumulative = new int[weights.size()];
+        int total = 0;
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                cumulative[options.size()] = total;
+                options.add(entry.getKey());
+            }
+        }
+        if (options.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos uma opção deve ter peso positivo");
+        }
+        this.cumulativeWeights = Arrays.copyOf(cumulative, options.size());
+    }
+    
+    T pick(Random random) {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return options.get(i);
+            }
+        }
+        return options.get(options.size() - 1);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.bapadua.jwt.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+
+/**
+ * Testes unitários para SyntheticTokenGenerator
+ */
+class SyntheticTokenGeneratorTest {
+
+    private final JwtValidationService validationService = new DefaultJwtValidationService(
+            new DefaultJwtClaimsExtractor(), new DefaultJwtClaimsValidator(new BailliePswPrimeNumberValidator(100)));
+
+    @Test
+    @DisplayName("A mesma semente deve produzir a mesma sequência de tokens")
+    void testDeterministicBySeed() {
+        List<String> first = SyntheticTokenGenerator.builder().seed(7).reuse(0.3, 64).build()
+                .stream().limit(500).map(SyntheticToken::getToken).toList();
+        List<String> second = SyntheticTokenGenerator.builder().seed(7).reuse(0.3, 64).build()
+                .stream().limit(500).map(SyntheticToken::getToken).toList();
+        List<String> other = SyntheticTokenGenerator.builder().seed(8).reuse(0.3, 64).build()
+                .stream().limit(500).map(SyntheticToken::getToken).toList();
+
+        assertEquals(first, second);
+        assertTrue(!first.equals(other));
+    }
+
+    @Test
+    @DisplayName("Cada token deve resultar no motivo esperado para o seu tipo")
+    void testExpectedReasonMatchesValidation() {
+        SyntheticTokenGenerator generator = SyntheticTokenGenerator.builder()
+                .seed(42)
+                .validRatio(0.5)
+                .seedMagnitudes(Map.of(SeedMagnitude.SMALL, 1, SeedMagnitude.LONG, 1, SeedMagnitude.LARGE, 1))
+                .nameLength(1, DefaultJwtClaimsValidator.MAX_NAME_LENGTH)
+                .build();
+
+        Map<TokenKind, Integer> kinds = new EnumMap<>(TokenKind.class);
+        generator.stream().limit(2_000).forEach(token -> {
+            JwtValidationReason actual = validationService.validate(token.getToken()).getReason();
+            assertEquals(token.getExpectedReason(), actual, token::toString);
+            kinds.merge(token.getKind(), 1, Integer::sum);
+        });
+
+        assertEquals(TokenKind.values().length, kinds.size());
+        int valid = kinds.get(TokenKind.VALID);
+        assertTrue(valid > 900 && valid < 1_100, "Proporção de válidos fora do esperado: " + valid);
+    }
+
+    @Test
+    @DisplayName("Deve repetir tokens recentes na proporção de reuso configurada")
+    void testReuseRatio() {
+        SyntheticTokenGenerator generator = SyntheticTokenGenerator.builder().seed(1).reuse(0.4, 128).build();
+
+        long reused = generator.stream().limit(10_000).filter(SyntheticToken::isReused).count();
+
+        assertTrue(reused > 3_700 && reused < 4_300, "Proporção de reuso fora do esperado: " + reused);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.bapadua.jwt.uds;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Protocolo binário do sidecar
+ *
+ * Request:  [int32 big-endian: tamanho do token em bytes][token em ASCII]
+ * Response: [1 byte: código do motivo]
+ *
+ * A resposta tem tamanho fixo, então não precisa de prefixo. Várias requests podem ser
+ * enviadas na mesma conexão sem aguardar as respostas (pipelining); as respostas voltam
+ * na ordem das requests. Um frame com tamanho inválido recebe PROTOCOL_ERROR e a conexão
+ * é encerrada.
+ *
+ * Os códigos são fixos (não dependem da ordem do enum), pois fazem parte do protocolo.
+ */
+public final class UdsProtocol {
+
+    public static final int FRAME_HEADER_BYTES = Integer.BYTES;
+    public static final int DEFAULT_MAX_TOKEN_BYTES = 8 * 1024;
+
+    public static final byte PROTOCOL_ERROR = (byte) 0xFF;
+
+    private UdsProtocol() {
+    }
+
+    /**
+     * Código de resposta do motivo
+     */
+    public static byte encode(JwtValidationReason reason) {
+        return switch (reason) {
+            case VALID -> 0;
+            case EMPTY_TOKEN -> 1;
+            case MALFORMED_STRUCTURE -> 2;
+            case UNDECODABLE_PAYLOAD -> 3;
+            case INVALID_CLAIMS -> 4;
+            case PRIME_CHECK_REJECTED -> 5;
+            case PRIME_CHECK_TIMEOUT -> 6;
+            case REVOKED -> 7;
+            case REJECTED -> 8;
+            case ERROR -> 9;
+        };
+    }
+
+    /**
+     * Motivo do código de resposta
+     * @throws IllegalArgumentException para códigos desconhecidos (inclusive PROTOCOL_ERROR)
+     */
+    public static JwtValidationReason decode(byte code) {
+        return switch (code) {
+            case 0 -> JwtValidationReason.VALID;
+            case 1 -> JwtValidationReason.EMPTY_TOKEN;
+            case 2 -> JwtValidationReason.MALFORMED_STRUCTURE;
+            case 3 -> JwtValidationReason.UNDECODABLE_PAYLOAD;
+            case 4 -> JwtValidationReason.INVALID_CLAIMS;
+            case 5 -> JwtValidationReason.PRIME_CHECK_REJECTED;
+            case 6 -> JwtValidationReason.PRIME_CHECK_TIMEOUT;
+            case 7 -> JwtValidationReason.REVOKED;
+            case 8 -> JwtValidationReason.REJECTED;
+            case 9 -> JwtValidationReason.ERROR;
+            default -> throw new IllegalArgumentException("Código de resposta desconhecido: " + (code & 0xFF));
+        };
+    }
+
+    /**
+     * Verificação estrutural direto nos bytes do frame, com a mesma semântica de
+     * DefaultJwtValidationService (trim + split("\\.") em 3 partes não vazias)
+     *
+     * @return EMPTY_TOKEN ou MALFORMED_STRUCTURE, ou null se o token deve seguir para a validação completa
+     */
+    static JwtValidationReason precheck(byte[] bytes, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && (bytes[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return JwtValidationReason.EMPTY_TOKEN;
+        }
+
+        // split descarta partes vazias no final: "a.b.c." tem 3 partes
+        while (end > start && bytes[end - 1] == '.') {
+            end--;
+        }
+        if (end == start || bytes[start] == '.') {
+            return JwtValidationReason.MALFORMED_STRUCTURE;
+        }
+
+        int dots = 0;
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == '.') {
+                if (bytes[i - 1] == '.' || ++dots > 2) {
+                    return JwtValidationReason.MALFORMED_STRUCTURE;
+                }
+            }
+        }
+        return dots == 2 ? null : JwtValidationReason.MALFORMED_STRUCTURE;
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.bapadua.jwt.uds;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Cliente do sidecar UDS
+ *
+ * Uma conexão por cliente; os métodos são sincronizados, então uma instância pode ser
+ * compartilhada entre threads (para paralelismo real, use um cliente por thread).
+ *
+ * validateAll envia as requests em pipeline, em janelas de PIPELINE_WINDOW tokens: a janela
+ * limita as respostas pendentes no socket, evitando que cliente e servidor fiquem ambos
+ * bloqueados em escrita.
+ *
+ * O tamanho de todos os tokens é conferido antes de escrever qualquer byte. Se uma troca falhar
+ * depois disso (I/O, PROTOCOL_ERROR), a conexão é descartada: respostas de frames já enviados
+ * ficariam no socket e seriam lidas pela chamada seguinte como se fossem dela.
+ */
+public final class UdsValidationClient implements AutoCloseable {
+
+    public static final int PIPELINE_WINDOW = 1024;
+
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(PIPELINE_WINDOW);
+    private boolean discarded;
+
+    private UdsValidationClient(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    public static UdsValidationClient connect(Path socketPath) throws IOException {
+        return new UdsValidationClient(SocketChannel.open(UnixDomainSocketAddress.of(socketPath)));
+    }
+
+    /**
+     * Valida um token (uma ida e volta)
+     */
+    public synchronized JwtValidationReason validate(String token) throws IOException {
+        requireFrameFits(token);
+        requireUsable();
+        try {
+            writeBuffer.clear();
+            putFrame(token);
+            flush();
+            readResponses(1);
+            return decode(readBuffer.get(0));
+        } catch (IOException | RuntimeException e) {
+            discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Valida os tokens em pipeline
+     * @return motivos na mesma ordem dos tokens
+     */
+    public synchronized JwtValidationReason[] validateAll(List<String> tokens) throws IOException {
+        tokens.forEach(UdsValidationClient::requireFrameFits);
+        requireUsable();
+        try {
+            return pipeline(tokens);
+        } catch (IOException | RuntimeException e) {
+            discard();
+            throw e;
+        }
+    }
+
+    private JwtValidationReason[] pipeline(List<String> tokens) throws IOException {
+        JwtValidationReason[] reasons = new JwtValidationReason[tokens.size()];
+
+        for (int windowStart = 0; windowStart < reasons.length; windowStart += PIPELINE_WINDOW) {
+            int windowEnd = Math.min(windowStart + PIPELINE_WINDOW, reasons.length);
+
+            writeBuffer.clear();
+            for (int i = windowStart; i < windowEnd; i++) {
+                String token = tokens.get(i);
+                if (writeBuffer.remaining() < UdsProtocol.FRAME_HEADER_BYTES + token.length()) {
+                    flush();
+                    writeBuffer.clear();
+                }
+                putFrame(token);
+            }
+            flush();
+
+            readResponses(windowEnd - windowStart);
+            for (int i = windowStart; i < windowEnd; i++) {
+                reasons[i] = decode(readBuffer.get(i - windowStart));
+            }
+        }
+        return reasons;
+    }
+
+    private static void requireFrameFits(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("Token nulo");
+        }
+        if (UdsProtocol.FRAME_HEADER_BYTES + token.length() > WRITE_BUFFER_BYTES) {
+            throw new IllegalArgumentException("Token maior que o buffer do cliente: " + token.length() + " chars");
+        }
+    }
+
+    private void requireUsable() throws IOException {
+        if (discarded) {
+            throw new IOException("Conexão com o sidecar descartada após falha; abra um novo cliente");
+        }
+    }
+
+    /**
+     * Fecha a conexão após uma troca incompleta, para não reaproveitar respostas pendentes
+     */
+    private void discard() {
+        discarded = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // A conexão já não será usada
+        }
+    }
+
+    /**
+     * Escreve o frame no buffer sem alocar: tokens JWT são ASCII (chars fora de Latin-1 viram '?')
+     */
+    private void putFrame(String token) {
+        int length = token.length();
+        writeBuffer.putInt(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            writeBuffer.put(c <= 0xFF ? (byte) c : (byte) '?');
+        }
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+    }
+
+    private void readResponses(int count) throws IOException {
+        readBuffer.clear().limit(count);
+        while (readBuffer.hasRemaining()) {
+            if (channel.read(readBuffer) < 0) {
+                for (int i = 0; i < readBuffer.position(); i++) {
+                    decode(readBuffer.get(i));
+                }
+                throw new EOFException("Sidecar encerrou a conexão com " + readBuffer.remaining() + " respostas pendentes");
+            }
+        }
+    }
+
+    private static JwtValidationReason decode(byte code) throws IOException {
+        if (code == UdsProtocol.PROTOCOL_ERROR) {
+            throw new IOException("Frame recusado pelo sidecar (token maior que o limite do servidor)");
+        }
+        return UdsProtocol.decode(code);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
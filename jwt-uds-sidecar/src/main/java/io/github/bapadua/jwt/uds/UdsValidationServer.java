@@ -0,0 +1,251 @@
+package io.github.bapadua.jwt.uds;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+
+/**
+ * Sidecar de validação JWT em Unix domain socket (UdsProtocol)
+ *
+ * Uso: java -jar jwt-uds-sidecar.jar [--socket=/tmp/jwt-validation.sock] [--max-token-bytes=8192] [--max-digits=100]
+ *
+ * Cada conexão é atendida por uma virtual thread com leitura bloqueante no SocketChannel.
+ * A cada leitura, todos os frames completos do buffer são validados e as respostas são
+ * acumuladas e enviadas em uma única escrita (respostas em lote para requests em pipeline).
+ *
+ * A estrutura do token é verificada direto no ByteBuffer lido; só tokens com 3 partes viram
+ * String (Latin-1, cópia direta dos bytes, sem decodificação de charset) para a validação completa.
+ */
+public final class UdsValidationServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(UdsValidationServer.class);
+
+    public static final Path DEFAULT_SOCKET = Path.of(System.getProperty("java.io.tmpdir"), "jwt-validation.sock");
+
+    private static final String USAGE = "Uso: java -jar jwt-uds-sidecar.jar [--socket=" + DEFAULT_SOCKET + "] "
+            + "[--max-token-bytes=" + UdsProtocol.DEFAULT_MAX_TOKEN_BYTES + "] [--max-digits=100]";
+
+    private final JwtValidationService validationService;
+    private final Path socketPath;
+    private final int maxTokenBytes;
+    private final ServerSocketChannel serverChannel;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder acceptedConnections = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder protocolErrors = new LongAdder();
+
+    private UdsValidationServer(JwtValidationService validationService, Path socketPath, int maxTokenBytes,
+                                ServerSocketChannel serverChannel) {
+        this.validationService = validationService;
+        this.socketPath = socketPath;
+        this.maxTokenBytes = maxTokenBytes;
+        this.serverChannel = serverChannel;
+    }
+
+    /**
+     * Cria o socket (removendo um arquivo antigo no mesmo caminho) e começa a aceitar conexões
+     */
+    public static UdsValidationServer start(JwtValidationService validationService, Path socketPath, int maxTokenBytes)
+            throws IOException {
+        if (maxTokenBytes <= 0) {
+            throw new IllegalArgumentException("max-token-bytes deve ser maior que zero");
+        }
+        Files.deleteIfExists(socketPath);
+        ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+
+        UdsValidationServer server = new UdsValidationServer(validationService, socketPath, maxTokenBytes, serverChannel);
+        Thread acceptor = new Thread(server::acceptLoop, "jwt-uds-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return server;
+    }
+
+    public static void main(String[] args) {
+        Path socket = DEFAULT_SOCKET;
+        int maxTokenBytes = UdsProtocol.DEFAULT_MAX_TOKEN_BYTES;
+        int maxDigits = new JwtValidationProperties.PrimeCheck().getMaxDigits();
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--socket=")) {
+                    socket = Path.of(value(arg));
+                } else if (arg.startsWith("--max-token-bytes=")) {
+                    maxTokenBytes = Integer.parseInt(value(arg));
+                } else if (arg.startsWith("--max-digits=")) {
+                    maxDigits = Integer.parseInt(value(arg));
+                } else {
+                    throw new IllegalArgumentException("Opção desconhecida: " + arg);
+                }
+            }
+
+            UdsValidationServer server = start(createValidationService(maxDigits), socket, maxTokenBytes);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "jwt-uds-shutdown"));
+            logger.info("Sidecar UDS escutando em {} (tokens até {} bytes)", socket, maxTokenBytes);
+            Thread.currentThread().join();
+
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Erro ao iniciar o sidecar UDS: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Monta o serviço de validação sem Spring (mesma composição do jwt-bulk-validator)
+     */
+    static JwtValidationService createValidationService(int maxDigits) {
+        DefaultJwtClaimsValidator claimsValidator = new DefaultJwtClaimsValidator(new BailliePswPrimeNumberValidator(maxDigits));
+        return new DefaultJwtValidationService(new DefaultJwtClaimsExtractor(), claimsValidator);
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    private void acceptLoop() {
+        try {
+            while (true) {
+                SocketChannel channel = serverChannel.accept();
+                acceptedConnections.increment();
+                connections.add(channel);
+                Thread.ofVirtual().name("jwt-uds-connection-", acceptedConnections.sum()).start(() -> serve(channel));
+            }
+        } catch (AsynchronousCloseException e) {
+            logger.debug("Socket do sidecar encerrado");
+        } catch (IOException e) {
+            logger.error("Falha ao aceitar conexões em {}: {}", socketPath, e.getMessage());
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        // Buffer de entrada comporta um frame máximo; o de saída, uma resposta por frame mínimo
+        ByteBuffer in = ByteBuffer.allocate(UdsProtocol.FRAME_HEADER_BYTES + maxTokenBytes);
+        ByteBuffer out = ByteBuffer.allocate(in.capacity() / UdsProtocol.FRAME_HEADER_BYTES + 1);
+
+        try (channel) {
+            while (channel.read(in) >= 0) {
+                in.flip();
+                boolean protocolError = false;
+
+                while (in.remaining() >= UdsProtocol.FRAME_HEADER_BYTES) {
+                    int length = in.getInt(in.position());
+                    if (length < 0 || length > maxTokenBytes) {
+                        protocolErrors.increment();
+                        logger.warn("Frame de {} bytes recusado (máximo {}) - encerrando a conexão", length, maxTokenBytes);
+                        out.put(UdsProtocol.PROTOCOL_ERROR);
+                        protocolError = true;
+                        break;
+                    }
+                    if (in.remaining() < UdsProtocol.FRAME_HEADER_BYTES + length) {
+                        break;
+                    }
+                    int tokenStart = in.position() + UdsProtocol.FRAME_HEADER_BYTES;
+                    out.put(UdsProtocol.encode(validate(in.array(), in.arrayOffset() + tokenStart, length)));
+                    in.position(tokenStart + length);
+                }
+                in.compact();
+
+                if (out.position() > 0) {
+                    out.flip();
+                    while (out.hasRemaining()) {
+                        channel.write(out);
+                    }
+                    out.clear();
+                    batches.increment();
+                }
+                if (protocolError) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Conexão UDS encerrada: {}", e.getMessage());
+        } finally {
+            connections.remove(channel);
+        }
+    }
+
+    private JwtValidationReason validate(byte[] bytes, int offset, int length) {
+        requests.increment();
+        JwtValidationReason structural = UdsProtocol.precheck(bytes, offset, length);
+        if (structural != null) {
+            return structural;
+        }
+        return validationService.validate(new String(bytes, offset, length, StandardCharsets.ISO_8859_1)).getReason();
+    }
+
+    public Path getSocketPath() {
+        return socketPath;
+    }
+
+    /**
+     * Conexões aceitas desde o início
+     */
+    public long getAcceptedConnections() {
+        return acceptedConnections.sum();
+    }
+
+    /**
+     * Frames de request validados
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Escritas de resposta (cada uma com todas as respostas de uma leitura)
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Conexões encerradas por frame com tamanho inválido
+     */
+    public long getProtocolErrors() {
+        return protocolErrors.sum();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverChannel.close();
+            for (SocketChannel connection : connections) {
+                connection.close();
+            }
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            logger.debug("Falha ao encerrar o sidecar UDS: {}", e.getMessage());
+        }
+        logger.info("Sidecar UDS encerrado: {} requests em {} lotes, {} conexões",
+                requests.sum(), batches.sum(), acceptedConnections.sum());
+    }
+}
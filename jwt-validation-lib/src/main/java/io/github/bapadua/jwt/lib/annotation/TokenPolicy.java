@@ -0,0 +1,32 @@
+package io.github.bapadua.jwt.lib.annotation;
+
+/**
+ * Política de @ValidateJwt para objetos @RequestBody com mais de um token
+ *
+ * Os tokens candidatos são as propriedades do body: bodyField (se informado) seguido das
+ * propriedades anotadas com @ValidateJwt, na ordem de declaração. Com ALL, ANY e FIELD o
+ * token vem só do body - headers e demais argumentos não são consultados.
+ */
+public enum TokenPolicy {
+
+    /**
+     * Primeiro token encontrado, em qualquer origem (comportamento padrão)
+     */
+    FIRST,
+
+    /**
+     * Todos os tokens presentes devem ser válidos; propriedade obrigatória (optional = false)
+     * vazia rejeita o request. Os claims injetados são os do primeiro token.
+     */
+    ALL,
+
+    /**
+     * Basta um token válido; os claims injetados são os desse token
+     */
+    ANY,
+
+    /**
+     * Só a propriedade indicada em bodyField, sem recorrer às demais
+     */
+    FIELD
+}
@@ -36,6 +36,12 @@ import java.lang.annotation.Target;
  *     // Token extraído automaticamente de propriedades @JwtField
  *     return ResponseEntity.ok("Autenticado");
  * }
+ * 
+ * @ValidateJwt(policy = TokenPolicy.ALL)
+ * public ResponseEntity<?> delegatedAuth(@RequestBody MultiTokenRequest request) {
+ *     // Todos os tokens presentes no body foram validados
+ *     return ResponseEntity.ok("Autenticado");
+ * }
  */
 @Target({ElementType.METHOD, ElementType.PARAMETER, ElementType.FIELD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -68,6 +74,7 @@ public @interface ValidateJwt {
     /**
      * Se true, injeta os claims validados como parâmetro adicional.
      * O método deve ter um parâmetro do tipo JwtClaims.
+     * Os claims injetados são os mesmos decodificados durante a validação (o token não é decodificado novamente).
      */
     boolean injectClaims() default false;
     
@@ -93,4 +100,14 @@ public @interface ValidateJwt {
      * em objetos @RequestBody.
      */
     boolean enableBodyFieldExtraction() default true;
+    
+    /**
+     * Política para objetos @RequestBody com mais de um token (todos, qualquer um, o primeiro
+     * ou só o bodyField). Vários tokens são validados em paralelo.
+     * 
+     * ALL, ANY e FIELD leem os tokens só do body: headers, path variables e request params não
+     * entram na decisão. Sem parâmetro @RequestBody, ou com FIELD sem bodyField, o contexto
+     * não sobe.
+     */
+    TokenPolicy policy() default TokenPolicy.FIRST;
 } 
\ No newline at end of file
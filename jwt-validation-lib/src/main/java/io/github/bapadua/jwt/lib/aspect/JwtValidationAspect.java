@@ -4,6 +4,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,9 +17,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -21,31 +25,57 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import io.github.bapadua.jwt.lib.annotation.TokenPolicy;
 import io.github.bapadua.jwt.lib.annotation.ValidateJwt;
+import io.github.bapadua.jwt.lib.jfr.JwtAspectValidationEvent;
+import io.github.bapadua.jwt.lib.jfr.JwtAspectValidationEvent.SourceKind;
+import io.github.bapadua.jwt.lib.model.JwtClaims;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
 import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.MultiTokenValidator;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.ValidationStage;
+import io.github.bapadua.jwt.lib.web.RequestScopedValidationMemo;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * Aspect da biblioteca jwt-validation-lib que intercepta métodos anotados com @ValidateJwt
  * e realiza a validação automática do JWT.
  * 
- * Este aspect procura por uma implementação de JwtValidationService no contexto Spring
- * do projeto que usa a biblioteca.
+ * Registrado pela JwtValidationAutoConfiguration com o JwtValidationService do contexto
+ * (desligável com jwt.validation.aspect.enabled=false).
  */
 @Aspect
-@Component
 public class JwtValidationAspect {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtValidationAspect.class);
+    private static final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
     
-    @Autowired
-    private JwtValidationService jwtValidationService;
+    private final JwtValidationService jwtValidationService;
+    private final RequestScopedValidationMemo validationMemo;
+    private final InFlightValidationCoalescer validationCoalescer;
+    private final MultiTokenValidator multiTokenValidator;
+    
+    public JwtValidationAspect(JwtValidationService jwtValidationService,
+                               RequestScopedValidationMemo validationMemo,
+                               InFlightValidationCoalescer validationCoalescer,
+                               MultiTokenValidator multiTokenValidator) {
+        this.jwtValidationService = jwtValidationService;
+        this.validationMemo = validationMemo;
+        this.validationCoalescer = validationCoalescer;
+        this.multiTokenValidator = multiTokenValidator;
+    }
     
     /**
      * Intercepta métodos anotados com @ValidateJwt
      */
     @Around("@annotation(validateJwt)")
     public Object validateJwt(ProceedingJoinPoint joinPoint, ValidateJwt validateJwt) throws Throwable {
+        long start = System.nanoTime();
+        JwtAspectValidationEvent event = new JwtAspectValidationEvent();
+        event.begin();
         
         try {
             Object[] args = joinPoint.getArgs();
@@ -59,12 +89,23 @@ public class JwtValidationAspect {
             boolean returnsBooleanResponseEntity = isReturnTypeResponseEntityBoolean(method);
             logger.debug("Método retorna ResponseEntity<Boolean>: {}", returnsBooleanResponseEntity);
             
-            // Extrair o JWT token
-            String jwtToken = extractJwtToken(args, parameters, validateJwt);
+            // Extrair o JWT token; com policy diferente de FIRST, todos os tokens do body
+            BodyTokens bodyTokens = null;
+            String jwtToken;
+            if (validateJwt.policy() == TokenPolicy.FIRST) {
+                jwtToken = extractJwtToken(args, parameters, validateJwt, event);
+            } else {
+                bodyTokens = extractBodyTokens(args, parameters, validateJwt);
+                jwtToken = bodyTokens.tokens().isEmpty() ? null : bodyTokens.tokens().get(0);
+                if (jwtToken != null) {
+                    event.source(SourceKind.BODY_FIELD);
+                }
+            }
             logger.debug("Token extraído: {}", jwtToken == null ? "null" : "[PRESENTE]");
             
             if (jwtToken == null || jwtToken.trim().isEmpty()) {
                 logger.debug("Token vazio ou nulo. Opcional: {}", validateJwt.optional());
+                complete(event, start, method, jwtToken, JwtValidationReason.EMPTY_TOKEN);
                 
                 if (validateJwt.optional()) {
                     // Se for opcional, continua execução
@@ -82,8 +123,10 @@ public class JwtValidationAspect {
             }
             
             // Validar o JWT usando o serviço implementado no projeto
-            boolean isValid = jwtValidationService.isValidJwt(jwtToken);
+            JwtValidationResult result = bodyTokens == null ? validate(jwtToken) : validate(bodyTokens, validateJwt.policy());
+            boolean isValid = result.isValid();
             logger.debug("Token válido: {}", isValid);
+            complete(event, start, method, jwtToken, result.getReason());
             
             if (!isValid) {
                 if (returnsBooleanResponseEntity) {
@@ -97,6 +140,10 @@ public class JwtValidationAspect {
             }
             
             // Se chegou até aqui, o JWT é válido - continuar execução
+            if (validateJwt.injectClaims()) {
+                injectClaims(args, parameters, result);
+            }
+            
             logger.debug("Token válido - continuando execução do método");
             return joinPoint.proceed(args);
             
@@ -112,6 +159,9 @@ public class JwtValidationAspect {
      */
     @Around("execution(* *(.., @io.github.bapadua.jwt.lib.annotation.ValidateJwt (*), ..))")
     public Object validateJwtParameter(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        JwtAspectValidationEvent event = new JwtAspectValidationEvent();
+        event.begin();
         
         Object[] args = joinPoint.getArgs();
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
@@ -122,9 +172,10 @@ public class JwtValidationAspect {
         boolean returnsBooleanResponseEntity = isReturnTypeResponseEntityBoolean(method);
         
         // Extrair tokens de parâmetros anotados com @ValidateJwt
-        String jwtToken = extractJwtTokenFromAnnotatedParameters(args, parameters);
+        String jwtToken = extractJwtTokenFromAnnotatedParameters(args, parameters, event);
         
         if (jwtToken == null || jwtToken.trim().isEmpty()) {
+            complete(event, start, method, jwtToken, JwtValidationReason.EMPTY_TOKEN);
             if (returnsBooleanResponseEntity) {
                 return ResponseEntity.ok(false);
             } else {
@@ -133,7 +184,9 @@ public class JwtValidationAspect {
         }
         
         // Validar o JWT usando o serviço implementado no projeto
-        boolean isValid = jwtValidationService.isValidJwt(jwtToken);
+        JwtValidationResult result = validate(jwtToken);
+        boolean isValid = result.isValid();
+        complete(event, start, method, jwtToken, result.getReason());
         
         if (!isValid) {
             if (returnsBooleanResponseEntity) {
@@ -144,9 +197,92 @@ public class JwtValidationAspect {
         }
         
         // Se chegou até aqui, o JWT é válido - continuar execução
+        if (isInjectClaimsRequestedOnParameters(parameters)) {
+            injectClaims(args, parameters, result);
+        }
+        
         return joinPoint.proceed(args);
     }
     
+    /**
+     * Encerra a medição do aspect (evento JFR e estatísticas) antes de prosseguir para o método
+     */
+    private static void complete(JwtAspectValidationEvent event, long start, Method method, String jwtToken,
+                                 JwtValidationReason reason) {
+        event.complete(method, jwtToken, reason);
+        statistics.recordStage(ValidationStage.ASPECT, System.nanoTime() - start);
+    }
+    
+    /**
+     * Valida o token no máximo uma vez por request, reaproveitando resultados
+     * de advices anteriores (método, parâmetro ou chamadas aninhadas).
+     * Validações concorrentes do mesmo token entre requests são coalescidas.
+     */
+    private JwtValidationResult validate(String jwtToken) {
+        return validationMemo.validate(jwtToken,
+                token -> validationCoalescer.validate(token, jwtValidationService::validate));
+    }
+    
+    /**
+     * Valida os tokens do body conforme a política (ALL ou ANY), em paralelo quando há mais de um
+     * 
+     * Os resultados já memorizados no request entram como conhecidos; os validados agora são
+     * memorizados de volta na thread do request, onde o memo está acessível, e só os que o
+     * MultiTokenValidator leu antes de decidir - validações que terminam depois não entram.
+     */
+    private JwtValidationResult validate(BodyTokens bodyTokens, TokenPolicy policy) {
+        if (policy == TokenPolicy.ALL && bodyTokens.missingRequired()) {
+            logger.debug("Propriedade obrigatória do body sem token - policy ALL rejeita o request");
+            return JwtValidationResult.invalid(JwtValidationReason.EMPTY_TOKEN);
+        }
+        List<String> tokens = bodyTokens.tokens();
+        if (tokens.size() == 1) {
+            return validate(tokens.get(0));
+        }
+        
+        Map<String, JwtValidationResult> known = new HashMap<>(tokens.size());
+        for (String token : tokens) {
+            JwtValidationResult cached = validationMemo.getCached(token);
+            if (cached != null) {
+                known.put(token, cached);
+            }
+        }
+        
+        return multiTokenValidator.validate(tokens, policy, known,
+                token -> validationCoalescer.validate(token, jwtValidationService::validate),
+                validationMemo::remember);
+    }
+    
+    /**
+     * Injeta os claims validados nos parâmetros do tipo JwtClaims.
+     * Reaproveita os claims decodificados na validação - o token não é decodificado novamente.
+     */
+    private void injectClaims(Object[] args, Parameter[] parameters, JwtValidationResult result) {
+        JwtClaims claims = null;
+        for (int i = 0; i < parameters.length; i++) {
+            if (JwtClaims.class.isAssignableFrom(parameters[i].getType())) {
+                if (claims == null) {
+                    claims = JwtClaims.fromValidatedClaims(result.getClaims());
+                }
+                args[i] = claims;
+            }
+        }
+        
+        if (claims == null) {
+            logger.debug("injectClaims habilitado, mas nenhum parâmetro JwtClaims recebeu claims");
+        }
+    }
+    
+    private boolean isInjectClaimsRequestedOnParameters(Parameter[] parameters) {
+        for (Parameter param : parameters) {
+            ValidateJwt annotation = param.getAnnotation(ValidateJwt.class);
+            if (annotation != null && annotation.injectClaims()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Verifica se o método retorna ResponseEntity<Boolean>
      */
@@ -170,28 +306,42 @@ public class JwtValidationAspect {
     /**
      * Extrai o token JWT com detecção automática ou configuração manual
      */
-    private String extractJwtToken(Object[] args, Parameter[] parameters, ValidateJwt validateJwt) {
+    private String extractJwtToken(Object[] args, Parameter[] parameters, ValidateJwt validateJwt,
+                                   JwtAspectValidationEvent event) {
         
         // 1. Tentar configuração manual primeiro
         String token = tryExtractFromConfiguration(validateJwt);
-        if (token != null) return token;
+        if (token != null) {
+            event.source(SourceKind.HEADER);
+            return token;
+        }
         
         // 2. Tentar detecção automática de anotações Spring
-        token = tryExtractFromAnnotatedParameters(args, parameters);
+        token = tryExtractFromAnnotatedParameters(args, parameters, event);
         if (token != null) return token;
         
         // 3. Tentar extração de propriedades de objetos @RequestBody
         if (validateJwt.enableBodyFieldExtraction()) {
             token = tryExtractFromRequestBodyFields(args, parameters, validateJwt);
-            if (token != null) return token;
+            if (token != null) {
+                event.source(SourceKind.BODY_FIELD);
+                return token;
+            }
         }
         
         // 4. Tentar headers padrão
         token = extractTokenFromStandardHeaders(validateJwt.removeBearerPrefix());
-        if (token != null) return token;
+        if (token != null) {
+            event.source(SourceKind.HEADER);
+            return token;
+        }
         
         // 5. Fallback: qualquer argumento String
-        return tryExtractFromAnyArgument(args);
+        token = tryExtractFromAnyArgument(args);
+        if (token != null) {
+            event.source(SourceKind.ARGUMENT);
+        }
+        return token;
     }
     
     private String tryExtractFromConfiguration(ValidateJwt validateJwt) {
@@ -206,7 +356,7 @@ public class JwtValidationAspect {
         return null;
     }
     
-    private String tryExtractFromAnnotatedParameters(Object[] args, Parameter[] parameters) {
+    private String tryExtractFromAnnotatedParameters(Object[] args, Parameter[] parameters, JwtAspectValidationEvent event) {
         for (int i = 0; i < parameters.length; i++) {
             Parameter param = parameters[i];
             
@@ -214,7 +364,10 @@ public class JwtValidationAspect {
             if (token == null) token = tryExtractFromPathVariable(args[i], param);
             if (token == null) token = tryExtractFromRequestParam(args[i], param);
             
-            if (token != null) return token;
+            if (token != null) {
+                event.source(sourceKindOf(param));
+                return token;
+            }
         }
         
         return null;
@@ -248,7 +401,8 @@ public class JwtValidationAspect {
     /**
      * Extrai tokens especificamente de parâmetros anotados com @ValidateJwt
      */
-    private String extractJwtTokenFromAnnotatedParameters(Object[] args, Parameter[] parameters) {
+    private String extractJwtTokenFromAnnotatedParameters(Object[] args, Parameter[] parameters,
+                                                          JwtAspectValidationEvent event) {
         for (int i = 0; i < parameters.length; i++) {
             Parameter param = parameters[i];
             
@@ -264,6 +418,7 @@ public class JwtValidationAspect {
                         token = token.substring(7).trim();
                     }
                     
+                    event.source(sourceKindOf(param));
                     return token;
                 }
             }
@@ -272,6 +427,22 @@ public class JwtValidationAspect {
         return null;
     }
     
+    /**
+     * Origem do token pela anotação Spring do parâmetro, para o evento JFR
+     */
+    private static SourceKind sourceKindOf(Parameter param) {
+        if (param.isAnnotationPresent(RequestHeader.class)) {
+            return SourceKind.HEADER;
+        }
+        if (param.isAnnotationPresent(PathVariable.class)) {
+            return SourceKind.PATH_VARIABLE;
+        }
+        if (param.isAnnotationPresent(RequestParam.class)) {
+            return SourceKind.REQUEST_PARAM;
+        }
+        return SourceKind.ARGUMENT;
+    }
+    
     private String getHeaderName(RequestHeader headerAnnotation, Parameter param) {
         if (!headerAnnotation.value().isEmpty()) {
             return headerAnnotation.value();
@@ -372,6 +543,70 @@ public class JwtValidationAspect {
         return null;
     }
     
+    /**
+     * Tokens do primeiro @RequestBody para as políticas ALL, ANY e FIELD, sem repetição
+     * 
+     * Com FIELD, apenas bodyField. Com ALL e ANY, bodyField (tratado como obrigatório, salvo
+     * quando anotado) seguido das propriedades anotadas com @ValidateJwt.
+     */
+    private BodyTokens extractBodyTokens(Object[] args, Parameter[] parameters, ValidateJwt validateJwt) {
+        // FIELD sem bodyField e policy sem @RequestBody já foram recusados na subida (ValidateJwtDeclarationVerifier)
+        Object body = null;
+        for (int i = 0; i < parameters.length && body == null; i++) {
+            if (parameters[i].isAnnotationPresent(RequestBody.class)) {
+                body = args[i];
+            }
+        }
+        if (body == null) {
+            return new BodyTokens(List.of(), true);
+        }
+        
+        Class<?> clazz = body.getClass();
+        Set<String> tokens = new LinkedHashSet<>();
+        boolean missingRequired = false;
+        String bodyField = validateJwt.bodyField();
+        if (!bodyField.isEmpty()) {
+            String token = extractTokenFromSpecificField(body, clazz, bodyField);
+            if (token != null) {
+                tokens.add(token);
+            } else if (!isOptionalField(clazz, bodyField)) {
+                missingRequired = true;
+            }
+        }
+        
+        if (validateJwt.policy() != TokenPolicy.FIELD) {
+            for (java.lang.reflect.Field field : clazz.getDeclaredFields()) {
+                ValidateJwt fieldAnnotation = field.getAnnotation(ValidateJwt.class);
+                if (fieldAnnotation == null || field.getName().equals(bodyField)) {
+                    continue;
+                }
+                String token = extractTokenFromValidateJwtField(body, field, fieldAnnotation);
+                if (token != null) {
+                    tokens.add(token);
+                } else if (!fieldAnnotation.optional()) {
+                    missingRequired = true;
+                }
+            }
+        }
+        
+        return new BodyTokens(new ArrayList<>(tokens), missingRequired);
+    }
+    
+    private static boolean isOptionalField(Class<?> clazz, String fieldName) {
+        try {
+            ValidateJwt annotation = clazz.getDeclaredField(fieldName).getAnnotation(ValidateJwt.class);
+            return annotation != null && annotation.optional();
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Tokens encontrados no body e se alguma propriedade obrigatória veio vazia
+     */
+    private record BodyTokens(List<String> tokens, boolean missingRequired) {
+    }
+    
     /**
      * Extrai token de um objeto usando reflection para encontrar propriedades anotadas com @ValidateJwt
      */
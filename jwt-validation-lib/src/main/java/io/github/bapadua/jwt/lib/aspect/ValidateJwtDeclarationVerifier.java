@@ -0,0 +1,58 @@
+package io.github.bapadua.jwt.lib.aspect;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import io.github.bapadua.jwt.lib.annotation.TokenPolicy;
+import io.github.bapadua.jwt.lib.annotation.ValidateJwt;
+
+/**
+ * Confere as declarações de @ValidateJwt ao criar cada bean, para que erros de configuração
+ * falhem na subida do contexto e não no primeiro request (que viraria um 500)
+ *
+ * - policy FIELD exige bodyField
+ * - policies diferentes de FIRST leem só o body: exigem um parâmetro @RequestBody
+ */
+public class ValidateJwtDeclarationVerifier implements BeanPostProcessor {
+
+    private final Set<Class<?>> verified = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
+        if (AnnotationUtils.isCandidateClass(beanClass, ValidateJwt.class) && verified.add(beanClass)) {
+            ReflectionUtils.doWithMethods(beanClass, method -> verify(method, method.getAnnotation(ValidateJwt.class)),
+                    method -> method.isAnnotationPresent(ValidateJwt.class));
+        }
+        return bean;
+    }
+
+    /**
+     * @throws IllegalArgumentException se a combinação de atributos não pode funcionar em nenhum request
+     */
+    static void verify(Method method, ValidateJwt validateJwt) {
+        TokenPolicy policy = validateJwt.policy();
+        if (policy == TokenPolicy.FIRST) {
+            return;
+        }
+        String target = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (policy == TokenPolicy.FIELD && validateJwt.bodyField().isEmpty()) {
+            throw new IllegalArgumentException("@ValidateJwt com policy FIELD exige bodyField: " + target);
+        }
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.isAnnotationPresent(RequestBody.class)) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("@ValidateJwt com policy " + policy
+                + " lê os tokens só do body e exige um parâmetro @RequestBody: " + target);
+    }
+}
@@ -1,23 +1,241 @@
 package io.github.bapadua.jwt.lib.config;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+
 import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+
+import io.github.bapadua.jwt.lib.aspect.JwtValidationAspect;
+import io.github.bapadua.jwt.lib.aspect.ValidateJwtDeclarationVerifier;
+import io.github.bapadua.jwt.lib.engine.ShadowEvaluator;
+import io.github.bapadua.jwt.lib.engine.SwitchableJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.engine.SwitchableJwtClaimsValidator;
+import io.github.bapadua.jwt.lib.engine.SwitchablePrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.DefaultJwtValidationService;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.service.JwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.JwtClaimsValidator;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.service.MultiTokenValidator;
+import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.TokenRevocationList;
+import io.github.bapadua.jwt.lib.service.impl.AdmissionControlledPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.BloomFilterTokenRevocationList;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.service.impl.DefaultJwtClaimsValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.TemporalClaimsValidator;
+import io.github.bapadua.jwt.lib.web.RequestScopedValidationMemo;
 
 /**
  * Auto-configuração para a biblioteca de validação JWT
- * 
- * Esta classe configura automaticamente:
- * - JwtValidationAspect (via @ComponentScan)
- * - DefaultJwtValidationService e suas dependências (via @ComponentScan + @Service/@Component)
- * 
- * Todas as implementações padrão são registradas automaticamente como beans
- * e podem ser substituídas por implementações customizadas usando @Primary ou @ConditionalOnMissingBean
+ *
+ * Cada bean é declarado explicitamente, sem varredura de classpath na inicialização:
+ * - jwt.validation.enabled=false desliga a biblioteca inteira
+ * - @ConditionalOnMissingBean: um bean do mesmo tipo definido pela aplicação substitui o padrão
+ *   (JwtValidationService, TokenRevocationList e JwtValidationAspect pela interface/classe)
+ * - jwt.validation.aspect.enabled=false remove a interceptação de @ValidateJwt
+ * - jwt.validation.revocation.enabled escolhe entre o filtro de Bloom e a lista vazia
+ *
+ * Serviço, extrator e validadores não têm propriedade própria: sem qualquer um deles não há
+ * validação, então a troca é por bean da aplicação. Na subida a frio quase todo o custo da
+ * biblioteca está no aspect (AutoConfigurationStartupBenchmark).
+ *
+ * Extrator de claims, validador de claims e validador de primos são injetados pelas
+ * versões Switchable* (@Primary), que escolhem entre as engines da biblioteca pelo nome
+ * (jwt.validation.engines.*) e avaliam candidatas em modo sombra. Um bean da interface
+ * definido pela aplicação (com ou sem @Primary) desliga as engines e o Switchable* da
+ * etapa: a implementação da aplicação é a única injetada.
+ *
+ * Os nomes dos métodos @Bean são os nomes de bean usados nessa seleção.
  */
 @AutoConfiguration
-@ComponentScan(basePackages = "io.github.bapadua.jwt.lib")
+@ConditionalOnProperty(prefix = "jwt.validation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(JwtValidationProperties.class)
+@ImportRuntimeHints(JwtValidationRuntimeHints.class)
 public class JwtValidationAutoConfiguration {
-    
-    // Não é mais necessário definir beans manualmente
-    // O Spring Boot encontra automaticamente as classes anotadas com @Service e @Component
-    // através do @ComponentScan
-} 
\ No newline at end of file
+
+    // Engines de extração e validação de claims
+
+    @Bean
+    @ConditionalOnNoApplicationClaimsExtractor
+    public DefaultJwtClaimsExtractor defaultJwtClaimsExtractor() {
+        return new DefaultJwtClaimsExtractor();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TemporalClaimsValidator temporalClaimsValidator(JwtValidationProperties properties) {
+        return new TemporalClaimsValidator(properties);
+    }
+
+    @Bean
+    @ConditionalOnNoApplicationClaimsValidator
+    public DefaultJwtClaimsValidator defaultJwtClaimsValidator(PrimeNumberValidator primeNumberValidator,
+                                                               TemporalClaimsValidator temporalClaimsValidator) {
+        return new DefaultJwtClaimsValidator(primeNumberValidator, temporalClaimsValidator);
+    }
+
+    // Engines de verificação de primalidade
+
+    @Bean
+    @ConditionalOnNoApplicationPrimeNumberValidator
+    public BailliePswPrimeNumberValidator bailliePswPrimeNumberValidator(JwtValidationProperties properties) {
+        return new BailliePswPrimeNumberValidator(properties);
+    }
+
+    @Bean
+    @ConditionalOnNoApplicationPrimeNumberValidator
+    public AdmissionControlledPrimeNumberValidator admissionControlledPrimeNumberValidator(
+            BailliePswPrimeNumberValidator bailliePswPrimeNumberValidator, JwtValidationProperties properties) {
+        return new AdmissionControlledPrimeNumberValidator(bailliePswPrimeNumberValidator, properties);
+    }
+
+    @Bean
+    @ConditionalOnNoApplicationPrimeNumberValidator
+    public DefaultPrimeNumberValidator defaultPrimeNumberValidator() {
+        return new DefaultPrimeNumberValidator();
+    }
+
+    // Seleção das engines em tempo de execução
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ShadowEvaluator shadowEvaluator(JwtValidationProperties properties) {
+        return new ShadowEvaluator(properties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnNoApplicationClaimsExtractor
+    public SwitchableJwtClaimsExtractor switchableJwtClaimsExtractor(Map<String, JwtClaimsExtractor> engines,
+                                                                     ShadowEvaluator shadowEvaluator,
+                                                                     JwtValidationProperties properties) {
+        return new SwitchableJwtClaimsExtractor(engines, shadowEvaluator, properties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnNoApplicationClaimsValidator
+    public SwitchableJwtClaimsValidator switchableJwtClaimsValidator(Map<String, JwtClaimsValidator> engines,
+                                                                     ShadowEvaluator shadowEvaluator,
+                                                                     JwtValidationProperties properties) {
+        return new SwitchableJwtClaimsValidator(engines, shadowEvaluator, properties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnNoApplicationPrimeNumberValidator
+    public SwitchablePrimeNumberValidator switchablePrimeNumberValidator(Map<String, PrimeNumberValidator> engines,
+                                                                         ShadowEvaluator shadowEvaluator,
+                                                                         JwtValidationProperties properties) {
+        return new SwitchablePrimeNumberValidator(engines, shadowEvaluator, properties);
+    }
+
+    // Revogação: as duas definições são mutuamente exclusivas pela propriedade
+
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationList.class)
+    @ConditionalOnProperty(prefix = "jwt.validation.revocation", name = "enabled", havingValue = "true")
+    public BloomFilterTokenRevocationList bloomFilterTokenRevocationList(JwtValidationProperties properties) {
+        return new BloomFilterTokenRevocationList(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationList.class)
+    @ConditionalOnProperty(prefix = "jwt.validation.revocation", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public TokenRevocationList tokenRevocationList() {
+        return TokenRevocationList.none();
+    }
+
+    // Orquestração
+
+    @Bean
+    @ConditionalOnMissingBean(JwtValidationService.class)
+    public DefaultJwtValidationService defaultJwtValidationService(JwtClaimsExtractor claimsExtractor,
+                                                                   JwtClaimsValidator claimsValidator,
+                                                                   TokenRevocationList revocationList) {
+        return new DefaultJwtValidationService(claimsExtractor, claimsValidator, revocationList);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InFlightValidationCoalescer inFlightValidationCoalescer(JwtValidationProperties properties) {
+        return new InFlightValidationCoalescer(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RequestScopedValidationMemo requestScopedValidationMemo() {
+        return new RequestScopedValidationMemo();
+    }
+
+    /**
+     * O aspect lê o request pela Servlet API; em aplicações sem ela (ex.: benchmarks, workers) não é registrado
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "jakarta.servlet.http.HttpServletRequest")
+    @ConditionalOnProperty(prefix = "jwt.validation.aspect", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class AspectConfiguration {
+
+        /**
+         * Estático: BeanPostProcessor é criado antes dos demais beans da configuração
+         */
+        @Bean
+        public static ValidateJwtDeclarationVerifier validateJwtDeclarationVerifier() {
+            return new ValidateJwtDeclarationVerifier();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MultiTokenValidator multiTokenValidator(JwtValidationProperties properties) {
+            return new MultiTokenValidator(properties);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JwtValidationAspect jwtValidationAspect(JwtValidationService jwtValidationService,
+                                                       RequestScopedValidationMemo validationMemo,
+                                                       InFlightValidationCoalescer validationCoalescer,
+                                                       MultiTokenValidator multiTokenValidator) {
+            return new JwtValidationAspect(jwtValidationService, validationMemo, validationCoalescer,
+                    multiTokenValidator);
+        }
+    }
+
+    // Condições por etapa: só beans da interface que não são da própria biblioteca contam
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ConditionalOnMissingBean(value = JwtClaimsExtractor.class,
+            ignored = {DefaultJwtClaimsExtractor.class, SwitchableJwtClaimsExtractor.class})
+    @interface ConditionalOnNoApplicationClaimsExtractor {
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ConditionalOnMissingBean(value = JwtClaimsValidator.class,
+            ignored = {DefaultJwtClaimsValidator.class, SwitchableJwtClaimsValidator.class})
+    @interface ConditionalOnNoApplicationClaimsValidator {
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ConditionalOnMissingBean(value = PrimeNumberValidator.class,
+            ignored = {BailliePswPrimeNumberValidator.class, AdmissionControlledPrimeNumberValidator.class,
+                    DefaultPrimeNumberValidator.class, SwitchablePrimeNumberValidator.class})
+    @interface ConditionalOnNoApplicationPrimeNumberValidator {
+    }
+}
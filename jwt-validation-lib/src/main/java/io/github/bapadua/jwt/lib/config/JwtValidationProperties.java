@@ -0,0 +1,503 @@
+package io.github.bapadua.jwt.lib.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades de configuração da biblioteca jwt-validation-lib
+ * 
+ * Prefixo: jwt.validation
+ */
+@ConfigurationProperties(prefix = "jwt.validation")
+public class JwtValidationProperties {
+    
+    /**
+     * Se false, nenhum bean da biblioteca é registrado
+     */
+    private boolean enabled = true;
+    
+    private final Aspect aspect = new Aspect();
+    private final BodyExtraction bodyExtraction = new BodyExtraction();
+    private final Coalescing coalescing = new Coalescing();
+    private final MultiToken multiToken = new MultiToken();
+    private final PrimeCheck primeCheck = new PrimeCheck();
+    private final Revocation revocation = new Revocation();
+    private final Temporal temporal = new Temporal();
+    private final Engines engines = new Engines();
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public Aspect getAspect() {
+        return aspect;
+    }
+    
+    public BodyExtraction getBodyExtraction() {
+        return bodyExtraction;
+    }
+    
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+    
+    public MultiToken getMultiToken() {
+        return multiToken;
+    }
+    
+    public PrimeCheck getPrimeCheck() {
+        return primeCheck;
+    }
+    
+    public Revocation getRevocation() {
+        return revocation;
+    }
+    
+    public Temporal getTemporal() {
+        return temporal;
+    }
+    
+    public Engines getEngines() {
+        return engines;
+    }
+    
+    /**
+     * Interceptação dos métodos anotados com @ValidateJwt
+     */
+    public static class Aspect {
+        
+        /**
+         * Se false, o JwtValidationAspect não é registrado e @ValidateJwt é ignorada
+         */
+        private boolean enabled = true;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+    
+    /**
+     * Extração do token do @RequestBody JSON antes do binding pelo Jackson
+     */
+    public static class BodyExtraction {
+        
+        /**
+         * Se true, tokens inválidos em propriedades do body são rejeitados antes do binding
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Tamanho máximo do body lido para a extração; bodies maiores seguem direto para o binding
+         */
+        private int maxBytes = 16 * 1024;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getMaxBytes() {
+            return maxBytes;
+        }
+        
+        public void setMaxBytes(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+    }
+    
+    /**
+     * Coalescência de validações concorrentes do mesmo token (single-flight)
+     */
+    public static class Coalescing {
+        
+        /**
+         * Se true, threads concorrentes com o mesmo token aguardam a validação em andamento
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Tempo máximo de espera pela validação em andamento antes de validar na própria thread
+         */
+        private Duration maxWait = Duration.ofMillis(200);
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+        
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+    
+    /**
+     * Validação paralela dos tokens de um mesmo body (@ValidateJwt com policy ALL ou ANY)
+     */
+    public static class MultiToken {
+        
+        /**
+         * Threads que validam os tokens adicionais; o primeiro é validado na thread do request
+         */
+        private int threads = 2;
+        
+        /**
+         * Tokens aguardando uma thread; com a fila cheia, o token é validado na thread do request
+         */
+        private int queueCapacity = 64;
+        
+        public int getThreads() {
+            return threads;
+        }
+        
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+    
+    /**
+     * Controle de admissão das verificações de primalidade da Seed
+     */
+    public static class PrimeCheck {
+        
+        /**
+         * Seeds com até este número de bits são verificadas na própria thread do request
+         */
+        private int inlineMaxBits = 256;
+        
+        /**
+         * Quantidade máxima de dígitos decimais aceita para a Seed
+         */
+        private int maxDigits = 100;
+        
+        /**
+         * Threads do executor isolado para verificações caras
+         */
+        private int threads = 2;
+        
+        /**
+         * Capacidade da fila do executor isolado; acima dela a verificação é recusada
+         */
+        private int queueCapacity = 32;
+        
+        /**
+         * Prazo máximo de uma verificação cara, incluindo o tempo de fila
+         */
+        private Duration deadline = Duration.ofMillis(250);
+        
+        public int getInlineMaxBits() {
+            return inlineMaxBits;
+        }
+        
+        public void setInlineMaxBits(int inlineMaxBits) {
+            this.inlineMaxBits = inlineMaxBits;
+        }
+        
+        public int getMaxDigits() {
+            return maxDigits;
+        }
+        
+        public void setMaxDigits(int maxDigits) {
+            this.maxDigits = maxDigits;
+        }
+        
+        public int getThreads() {
+            return threads;
+        }
+        
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+        
+        public Duration getDeadline() {
+            return deadline;
+        }
+        
+        public void setDeadline(Duration deadline) {
+            this.deadline = deadline;
+        }
+    }
+    
+    /**
+     * Lista de revogação de tokens carregada de arquivo
+     */
+    public static class Revocation {
+        
+        /**
+         * Se true, tokens presentes no arquivo são recusados com o motivo REVOKED
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Arquivo com um token revogado por linha (# inicia comentário), terminado pela linha "# end"
+         */
+        private Path file;
+        
+        /**
+         * Se true, alterações no arquivo são recarregadas automaticamente
+         */
+        private boolean watch = true;
+        
+        /**
+         * Intervalo sem eventos no diretório antes de recarregar (escritas em várias etapas)
+         */
+        private Duration reloadDebounce = Duration.ofMillis(500);
+        
+        /**
+         * Tamanho fixo do filtro de Bloom em bits (arredondado para potência de 2; 8 Mi bits = 1 MiB)
+         */
+        private int bloomFilterBits = 1 << 23;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public Path getFile() {
+            return file;
+        }
+        
+        public void setFile(Path file) {
+            this.file = file;
+        }
+        
+        public boolean isWatch() {
+            return watch;
+        }
+        
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+        
+        public Duration getReloadDebounce() {
+            return reloadDebounce;
+        }
+        
+        public void setReloadDebounce(Duration reloadDebounce) {
+            this.reloadDebounce = reloadDebounce;
+        }
+        
+        public int getBloomFilterBits() {
+            return bloomFilterBits;
+        }
+        
+        public void setBloomFilterBits(int bloomFilterBits) {
+            this.bloomFilterBits = bloomFilterBits;
+        }
+    }
+    
+    /**
+     * Validação das claims temporais exp, nbf e iat
+     */
+    public static class Temporal {
+        
+        /**
+         * Se true, exp/nbf/iat são aceitas além das 3 claims do desafio e validadas contra o horário atual
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Tolerância para diferença de relógio entre emissor e validador (resolução de segundos)
+         */
+        private Duration clockSkew = Duration.ofSeconds(30);
+        
+        /**
+         * Se true, tokens sem exp são recusados
+         */
+        private boolean requireExpiration = false;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public Duration getClockSkew() {
+            return clockSkew;
+        }
+        
+        public void setClockSkew(Duration clockSkew) {
+            this.clockSkew = clockSkew;
+        }
+        
+        public boolean isRequireExpiration() {
+            return requireExpiration;
+        }
+        
+        public void setRequireExpiration(boolean requireExpiration) {
+            this.requireExpiration = requireExpiration;
+        }
+    }
+    
+    /**
+     * Implementações ativas de cada etapa e avaliação sombra de implementações candidatas
+     * 
+     * Os nomes são os nomes dos beans; a seleção pode ser trocada em tempo de execução.
+     */
+    public static class Engines {
+        
+        private final Selection claimsExtractor = new Selection("defaultJwtClaimsExtractor");
+        private final Selection claimsValidator = new Selection("defaultJwtClaimsValidator");
+        // A divisão por tentativas (defaultPrimeNumberValidator) não tem controle de admissão:
+        // só entra como primária pela configuração, nunca por troca em tempo de execução
+        private final Selection primeNumberValidator = new Selection("admissionControlledPrimeNumberValidator",
+                "admissionControlledPrimeNumberValidator", "bailliePswPrimeNumberValidator");
+        private final Shadow shadow = new Shadow();
+        
+        public Selection getClaimsExtractor() {
+            return claimsExtractor;
+        }
+        
+        public Selection getClaimsValidator() {
+            return claimsValidator;
+        }
+        
+        public Selection getPrimeNumberValidator() {
+            return primeNumberValidator;
+        }
+        
+        public Shadow getShadow() {
+            return shadow;
+        }
+        
+        /**
+         * Engine primária e candidata de uma etapa
+         */
+        public static class Selection {
+            
+            /**
+             * Bean que responde às chamadas
+             */
+            private String primary;
+            
+            /**
+             * Bean avaliado em paralelo, fora da thread do request (vazio desabilita o modo sombra)
+             */
+            private String candidate;
+            
+            /**
+             * Fração das chamadas reavaliadas pela candidata, entre 0 e 1
+             */
+            private double sampleRate = 0.0;
+            
+            /**
+             * Beans aceitos em trocas em tempo de execução (Actuator); vazio aceita qualquer registrado
+             */
+            private List<String> runtimeSelectable = new ArrayList<>();
+            
+            public Selection() {
+            }
+            
+            public Selection(String primary, String... runtimeSelectable) {
+                this.primary = primary;
+                this.runtimeSelectable = new ArrayList<>(List.of(runtimeSelectable));
+            }
+            
+            public String getPrimary() {
+                return primary;
+            }
+            
+            public void setPrimary(String primary) {
+                this.primary = primary;
+            }
+            
+            public String getCandidate() {
+                return candidate;
+            }
+            
+            public void setCandidate(String candidate) {
+                this.candidate = candidate;
+            }
+            
+            public double getSampleRate() {
+                return sampleRate;
+            }
+            
+            public void setSampleRate(double sampleRate) {
+                this.sampleRate = sampleRate;
+            }
+            
+            public List<String> getRuntimeSelectable() {
+                return runtimeSelectable;
+            }
+            
+            public void setRuntimeSelectable(List<String> runtimeSelectable) {
+                this.runtimeSelectable = runtimeSelectable;
+            }
+        }
+        
+        /**
+         * Executor das avaliações sombra
+         */
+        public static class Shadow {
+            
+            /**
+             * Threads dedicadas às engines candidatas
+             */
+            private int threads = 1;
+            
+            /**
+             * Capacidade da fila; avaliações acima dela são descartadas, nunca bloqueiam o request
+             */
+            private int queueCapacity = 256;
+            
+            public int getThreads() {
+                return threads;
+            }
+            
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+            
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+            
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.bapadua.jwt.lib.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import io.github.bapadua.jwt.lib.annotation.ValidateJwt;
+import io.github.bapadua.jwt.lib.aspect.JwtValidationAspect;
+import io.github.bapadua.jwt.lib.jfr.JwtAspectValidationEvent;
+import io.github.bapadua.jwt.lib.jfr.JwtClaimsExtractionEvent;
+import io.github.bapadua.jwt.lib.jfr.JwtClaimsValidationEvent;
+import io.github.bapadua.jwt.lib.jfr.JwtPrimeCheckEvent;
+import io.github.bapadua.jwt.lib.jfr.JwtValidationEvent;
+import io.github.bapadua.jwt.lib.model.JwtClaims;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
+/**
+ * Hints de AOT/native image para o que a biblioteca acessa por reflexão ou como recurso
+ *
+ * - JwtValidationAspect: métodos de advice invocados pelo AspectJ
+ * - @ValidateJwt: lida em métodos, parâmetros e campos de objetos @RequestBody
+ * - eventos JFR: campos lidos pelo JFR ao registrar o evento
+ * - JwtClaims e JwtValidationResult: serializados em JSON pelas aplicações
+ * - jwt-validation.jfc: perfil JFR empacotado no jar
+ *
+ * Os campos dos DTOs de @RequestBody lidos pelo aspect pertencem à aplicação; o Spring MVC
+ * já registra os tipos de @RequestBody dos controllers para binding.
+ */
+public class JwtValidationRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String JFR_PROFILE = "io/github/bapadua/jwt/lib/jfr/jwt-validation.jfc";
+
+    private static final Class<?>[] JFR_EVENTS = {
+        JwtValidationEvent.class,
+        JwtClaimsExtractionEvent.class,
+        JwtClaimsValidationEvent.class,
+        JwtPrimeCheckEvent.class,
+        JwtAspectValidationEvent.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(JwtValidationAspect.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(ValidateJwt.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        for (Class<?> event : JFR_EVENTS) {
+            hints.reflection().registerType(event, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                JwtClaims.class, JwtValidationResult.class);
+
+        hints.resources().registerPattern(JFR_PROFILE);
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.bapadua.jwt.lib.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.bapadua.jwt.lib.aspect.JwtValidationAspect;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.web.EarlyBodyTokenValidationAdvice;
+import io.github.bapadua.jwt.lib.web.JwtClaimsArgumentResolver;
+import io.github.bapadua.jwt.lib.web.RequestScopedValidationMemo;
+
+/**
+ * Integração da biblioteca com o Spring MVC
+ * 
+ * Registra o JwtClaimsArgumentResolver para permitir parâmetros JwtClaims
+ * em controllers anotados com @ValidateJwt(injectClaims = true), e o
+ * EarlyBodyTokenValidationAdvice, que valida tokens do @RequestBody antes do binding.
+ * 
+ * Auto-configuração própria (e não @Import) para que as condições sejam avaliadas antes
+ * de carregar a classe, que implementa uma interface do spring-webmvc opcional.
+ */
+@AutoConfiguration(after = JwtValidationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "jwt.validation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurer")
+public class JwtValidationWebMvcConfiguration implements WebMvcConfigurer {
+    
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new JwtClaimsArgumentResolver());
+    }
+    
+    /**
+     * Depende do aspect: é ele que valida os casos que a extração antecipada deixa passar
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.core.JsonFactory")
+    @ConditionalOnBean(JwtValidationAspect.class)
+    @ConditionalOnProperty(prefix = "jwt.validation.body-extraction", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class BodyExtractionConfiguration {
+        
+        @Bean
+        @ConditionalOnMissingBean
+        public EarlyBodyTokenValidationAdvice earlyBodyTokenValidationAdvice(JwtValidationService jwtValidationService,
+                                                                             RequestScopedValidationMemo validationMemo,
+                                                                             InFlightValidationCoalescer validationCoalescer,
+                                                                             JwtValidationProperties properties) {
+            return new EarlyBodyTokenValidationAdvice(jwtValidationService, validationMemo, validationCoalescer, properties);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultado acumulado das avaliações sombra de um par primária/candidata
+ *
+ * Uma instância nova é criada a cada troca de engine, para que os números nunca misturem pares diferentes.
+ * As latências são medidas em threads diferentes (request e sombra) e servem como comparação aproximada.
+ */
+public final class ShadowComparison {
+
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder compared = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder primaryNanos = new LongAdder();
+    private final LongAdder candidateNanos = new LongAdder();
+
+    void recordSampled() {
+        sampled.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void recordComparison(long primaryElapsedNanos, long candidateElapsedNanos, boolean match) {
+        primaryNanos.add(primaryElapsedNanos);
+        candidateNanos.add(candidateElapsedNanos);
+        if (!match) {
+            mismatches.increment();
+        }
+        compared.increment();
+    }
+
+    /**
+     * Chamadas sorteadas para a avaliação sombra
+     */
+    public long getSampled() {
+        return sampled.sum();
+    }
+
+    /**
+     * Avaliações descartadas por fila cheia
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Avaliações concluídas e comparadas com o resultado da primária
+     */
+    public long getCompared() {
+        return compared.sum();
+    }
+
+    /**
+     * Avaliações em que a candidata respondeu diferente da primária
+     */
+    public long getMismatches() {
+        return mismatches.sum();
+    }
+
+    /**
+     * Avaliações em que a candidata lançou exceção
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public double getMismatchRate() {
+        long total = compared.sum();
+        return total == 0 ? 0.0 : (double) mismatches.sum() / total;
+    }
+
+    public double getMeanPrimaryMicros() {
+        return meanMicros(primaryNanos);
+    }
+
+    public double getMeanCandidateMicros() {
+        return meanMicros(candidateNanos);
+    }
+
+    /**
+     * Latência média da candidata menos a da primária nas mesmas chamadas (negativo: candidata mais rápida)
+     */
+    public double getMeanLatencyDeltaMicros() {
+        return getMeanCandidateMicros() - getMeanPrimaryMicros();
+    }
+
+    private double meanMicros(LongAdder nanos) {
+        long total = compared.sum();
+        return total == 0 ? 0.0 : nanos.sum() / 1_000.0 / total;
+    }
+}
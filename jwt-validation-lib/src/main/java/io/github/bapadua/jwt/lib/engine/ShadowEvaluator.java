@@ -0,0 +1,75 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+
+/**
+ * Executor das avaliações sombra das engines candidatas
+ *
+ * Fila limitada com descarte: quando as candidatas não acompanham a taxa amostrada, a
+ * avaliação é descartada em vez de atrasar o request. As threads só são criadas na
+ * primeira avaliação, então o modo sombra desligado não custa nada.
+ */
+public class ShadowEvaluator implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+
+    public ShadowEvaluator(JwtValidationProperties properties) {
+        this(properties.getEngines().getShadow());
+    }
+
+    public ShadowEvaluator(JwtValidationProperties.Engines.Shadow settings) {
+        this.executor = new ThreadPoolExecutor(
+                settings.getThreads(), settings.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                new ShadowThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @return false se a fila está cheia e a avaliação foi descartada
+     */
+    public boolean submit(Runnable evaluation) {
+        try {
+            executor.execute(evaluation);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Avaliações aguardando uma thread sombra
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Threads daemon de prioridade mínima: a candidata disputa CPU com os requests o mínimo possível
+     */
+    private static final class ShadowThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jwt-shadow-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }
+    }
+}
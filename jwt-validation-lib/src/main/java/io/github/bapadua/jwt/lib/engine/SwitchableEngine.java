@@ -0,0 +1,221 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+
+/**
+ * Etapa da validação com implementação trocável em tempo de execução
+ *
+ * Todas as implementações registradas como beans ficam disponíveis pelo nome do bean.
+ * A primária responde às chamadas; com uma candidata selecionada, uma fração sorteada das
+ * chamadas é repetida na candidata pelo ShadowEvaluator, fora da thread do request, e o
+ * resultado e a latência são comparados com os da primária.
+ *
+ * A seleção é um objeto imutável publicado por campo volatile: a troca não bloqueia as
+ * chamadas em andamento, que terminam na engine que já estavam usando. Sem candidata, a
+ * chamada vai direto para a primária, sem medição nem sorteio.
+ *
+ * A candidata roda sem registrar estatísticas nem eventos JFR: as etapas reportadas são só as
+ * da primária. Trocas em tempo de execução ({@link #selectAtRuntime}) ficam restritas às engines
+ * de runtime-selectable, quando informado.
+ *
+ * As engines precisam ser thread-safe e não podem alterar os argumentos recebidos, que
+ * são compartilhados com a avaliação sombra.
+ *
+ * @param <T> interface da etapa
+ */
+public abstract class SwitchableEngine<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SwitchableEngine.class);
+
+    private final String role;
+    private final Map<String, T> engines;
+    private final Set<String> runtimeSelectable;
+    private final ShadowEvaluator shadowEvaluator;
+    private volatile Selection<T> selection;
+
+    protected SwitchableEngine(String role, Map<String, ? extends T> engines, ShadowEvaluator shadowEvaluator,
+                               JwtValidationProperties.Engines.Selection initial) {
+        if (engines.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma implementação registrada para " + role);
+        }
+        this.role = role;
+        this.engines = Collections.unmodifiableMap(new LinkedHashMap<>(engines));
+        this.runtimeSelectable = initial.getRuntimeSelectable().isEmpty()
+                ? this.engines.keySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<>(initial.getRuntimeSelectable()));
+        this.shadowEvaluator = shadowEvaluator;
+        select(initial.getPrimary(), initial.getCandidate(), initial.getSampleRate());
+    }
+
+    /**
+     * Troca a engine primária e a candidata
+     *
+     * @param primaryName nome do bean que passa a responder às chamadas
+     * @param candidateName nome do bean avaliado em modo sombra, ou null/vazio para desligar
+     * @param sampleRate fração das chamadas reavaliadas pela candidata, entre 0 e 1
+     * @throws IllegalArgumentException se algum nome não está registrado, se a candidata é a própria primária
+     *         ou se a fração está fora do intervalo
+     */
+    public void select(String primaryName, String candidateName, double sampleRate) {
+        T primary = engine(primaryName);
+        boolean shadow = candidateName != null && !candidateName.isBlank();
+        T candidate = shadow ? engine(candidateName) : null;
+        if (candidate == primary) {
+            throw new IllegalArgumentException("A candidata de " + role + " deve ser diferente da primária: " + candidateName);
+        }
+        if (!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException("Fração de amostragem deve estar entre 0 e 1: " + sampleRate);
+        }
+
+        selection = new Selection<>(primaryName, primary, shadow ? candidateName : null, candidate, sampleRate,
+                new ShadowComparison());
+        if (shadow) {
+            logger.info("Engine de {}: {} (candidata {} em {}% das chamadas)", role, primaryName, candidateName,
+                    sampleRate * 100);
+        } else {
+            logger.info("Engine de {}: {}", role, primaryName);
+        }
+    }
+
+    /**
+     * Troca pedida em tempo de execução (ex.: Actuator): como {@link #select}, mas só entre as
+     * engines de runtime-selectable
+     *
+     * @throws IllegalArgumentException também se a primária ou a candidata não são selecionáveis
+     */
+    public void selectAtRuntime(String primaryName, String candidateName, double sampleRate) {
+        requireRuntimeSelectable(primaryName);
+        if (candidateName != null && !candidateName.isBlank()) {
+            requireRuntimeSelectable(candidateName);
+        }
+        select(primaryName, candidateName, sampleRate);
+    }
+
+    private void requireRuntimeSelectable(String name) {
+        if (!runtimeSelectable.contains(name)) {
+            throw new IllegalArgumentException("Engine não selecionável em tempo de execução para " + role + ": "
+                    + name + ". Selecionáveis: " + runtimeSelectable);
+        }
+    }
+
+    private T engine(String name) {
+        T engine = name == null ? null : engines.get(name);
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine desconhecida para " + role + ": " + name
+                    + ". Disponíveis: " + engines.keySet());
+        }
+        return engine;
+    }
+
+    /**
+     * Executa a operação na primária e, se sorteada, agenda a mesma operação na candidata
+     */
+    protected final <R> R evaluate(Function<T, R> operation) {
+        Selection<T> current = selection;
+        if (current.candidate() == null || !current.sampled()) {
+            return operation.apply(current.primary());
+        }
+
+        long start = System.nanoTime();
+        R result = operation.apply(current.primary());
+        long primaryNanos = System.nanoTime() - start;
+
+        ShadowComparison comparison = current.comparison();
+        comparison.recordSampled();
+        if (!shadowEvaluator.submit(() -> compare(current, operation, result, primaryNanos))) {
+            comparison.recordDropped();
+        }
+        return result;
+    }
+
+    private <R> void compare(Selection<T> current, Function<T, R> operation, R primaryResult, long primaryNanos) {
+        long start = System.nanoTime();
+        R candidateResult;
+        try {
+            candidateResult = JwtValidationStatistics.unrecorded(() -> operation.apply(current.candidate()));
+        } catch (RuntimeException e) {
+            current.comparison().recordFailure();
+            logger.warn("Engine candidata {} de {} falhou: {}", current.candidateName(), role, e.getMessage());
+            return;
+        }
+        long candidateNanos = System.nanoTime() - start;
+
+        boolean match = Objects.equals(primaryResult, candidateResult);
+        current.comparison().recordComparison(primaryNanos, candidateNanos, match);
+        if (!match) {
+            logger.warn("Divergência em {}: {} respondeu {}, candidata {} respondeu {}", role,
+                    current.primaryName(), primaryResult, current.candidateName(), candidateResult);
+        }
+    }
+
+    /**
+     * Engine primária atual, para operações que não passam pela avaliação sombra
+     */
+    protected final T primary() {
+        return selection.primary();
+    }
+
+    /**
+     * Nome da etapa (claimsExtractor, claimsValidator, primeNumberValidator)
+     */
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Implementações disponíveis, por nome do bean
+     */
+    public Map<String, T> getEngines() {
+        return engines;
+    }
+
+    /**
+     * Engines aceitas por {@link #selectAtRuntime}
+     */
+    public Set<String> getRuntimeSelectable() {
+        return runtimeSelectable;
+    }
+
+    public String getPrimaryName() {
+        return selection.primaryName();
+    }
+
+    /**
+     * @return nome da candidata, ou null com o modo sombra desligado
+     */
+    public String getCandidateName() {
+        return selection.candidateName();
+    }
+
+    public double getSampleRate() {
+        return selection.sampleRate();
+    }
+
+    /**
+     * Comparação do par selecionado atualmente (zerada a cada troca)
+     */
+    public ShadowComparison getComparison() {
+        return selection.comparison();
+    }
+
+    private record Selection<T>(String primaryName, T primary, String candidateName, T candidate, double sampleRate,
+                                ShadowComparison comparison) {
+
+        boolean sampled() {
+            return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import java.util.Map;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.JwtClaimsExtractor;
+
+/**
+ * Extrator de claims injetado no serviço de validação, delegando à engine selecionada
+ *
+ * Primária padrão: defaultJwtClaimsExtractor (jwt.validation.engines.claims-extractor).
+ */
+public class SwitchableJwtClaimsExtractor extends SwitchableEngine<JwtClaimsExtractor> implements JwtClaimsExtractor {
+
+    public SwitchableJwtClaimsExtractor(Map<String, JwtClaimsExtractor> engines, ShadowEvaluator shadowEvaluator,
+                                        JwtValidationProperties properties) {
+        this(engines, shadowEvaluator, properties.getEngines().getClaimsExtractor());
+    }
+
+    public SwitchableJwtClaimsExtractor(Map<String, JwtClaimsExtractor> engines, ShadowEvaluator shadowEvaluator,
+                                        JwtValidationProperties.Engines.Selection selection) {
+        super("claimsExtractor", engines, shadowEvaluator, selection);
+    }
+
+    @Override
+    public Map<String, String> extractClaims(String jwtToken) {
+        return evaluate(extractor -> extractor.extractClaims(jwtToken));
+    }
+}
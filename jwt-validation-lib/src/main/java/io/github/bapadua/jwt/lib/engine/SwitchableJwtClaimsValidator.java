@@ -0,0 +1,35 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import java.util.Map;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.JwtClaimsValidator;
+
+/**
+ * Validador de claims injetado no serviço de validação, delegando à engine selecionada
+ *
+ * Primária padrão: defaultJwtClaimsValidator (jwt.validation.engines.claims-validator).
+ * Só validateClaims é comparado em modo sombra; validUntil vai sempre para a primária.
+ */
+public class SwitchableJwtClaimsValidator extends SwitchableEngine<JwtClaimsValidator> implements JwtClaimsValidator {
+
+    public SwitchableJwtClaimsValidator(Map<String, JwtClaimsValidator> engines, ShadowEvaluator shadowEvaluator,
+                                        JwtValidationProperties properties) {
+        this(engines, shadowEvaluator, properties.getEngines().getClaimsValidator());
+    }
+
+    public SwitchableJwtClaimsValidator(Map<String, JwtClaimsValidator> engines, ShadowEvaluator shadowEvaluator,
+                                        JwtValidationProperties.Engines.Selection selection) {
+        super("claimsValidator", engines, shadowEvaluator, selection);
+    }
+
+    @Override
+    public boolean validateClaims(Map<String, String> claims) {
+        return evaluate(validator -> validator.validateClaims(claims));
+    }
+
+    @Override
+    public long validUntil(Map<String, String> claims) {
+        return primary().validUntil(claims);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import java.util.Map;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
+
+/**
+ * Validador de primos injetado no validador de claims, delegando à engine selecionada
+ *
+ * Primária padrão: admissionControlledPrimeNumberValidator (jwt.validation.engines.prime-number-validator).
+ * PrimeCheckRejectedException da primária chega ao serviço normalmente; a da candidata conta como falha.
+ */
+public class SwitchablePrimeNumberValidator extends SwitchableEngine<PrimeNumberValidator> implements PrimeNumberValidator {
+
+    public SwitchablePrimeNumberValidator(Map<String, PrimeNumberValidator> engines, ShadowEvaluator shadowEvaluator,
+                                          JwtValidationProperties properties) {
+        this(engines, shadowEvaluator, properties.getEngines().getPrimeNumberValidator());
+    }
+
+    public SwitchablePrimeNumberValidator(Map<String, PrimeNumberValidator> engines, ShadowEvaluator shadowEvaluator,
+                                          JwtValidationProperties.Engines.Selection selection) {
+        super("primeNumberValidator", engines, shadowEvaluator, selection);
+    }
+
+    @Override
+    public boolean isPrime(long number) {
+        return evaluate(validator -> validator.isPrime(number));
+    }
+
+    @Override
+    public boolean isPrime(String decimalNumber) {
+        return evaluate(validator -> validator.isPrime(decimalNumber));
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.bapadua.jwt.lib.exception;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Lançada quando uma verificação de primalidade não pode ser concluída dentro
+ * dos limites de admissão (fila cheia ou prazo excedido).
+ * 
+ * A validação deve falhar fechada: o token é considerado inválido com o motivo informado.
+ */
+public class PrimeCheckRejectedException extends RuntimeException {
+    
+    private final JwtValidationReason reason;
+    
+    public PrimeCheckRejectedException(JwtValidationReason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+    
+    public JwtValidationReason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.bapadua.jwt.lib.jfr;
+
+import java.lang.reflect.Method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Evento JFR do JwtValidationAspect: extração do token + validação, sem a execução do endpoint
+ */
+@Name(JwtAspectValidationEvent.NAME)
+@Label("Validação JWT no endpoint")
+@Description("Extração do token da request e validação pelo @ValidateJwt, antes de prosseguir para o método")
+@Category({"JWT", "Validação"})
+@Enabled(false)
+@StackTrace(false)
+public final class JwtAspectValidationEvent extends Event {
+
+    public static final String NAME = "io.github.bapadua.jwt.AspectValidation";
+
+    /**
+     * Origem do token na request
+     */
+    public enum SourceKind {
+        HEADER, PATH_VARIABLE, REQUEST_PARAM, BODY_FIELD, ARGUMENT, NONE
+    }
+
+    // Registrada durante a extração do token; o enum em si não é um tipo suportado pelo JFR
+    private transient SourceKind source = SourceKind.NONE;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Origem do token")
+    private String sourceKind;
+
+    @Label("Tamanho do token")
+    private int tokenLength;
+
+    @Label("Motivo")
+    private String reason;
+
+    public void source(SourceKind source) {
+        this.source = source;
+    }
+
+    public void complete(Method method, String token, JwtValidationReason reason) {
+        if (shouldCommit()) {
+            this.endpoint = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            this.sourceKind = source.name();
+            this.tokenLength = token != null ? token.length() : 0;
+            this.reason = reason.name();
+            commit();
+        }
+    }
+}
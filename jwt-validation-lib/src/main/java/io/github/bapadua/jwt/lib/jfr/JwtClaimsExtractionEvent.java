@@ -0,0 +1,42 @@
+package io.github.bapadua.jwt.lib.jfr;
+
+import java.util.Map;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+
+/**
+ * Evento JFR da decodificação do payload em claims (DefaultJwtClaimsExtractor)
+ */
+@Name(JwtClaimsExtractionEvent.NAME)
+@Label("Extração de claims JWT")
+@Description("Decodificação Base64URL do payload e parsing das claims")
+@Category({"JWT", "Validação"})
+@Enabled(false)
+@StackTrace(false)
+public final class JwtClaimsExtractionEvent extends Event {
+
+    public static final String NAME = "io.github.bapadua.jwt.ClaimsExtraction";
+
+    @Label("Tamanho do token")
+    private int tokenLength;
+
+    @Label("Claims extraídas")
+    @Description("Quantidade de claims, ou -1 quando o payload não pôde ser decodificado")
+    private int claimCount;
+
+    public void complete(String token, Map<String, String> claims) {
+        if (shouldCommit() && JwtValidationStatistics.isRecording()) {
+            this.tokenLength = token != null ? token.length() : 0;
+            this.claimCount = claims != null ? claims.size() : -1;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.bapadua.jwt.lib.jfr;
+
+import java.util.Map;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+
+/**
+ * Evento JFR da validação das claims (DefaultJwtClaimsValidator), incluindo a verificação da Seed
+ */
+@Name(JwtClaimsValidationEvent.NAME)
+@Label("Validação de claims JWT")
+@Description("Regras de Name, Role, Seed e claims temporais")
+@Category({"JWT", "Validação"})
+@Enabled(false)
+@StackTrace(false)
+public final class JwtClaimsValidationEvent extends Event {
+
+    public static final String NAME = "io.github.bapadua.jwt.ClaimsValidation";
+
+    @Label("Claims")
+    private int claimCount;
+
+    @Label("Dígitos da Seed")
+    private int seedDigits;
+
+    @Label("Válidas")
+    private boolean valid;
+
+    public void complete(Map<String, String> claims, boolean valid) {
+        if (shouldCommit() && JwtValidationStatistics.isRecording()) {
+            String seed = claims.get("Seed");
+            this.claimCount = claims.size();
+            this.seedDigits = seed != null ? seed.length() : 0;
+            this.valid = valid;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.bapadua.jwt.lib.jfr;
+
+import java.math.BigInteger;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+
+/**
+ * Evento JFR da verificação de primalidade da Seed (BailliePswPrimeNumberValidator)
+ *
+ * Com o AdmissionControlledPrimeNumberValidator, Seeds grandes são registradas na thread
+ * do executor isolado, não na thread do request.
+ */
+@Name(JwtPrimeCheckEvent.NAME)
+@Label("Verificação de primalidade da Seed")
+@Category({"JWT", "Validação"})
+@Enabled(false)
+@StackTrace(false)
+public final class JwtPrimeCheckEvent extends Event {
+
+    public static final String NAME = "io.github.bapadua.jwt.PrimeCheck";
+
+    @Label("Dígitos da Seed")
+    private int seedDigits;
+
+    @Label("Bits da Seed")
+    @Description("Tamanho da Seed em bits, ou -1 quando não numérica ou acima do máximo de dígitos")
+    private int seedBitLength;
+
+    @Label("Primo")
+    private boolean prime;
+
+    /**
+     * O tamanho em bits só é calculado quando o evento é gravado, fora do caminho desabilitado
+     */
+    public void complete(String seed, boolean prime, int maxDigits) {
+        if (shouldCommit() && JwtValidationStatistics.isRecording()) {
+            this.seedDigits = seed != null ? seed.length() : 0;
+            this.seedBitLength = bitLength(seed, maxDigits);
+            this.prime = prime;
+            commit();
+        }
+    }
+
+    private static int bitLength(String seed, int maxDigits) {
+        if (seed == null || seed.isEmpty() || seed.length() > maxDigits) {
+            return -1;
+        }
+        try {
+            return new BigInteger(seed).bitLength();
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
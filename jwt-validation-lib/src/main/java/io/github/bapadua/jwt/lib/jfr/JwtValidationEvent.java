@@ -0,0 +1,44 @@
+package io.github.bapadua.jwt.lib.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Evento JFR de uma validação completa no DefaultJwtValidationService
+ *
+ * Desabilitado por padrão: habilitado e com threshold pelo perfil jwt-validation.jfc.
+ */
+@Name(JwtValidationEvent.NAME)
+@Label("Validação JWT")
+@Description("Validação completa de um token: estrutura, revogação, extração e claims")
+@Category({"JWT", "Validação"})
+@Enabled(false)
+@StackTrace(false)
+public final class JwtValidationEvent extends Event {
+
+    public static final String NAME = "io.github.bapadua.jwt.Validation";
+
+    @Label("Tamanho do token")
+    private int tokenLength;
+
+    @Label("Motivo")
+    private String reason;
+
+    /**
+     * Preenche e grava o evento se ele estiver habilitado e acima do threshold
+     */
+    public void complete(String token, JwtValidationReason reason) {
+        if (shouldCommit()) {
+            this.tokenLength = token != null ? token.length() : 0;
+            this.reason = reason.name();
+            commit();
+        }
+    }
+}
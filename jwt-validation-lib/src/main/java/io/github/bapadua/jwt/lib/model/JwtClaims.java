@@ -4,6 +4,9 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 
+import io.github.bapadua.jwt.lib.time.CoarseClock;
+import io.github.bapadua.jwt.lib.time.NumericDate;
+
 /**
  * Representa os claims de um JWT validado.
  * Esta classe é reutilizável e extensível para diferentes tipos de aplicações.
@@ -14,16 +17,37 @@ public class JwtClaims {
     private final String issuer;
     private final Instant issuedAt;
     private final Instant expiration;
-    private final Map<String, Object> customClaims;
+    
+    // exp em segundos (NumericDate.ABSENT quando não há expiração) para isExpired sem alocar
+    private final long expirationEpochSecond;
+    
+    // Claims brutos decodificados na validação; customClaims é materializado a partir deles no primeiro acesso
+    private final Map<String, String> rawClaims;
+    private volatile Map<String, Object> customClaims;
     
     public JwtClaims(String subject, String issuer, Instant issuedAt, Instant expiration, Map<String, Object> customClaims) {
         this.subject = subject;
         this.issuer = issuer;
         this.issuedAt = issuedAt;
         this.expiration = expiration;
+        this.expirationEpochSecond = expiration != null ? expiration.getEpochSecond() : NumericDate.ABSENT;
+        this.rawClaims = null;
         this.customClaims = customClaims != null ? Map.copyOf(customClaims) : Map.of();
     }
     
+    private JwtClaims(Map<String, String> rawClaims) {
+        this.subject = rawClaims.get("Name");
+        this.issuer = null;
+        this.rawClaims = rawClaims;
+        
+        // exp/iat só existem quando a validação temporal está habilitada
+        long issuedAtSecond = NumericDate.parse(rawClaims.get("iat"));
+        this.issuedAt = NumericDate.isPresent(issuedAtSecond) ? Instant.ofEpochSecond(issuedAtSecond) : null;
+        long expirationSecond = NumericDate.parse(rawClaims.get("exp"));
+        this.expirationEpochSecond = NumericDate.isPresent(expirationSecond) ? expirationSecond : NumericDate.ABSENT;
+        this.expiration = NumericDate.isPresent(expirationSecond) ? Instant.ofEpochSecond(expirationSecond) : null;
+    }
+    
     /**
      * Construtor simplificado para casos básicos
      */
@@ -31,6 +55,17 @@ public class JwtClaims {
         this(subject, null, null, null, customClaims);
     }
     
+    /**
+     * Cria uma visão leve sobre os claims já decodificados pela validação.
+     * Não copia nem converte nada: os claims customizados só são materializados no primeiro acesso.
+     * 
+     * @param rawClaims claims decodificados (ex: JwtValidationResult.getClaims())
+     * @return claims do token, ou null se rawClaims for null
+     */
+    public static JwtClaims fromValidatedClaims(Map<String, String> rawClaims) {
+        return rawClaims != null ? new JwtClaims(rawClaims) : null;
+    }
+    
     /**
      * Retorna o subject (usuário) do JWT
      */
@@ -59,11 +94,38 @@ public class JwtClaims {
         return expiration;
     }
     
+    /**
+     * Retorna a claim Name sem materializar os claims customizados
+     */
+    public String getName() {
+        return rawString("Name");
+    }
+    
+    /**
+     * Retorna a claim Role sem materializar os claims customizados
+     */
+    public String getRole() {
+        return rawString("Role");
+    }
+    
+    /**
+     * Retorna a claim Seed sem materializar os claims customizados
+     */
+    public String getSeed() {
+        return rawString("Seed");
+    }
+    
     /**
      * Retorna todos os claims customizados
      */
     public Map<String, Object> getCustomClaims() {
-        return customClaims;
+        Map<String, Object> claims = customClaims;
+        if (claims == null) {
+            // Materialização preguiçosa; corrida benigna, o resultado é sempre o mesmo
+            claims = Map.copyOf(rawClaims);
+            customClaims = claims;
+        }
+        return claims;
     }
     
     /**
@@ -71,7 +133,7 @@ public class JwtClaims {
      */
     @SuppressWarnings("unchecked")
     public <T> T getClaim(String claimName, Class<T> type) {
-        Object value = customClaims.get(claimName);
+        Object value = rawClaims != null ? rawClaims.get(claimName) : customClaims.get(claimName);
         if (value != null && type.isAssignableFrom(value.getClass())) {
             return (T) value;
         }
@@ -82,14 +144,23 @@ public class JwtClaims {
      * Verifica se um claim existe
      */
     public boolean hasClaim(String claimName) {
-        return customClaims.containsKey(claimName);
+        return rawClaims != null ? rawClaims.containsKey(claimName) : customClaims.containsKey(claimName);
+    }
+    
+    private String rawString(String claimName) {
+        if (rawClaims != null) {
+            return rawClaims.get(claimName);
+        }
+        Object value = customClaims.get(claimName);
+        return value != null ? value.toString() : null;
     }
     
     /**
-     * Verifica se o token está expirado
+     * Verifica se o token está expirado (a partir do segundo de exp, pelo relógio compartilhado de baixa resolução)
      */
     public boolean isExpired() {
-        return expiration != null && Instant.now().isAfter(expiration);
+        return expirationEpochSecond != NumericDate.ABSENT
+                && CoarseClock.shared().epochSecond() >= expirationEpochSecond;
     }
     
     @Override
@@ -101,14 +172,14 @@ public class JwtClaims {
                    Objects.equals(issuer, jwtClaims.issuer) &&
                    Objects.equals(issuedAt, jwtClaims.issuedAt) &&
                    Objects.equals(expiration, jwtClaims.expiration) &&
-                   Objects.equals(customClaims, jwtClaims.customClaims);
+                   Objects.equals(getCustomClaims(), jwtClaims.getCustomClaims());
         }
         return false;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(subject, issuer, issuedAt, expiration, customClaims);
+        return Objects.hash(subject, issuer, issuedAt, expiration, getCustomClaims());
     }
     
     @Override
@@ -118,7 +189,7 @@ public class JwtClaims {
                 ", issuer='" + issuer + '\'' +
                 ", issuedAt=" + issuedAt +
                 ", expiration=" + expiration +
-                ", customClaims=" + customClaims +
+                ", customClaims=" + getCustomClaims() +
                 '}';
     }
 } 
\ No newline at end of file
@@ -0,0 +1,45 @@
+package io.github.bapadua.jwt.lib.model;
+
+/**
+ * Motivo do resultado de uma validação JWT.
+ * Permite diferenciar as falhas sem depender das mensagens de log.
+ */
+public enum JwtValidationReason {
+    
+    /** Token válido - todas as validações passaram */
+    VALID,
+    
+    /** Token nulo ou vazio */
+    EMPTY_TOKEN,
+    
+    /** Token não possui 3 partes não vazias */
+    MALFORMED_STRUCTURE,
+    
+    /** Payload não pôde ser decodificado em claims */
+    UNDECODABLE_PAYLOAD,
+    
+    /** Claims decodificados, mas reprovados pelo validador */
+    INVALID_CLAIMS,
+    
+    /** Verificação de primalidade da Seed recusada por falta de capacidade (fail closed) */
+    PRIME_CHECK_REJECTED,
+    
+    /** Verificação de primalidade da Seed excedeu o prazo (fail closed) */
+    PRIME_CHECK_TIMEOUT,
+    
+    /** Token presente na lista de revogação */
+    REVOKED,
+    
+    /** Token rejeitado por uma implementação customizada de JwtValidationService */
+    REJECTED,
+    
+    /** Erro inesperado durante a validação */
+    ERROR;
+    
+    /**
+     * Indica se o motivo representa um token válido
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.bapadua.jwt.lib.model;
+
+import java.util.Map;
+
+/**
+ * Resultado completo de uma validação JWT.
+ * 
+ * Além do veredito, carrega os claims decodificados durante a validação
+ * para que possam ser reaproveitados (ex: injeção de JwtClaims) sem decodificar o token novamente.
+ */
+public final class JwtValidationResult {
+    
+    /** Resultado sem prazo de validade (token sem exp ou validação temporal desabilitada) */
+    public static final long NO_EXPIRATION = Long.MAX_VALUE;
+    
+    private static final JwtValidationResult EMPTY_TOKEN = new JwtValidationResult(JwtValidationReason.EMPTY_TOKEN, null);
+    private static final JwtValidationResult MALFORMED_STRUCTURE = new JwtValidationResult(JwtValidationReason.MALFORMED_STRUCTURE, null);
+    private static final JwtValidationResult UNDECODABLE_PAYLOAD = new JwtValidationResult(JwtValidationReason.UNDECODABLE_PAYLOAD, null);
+    private static final JwtValidationResult REVOKED = new JwtValidationResult(JwtValidationReason.REVOKED, null);
+    private static final JwtValidationResult REJECTED = new JwtValidationResult(JwtValidationReason.REJECTED, null);
+    private static final JwtValidationResult ERROR = new JwtValidationResult(JwtValidationReason.ERROR, null);
+    
+    private final JwtValidationReason reason;
+    private final Map<String, String> claims;
+    private final long validUntilEpochSecond;
+    
+    private JwtValidationResult(JwtValidationReason reason, Map<String, String> claims) {
+        this(reason, claims, NO_EXPIRATION);
+    }
+    
+    private JwtValidationResult(JwtValidationReason reason, Map<String, String> claims, long validUntilEpochSecond) {
+        this.reason = reason;
+        this.claims = claims;
+        this.validUntilEpochSecond = validUntilEpochSecond;
+    }
+    
+    /**
+     * Cria um resultado válido com os claims decodificados
+     */
+    public static JwtValidationResult valid(Map<String, String> claims) {
+        return new JwtValidationResult(JwtValidationReason.VALID, claims);
+    }
+    
+    /**
+     * Cria um resultado válido que deixa de valer no epoch-second informado (exclusivo)
+     */
+    public static JwtValidationResult valid(Map<String, String> claims, long validUntilEpochSecond) {
+        return new JwtValidationResult(JwtValidationReason.VALID, claims, validUntilEpochSecond);
+    }
+    
+    /**
+     * Cria um resultado inválido. Resultados sem claims são compartilhados (sem alocação).
+     */
+    public static JwtValidationResult invalid(JwtValidationReason reason) {
+        return switch (reason) {
+            case EMPTY_TOKEN -> EMPTY_TOKEN;
+            case MALFORMED_STRUCTURE -> MALFORMED_STRUCTURE;
+            case UNDECODABLE_PAYLOAD -> UNDECODABLE_PAYLOAD;
+            case REVOKED -> REVOKED;
+            case REJECTED -> REJECTED;
+            case ERROR -> ERROR;
+            default -> new JwtValidationResult(reason, null);
+        };
+    }
+    
+    /**
+     * Cria um resultado inválido mantendo os claims decodificados (úteis para diagnóstico)
+     */
+    public static JwtValidationResult invalid(JwtValidationReason reason, Map<String, String> claims) {
+        return new JwtValidationResult(reason, claims);
+    }
+    
+    public boolean isValid() {
+        return reason.isValid();
+    }
+    
+    public JwtValidationReason getReason() {
+        return reason;
+    }
+    
+    /**
+     * Primeiro epoch-second em que um resultado válido deixa de valer, ou NO_EXPIRATION
+     */
+    public long getValidUntilEpochSecond() {
+        return validUntilEpochSecond;
+    }
+    
+    /**
+     * Indica se um resultado válido reaproveitado já não vale no horário informado
+     */
+    public boolean isExpiredAt(long epochSecond) {
+        return validUntilEpochSecond != NO_EXPIRATION && epochSecond >= validUntilEpochSecond;
+    }
+    
+    /**
+     * Claims decodificados durante a validação, ou null se a decodificação não ocorreu
+     */
+    public Map<String, String> getClaims() {
+        return claims;
+    }
+    
+    @Override
+    public String toString() {
+        return "JwtValidationResult{" +
+                "reason=" + reason +
+                ", claims=" + (claims != null ? claims.keySet() : null) +
+                '}';
+    }
+}
@@ -4,7 +4,12 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
+
+import io.github.bapadua.jwt.lib.exception.PrimeCheckRejectedException;
+import io.github.bapadua.jwt.lib.jfr.JwtValidationEvent;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
 
 /**
  * Implementação padrão do serviço de validação JWT
@@ -16,25 +21,48 @@ import org.springframework.stereotype.Service;
  * - Interface Segregation: Usa interfaces específicas para cada responsabilidade
  * - Dependency Inversion: Depende de abstrações, não de implementações concretas
  */
-@Service
 public class DefaultJwtValidationService implements JwtValidationService {
     
     private static final Logger logger = LoggerFactory.getLogger(DefaultJwtValidationService.class);
+    private static final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
     
     private final JwtClaimsExtractor claimsExtractor;
     private final JwtClaimsValidator claimsValidator;
+    private final TokenRevocationList revocationList;
     
     public DefaultJwtValidationService(JwtClaimsExtractor claimsExtractor, 
                                      JwtClaimsValidator claimsValidator) {
+        this(claimsExtractor, claimsValidator, TokenRevocationList.none());
+    }
+    
+    public DefaultJwtValidationService(JwtClaimsExtractor claimsExtractor, 
+                                     JwtClaimsValidator claimsValidator,
+                                     TokenRevocationList revocationList) {
         this.claimsExtractor = claimsExtractor;
         this.claimsValidator = claimsValidator;
+        this.revocationList = revocationList;
     }
     
     @Override
     public boolean isValidJwt(String jwtToken) {
+        return validate(jwtToken).isValid();
+    }
+    
+    @Override
+    public JwtValidationResult validate(String jwtToken) {
+        long start = System.nanoTime();
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
+        JwtValidationResult result = validateToken(jwtToken);
+        event.complete(jwtToken, result.getReason());
+        statistics.recordValidation(result.getReason(), System.nanoTime() - start);
+        return result;
+    }
+    
+    private JwtValidationResult validateToken(String jwtToken) {
         if (jwtToken == null || jwtToken.trim().isEmpty()) {
             logger.debug("JWT token é nulo ou vazio");
-            return false;
+            return JwtValidationResult.invalid(JwtValidationReason.EMPTY_TOKEN);
         }
         
         try {
@@ -43,15 +71,23 @@ public class DefaultJwtValidationService implements JwtValidationService {
             // Validação estrutural básica
             if (!isValidJwtStructure(jwtToken)) {
                 logger.warn("JWT token possui estrutura inválida");
-                return false;
+                return JwtValidationResult.invalid(JwtValidationReason.MALFORMED_STRUCTURE);
+            }
+            
+            String token = jwtToken.trim();
+            
+            // Tokens revogados são recusados antes da decodificação do payload
+            if (revocationList.isRevoked(token)) {
+                logger.warn("JWT token revogado");
+                return JwtValidationResult.invalid(JwtValidationReason.REVOKED);
             }
             
             // Extrai claims usando o extrator injetado
-            Map<String, String> claims = claimsExtractor.extractClaims(jwtToken.trim());
+            Map<String, String> claims = claimsExtractor.extractClaims(token);
             
             if (claims == null) {
                 logger.warn("Falha ao extrair claims do JWT token");
-                return false;
+                return JwtValidationResult.invalid(JwtValidationReason.UNDECODABLE_PAYLOAD);
             }
             
             logger.debug("Claims extraídos com sucesso: {}", claims.keySet());
@@ -61,15 +97,20 @@ public class DefaultJwtValidationService implements JwtValidationService {
             if (isValid) {
                 logger.info("JWT token validado com sucesso para Role: {}, Name: {}", 
                           claims.get("Role"), claims.get("Name"));
-            } else {
-                logger.warn("Validação de claims falhou para o JWT token");
+                return JwtValidationResult.valid(claims, claimsValidator.validUntil(claims));
             }
             
-            return isValid;
+            logger.warn("Validação de claims falhou para o JWT token");
+            return JwtValidationResult.invalid(JwtValidationReason.INVALID_CLAIMS, claims);
+            
+        } catch (PrimeCheckRejectedException e) {
+            // Falha fechada: sem capacidade para verificar a Seed, o token é considerado inválido
+            logger.warn("Validação da Seed não admitida: {}", e.getMessage());
+            return JwtValidationResult.invalid(e.getReason());
             
         } catch (Exception e) {
             logger.error("Erro durante a validação do JWT token: {}", e.getMessage(), e);
-            return false;
+            return JwtValidationResult.invalid(JwtValidationReason.ERROR);
         }
     }
     
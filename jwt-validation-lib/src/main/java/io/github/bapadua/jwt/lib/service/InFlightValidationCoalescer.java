@@ -0,0 +1,146 @@
+package io.github.bapadua.jwt.lib.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
+/**
+ * Coalescência (single-flight) de validações concorrentes do mesmo token
+ * 
+ * Em rajadas de chamadas paralelas com o mesmo token, apenas a primeira thread executa
+ * a validação; as demais aguardam o mesmo future por um tempo limitado. Se a espera
+ * expirar ou a validação líder falhar, a thread valida o token por conta própria.
+ * 
+ * Só mantém entradas para validações em andamento - não é um cache.
+ */
+public class InFlightValidationCoalescer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(InFlightValidationCoalescer.class);
+    
+    private final ConcurrentHashMap<String, CompletableFuture<JwtValidationResult>> inFlight = new ConcurrentHashMap<>();
+    
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    
+    public InFlightValidationCoalescer(JwtValidationProperties properties) {
+        this(properties.getCoalescing().isEnabled(), properties.getCoalescing().getMaxWait());
+    }
+    
+    public InFlightValidationCoalescer(boolean enabled, Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+    
+    /**
+     * Valida o token, compartilhando o resultado com validações concorrentes do mesmo token
+     * 
+     * @param jwtToken token a ser validado (chave da coalescência)
+     * @param validator função que executa a validação completa
+     * @return resultado da validação
+     */
+    public JwtValidationResult validate(String jwtToken, Function<String, JwtValidationResult> validator) {
+        if (!enabled || jwtToken == null) {
+            return validator.apply(jwtToken);
+        }
+        
+        CompletableFuture<JwtValidationResult> own = new CompletableFuture<>();
+        CompletableFuture<JwtValidationResult> existing = inFlight.putIfAbsent(jwtToken, own);
+        
+        if (existing == null) {
+            return lead(jwtToken, own, validator);
+        }
+        
+        coalesced.increment();
+        try {
+            return existing.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            fallbacks.increment();
+            logger.debug("Tempo de espera pela validação em andamento esgotado - validando na própria thread");
+            return validator.apply(jwtToken);
+        } catch (ExecutionException e) {
+            fallbacks.increment();
+            logger.debug("Validação líder falhou - validando na própria thread: {}", e.getCause().getMessage());
+            return validator.apply(jwtToken);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JwtValidationResult.invalid(JwtValidationReason.ERROR);
+        }
+    }
+    
+    private JwtValidationResult lead(String jwtToken, CompletableFuture<JwtValidationResult> own,
+                                     Function<String, JwtValidationResult> validator) {
+        leaders.increment();
+        try {
+            JwtValidationResult result = validator.apply(jwtToken);
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(jwtToken, own);
+        }
+    }
+    
+    /**
+     * Validações executadas por threads líderes
+     */
+    public long getLeaders() {
+        return leaders.sum();
+    }
+    
+    /**
+     * Validações que aguardaram o resultado de uma validação em andamento
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+    
+    /**
+     * Esperas que expiraram ou falharam e recorreram à validação na própria thread
+     */
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+    
+    /**
+     * Fração das validações atendidas por coalescência (0.0 a 1.0)
+     */
+    public double getCoalescingRatio() {
+        long coalescedCount = coalesced.sum();
+        long total = leaders.sum() + coalescedCount;
+        return total == 0 ? 0.0 : (double) (coalescedCount - fallbacks.sum()) / total;
+    }
+    
+    /**
+     * Quantidade de validações em andamento no momento
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+    
+    /**
+     * Zera os contadores (fim do aquecimento do JIT, para não misturar o tráfego sintético)
+     */
+    public void resetCounters() {
+        leaders.reset();
+        coalesced.reset();
+        fallbacks.reset();
+    }
+}
@@ -2,6 +2,8 @@ package io.github.bapadua.jwt.lib.service;
 
 import java.util.Map;
 
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
 /**
  * Interface responsável por validar claims de um JWT
  * Aplica os princípios Single Responsibility e Open/Closed
@@ -15,4 +17,14 @@ public interface JwtClaimsValidator {
      * @return true se todos os claims são válidos, false caso contrário
      */
     boolean validateClaims(Map<String, String> claims);
+    
+    /**
+     * Limite de validade dos claims aprovados, usado para que resultados reaproveitados não sobrevivam ao token
+     * 
+     * @param claims Map com os claims já aprovados por validateClaims
+     * @return primeiro epoch-second em que os claims deixam de ser válidos, ou JwtValidationResult.NO_EXPIRATION
+     */
+    default long validUntil(Map<String, String> claims) {
+        return JwtValidationResult.NO_EXPIRATION;
+    }
 } 
\ No newline at end of file
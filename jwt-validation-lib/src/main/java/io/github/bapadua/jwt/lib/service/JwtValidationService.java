@@ -1,5 +1,8 @@
 package io.github.bapadua.jwt.lib.service;
 
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
 /**
  * Interface de serviço para validação de JWT
  * 
@@ -23,4 +26,19 @@ public interface JwtValidationService {
      * @return true se for válido estruturalmente
      */
     boolean isValidJwtStructure(String jwtToken);
+    
+    /**
+     * Valida um JWT e retorna o resultado completo, incluindo os claims decodificados.
+     * 
+     * A implementação padrão apenas adapta isValidJwt (sem claims); implementações que
+     * decodificam o payload devem sobrescrever para permitir o reaproveitamento dos claims.
+     * 
+     * @param jwtToken o token JWT como string
+     * @return resultado da validação
+     */
+    default JwtValidationResult validate(String jwtToken) {
+        return isValidJwt(jwtToken)
+                ? JwtValidationResult.valid(null)
+                : JwtValidationResult.invalid(JwtValidationReason.REJECTED);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,222 @@
+package io.github.bapadua.jwt.lib.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.annotation.TokenPolicy;
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
+/**
+ * Validação dos vários tokens de um mesmo request conforme a TokenPolicy
+ *
+ * Resultados já conhecidos (ex.: memo do request) são considerados primeiro e podem decidir
+ * sozinhos. Dos tokens restantes, o primeiro é validado na thread do request e os demais
+ * em paralelo num pool limitado; com a fila cheia, o token volta para a thread do request.
+ *
+ * A decisão sai assim que possível - primeiro inválido para ALL, primeiro válido para ANY -
+ * e as validações ainda na fila são canceladas. Validações já em andamento terminam sozinhas,
+ * mas seu resultado é descartado: só os resultados lidos pela thread do request antes da
+ * decisão são repassados a quem chamou.
+ */
+public class MultiTokenValidator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiTokenValidator.class);
+
+    // Resultado de um validador que lançou exceção: decide como inválido, mas não é repassado
+    private static final JwtValidationResult FAILED = JwtValidationResult.invalid(JwtValidationReason.ERROR);
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder parallelValidations = new LongAdder();
+    private final LongAdder inlineValidations = new LongAdder();
+    private final LongAdder shortCircuits = new LongAdder();
+
+    public MultiTokenValidator(JwtValidationProperties properties) {
+        this(properties.getMultiToken());
+    }
+
+    public MultiTokenValidator(JwtValidationProperties.MultiToken settings) {
+        if (settings.getThreads() <= 0 || settings.getQueueCapacity() <= 0) {
+            throw new IllegalArgumentException("jwt.validation.multi-token: threads e queue-capacity devem ser positivos");
+        }
+        this.executor = new ThreadPoolExecutor(
+                settings.getThreads(), settings.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                new MultiTokenThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Valida os tokens conforme a política
+     *
+     * @param tokens tokens em ordem de precedência (não vazio)
+     * @param policy ALL ou ANY; as demais políticas validam apenas o primeiro token
+     * @param known resultados já conhecidos por token
+     * @param validator validação completa de um token; chamada de várias threads
+     * @return resultado decisivo: o primeiro inválido (ALL) ou o primeiro válido (ANY); sem
+     *         decisão antecipada, o resultado do primeiro token
+     */
+    public JwtValidationResult validate(List<String> tokens, TokenPolicy policy, Map<String, JwtValidationResult> known,
+                                        Function<String, JwtValidationResult> validator) {
+        return validate(tokens, policy, known, validator, (token, result) -> { });
+    }
+
+    /**
+     * Valida os tokens conforme a política, repassando os resultados obtidos
+     *
+     * @param validated chamado na thread de quem chamou, para cada token validado agora (não os
+     *        conhecidos nem os que falharam) cujo resultado foi lido antes da decisão
+     * @see #validate(List, TokenPolicy, Map, Function)
+     */
+    public JwtValidationResult validate(List<String> tokens, TokenPolicy policy, Map<String, JwtValidationResult> known,
+                                        Function<String, JwtValidationResult> validator,
+                                        BiConsumer<String, JwtValidationResult> validated) {
+        if (policy != TokenPolicy.ALL && policy != TokenPolicy.ANY || tokens.size() == 1) {
+            String token = tokens.get(0);
+            JwtValidationResult result = known.get(token);
+            if (result == null) {
+                result = validator.apply(token);
+                validated.accept(token, result);
+            }
+            return result;
+        }
+
+        JwtValidationResult[] results = new JwtValidationResult[tokens.size()];
+        List<Integer> pending = new ArrayList<>(tokens.size());
+        for (int i = 0; i < results.length; i++) {
+            results[i] = known.get(tokens.get(i));
+            if (results[i] == null) {
+                pending.add(i);
+            } else if (decides(policy, results[i])) {
+                shortCircuits.increment();
+                return results[i];
+            }
+        }
+
+        BlockingQueue<Integer> completed = new ArrayBlockingQueue<>(tokens.size());
+        List<Future<?>> submitted = new ArrayList<>(pending.size());
+        List<Integer> inline = new ArrayList<>(pending.size());
+        for (int p = 0; p < pending.size(); p++) {
+            int index = pending.get(p);
+            if (p == 0) {
+                inline.add(index);
+                continue;
+            }
+            try {
+                submitted.add(executor.submit(() -> {
+                    results[index] = safely(validator, tokens.get(index));
+                    completed.add(index);
+                }));
+                parallelValidations.increment();
+            } catch (RejectedExecutionException e) {
+                inline.add(index);
+            }
+        }
+
+        try {
+            for (int index : inline) {
+                inlineValidations.increment();
+                results[index] = safely(validator, tokens.get(index));
+                report(validated, tokens.get(index), results[index]);
+                if (decides(policy, results[index])) {
+                    shortCircuits.increment();
+                    return results[index];
+                }
+            }
+            for (int i = 0; i < submitted.size(); i++) {
+                int index = completed.take();
+                report(validated, tokens.get(index), results[index]);
+                if (decides(policy, results[index])) {
+                    shortCircuits.increment();
+                    return results[index];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JwtValidationResult.invalid(JwtValidationReason.ERROR);
+        } finally {
+            for (Future<?> future : submitted) {
+                future.cancel(false);
+            }
+        }
+        return results[0];
+    }
+
+    /**
+     * Um inválido decide ALL; um válido decide ANY
+     */
+    private static boolean decides(TokenPolicy policy, JwtValidationResult result) {
+        return policy == TokenPolicy.ALL ? !result.isValid() : result.isValid();
+    }
+
+    private static JwtValidationResult safely(Function<String, JwtValidationResult> validator, String token) {
+        try {
+            return validator.apply(token);
+        } catch (RuntimeException e) {
+            logger.error("Erro ao validar um dos tokens do request: {}", e.getMessage());
+            return FAILED;
+        }
+    }
+
+    private static void report(BiConsumer<String, JwtValidationResult> validated, String token, JwtValidationResult result) {
+        if (result != FAILED) {
+            validated.accept(token, result);
+        }
+    }
+
+    /**
+     * Tokens validados pelo pool, em paralelo à thread do request
+     */
+    public long getParallelValidations() {
+        return parallelValidations.sum();
+    }
+
+    /**
+     * Tokens validados na thread do request (o primeiro de cada lote e os recusados pela fila)
+     */
+    public long getInlineValidations() {
+        return inlineValidations.sum();
+    }
+
+    /**
+     * Lotes decididos antes de validar todos os tokens
+     */
+    public long getShortCircuits() {
+        return shortCircuits.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static final class MultiTokenThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jwt-multi-token-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -13,4 +13,25 @@ public interface PrimeNumberValidator {
      * @return true se o número é primo, false caso contrário
      */
     boolean isPrime(long number);
+    
+    /**
+     * Verifica se um número em notação decimal é primo
+     * 
+     * A implementação padrão aceita apenas valores que cabem em um long;
+     * implementações de precisão arbitrária devem sobrescrever este método.
+     * 
+     * @param decimalNumber número em notação decimal
+     * @return true se o número é primo, false caso contrário (incluindo valores não numéricos)
+     */
+    default boolean isPrime(String decimalNumber) {
+        if (decimalNumber == null) {
+            return false;
+        }
+        
+        try {
+            return isPrime(Long.parseLong(decimalNumber));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 } 
\ No newline at end of file
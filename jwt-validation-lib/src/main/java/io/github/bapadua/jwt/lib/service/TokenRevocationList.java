@@ -0,0 +1,22 @@
+package io.github.bapadua.jwt.lib.service;
+
+/**
+ * Interface para consulta de tokens revogados
+ * Aplica o princípio Interface Segregation - responsabilidade específica de revogação
+ */
+public interface TokenRevocationList {
+    
+    /**
+     * Verifica se o token foi revogado
+     * @param jwtToken - String - O token JWT (sem espaços nas extremidades)
+     * @return boolean - true se o token está revogado, false caso contrário
+     */
+    boolean isRevoked(String jwtToken);
+    
+    /**
+     * Lista vazia, para uso quando a revogação não está configurada
+     */
+    static TokenRevocationList none() {
+        return jwtToken -> false;
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.exception.PrimeCheckRejectedException;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+
+/**
+ * Validador de números primos com controle de admissão
+ * 
+ * Seeds pequenas (estimativa de custo baixa) são verificadas na própria thread do request.
+ * Seeds grandes são enviadas para um executor isolado, com fila limitada e prazo máximo,
+ * para que um cliente patológico não esgote o pool de threads de requests.
+ * 
+ * A verificação em si é delegada ao BailliePswPrimeNumberValidator: valores que cabem em
+ * um long têm custo limitado e sempre rodam na thread do request.
+ * 
+ * Quando a fila está cheia ou o prazo é excedido, a verificação falha fechada com
+ * PrimeCheckRejectedException (motivos PRIME_CHECK_REJECTED / PRIME_CHECK_TIMEOUT).
+ */
+public class AdmissionControlledPrimeNumberValidator implements PrimeNumberValidator, AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlledPrimeNumberValidator.class);
+    
+    private final BailliePswPrimeNumberValidator delegate;
+    private final PrimeCheckCostEstimator costEstimator;
+    private final ThreadPoolExecutor executor;
+    private final long deadlineNanos;
+    
+    private final LongAdder inlineChecks = new LongAdder();
+    private final LongAdder offloadedChecks = new LongAdder();
+    private final LongAdder rejectedChecks = new LongAdder();
+    private final LongAdder timedOutChecks = new LongAdder();
+    
+    public AdmissionControlledPrimeNumberValidator(BailliePswPrimeNumberValidator delegate, JwtValidationProperties properties) {
+        this(delegate, properties.getPrimeCheck());
+    }
+    
+    public AdmissionControlledPrimeNumberValidator(BailliePswPrimeNumberValidator delegate, JwtValidationProperties.PrimeCheck settings) {
+        this.delegate = delegate;
+        this.costEstimator = new PrimeCheckCostEstimator(settings.getInlineMaxBits());
+        this.deadlineNanos = settings.getDeadline().toNanos();
+        this.executor = new ThreadPoolExecutor(
+                settings.getThreads(), settings.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                new PrimeCheckThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    @Override
+    public boolean isPrime(long number) {
+        inlineChecks.increment();
+        return delegate.isPrime(number);
+    }
+    
+    @Override
+    public boolean isPrime(String decimalNumber) {
+        if (decimalNumber == null) {
+            return false;
+        }
+        
+        // Números acima do máximo de dígitos são recusados pelo delegate sem custo
+        int bitLength = PrimeCheckCostEstimator.estimateBitLength(decimalNumber.length());
+        if (costEstimator.isCheap(bitLength) || decimalNumber.length() > delegate.getMaxDigits()) {
+            inlineChecks.increment();
+            return delegate.isPrime(decimalNumber);
+        }
+        
+        Future<Boolean> future;
+        try {
+            // Avaliação sombra continua sem registro na thread do executor
+            future = JwtValidationStatistics.isRecording()
+                    ? executor.submit(() -> delegate.isPrime(decimalNumber))
+                    : executor.submit(() -> JwtValidationStatistics.unrecorded(() -> delegate.isPrime(decimalNumber)));
+        } catch (RejectedExecutionException e) {
+            rejectedChecks.increment();
+            logger.warn("Verificação de primalidade recusada - fila cheia (~{} bits)", bitLength);
+            throw new PrimeCheckRejectedException(JwtValidationReason.PRIME_CHECK_REJECTED,
+                    "Capacidade de verificação de primalidade esgotada");
+        }
+        
+        offloadedChecks.increment();
+        try {
+            return future.get(deadlineNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOutChecks.increment();
+            logger.warn("Verificação de primalidade excedeu o prazo (~{} bits)", bitLength);
+            throw new PrimeCheckRejectedException(JwtValidationReason.PRIME_CHECK_TIMEOUT,
+                    "Prazo da verificação de primalidade excedido");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PrimeCheckRejectedException(JwtValidationReason.PRIME_CHECK_TIMEOUT,
+                    "Verificação de primalidade interrompida");
+        } catch (ExecutionException | CancellationException e) {
+            throw new PrimeCheckRejectedException(JwtValidationReason.PRIME_CHECK_REJECTED,
+                    "Falha na verificação de primalidade: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Verificações executadas na thread do request
+     */
+    public long getInlineChecks() {
+        return inlineChecks.sum();
+    }
+    
+    /**
+     * Verificações enviadas ao executor isolado
+     */
+    public long getOffloadedChecks() {
+        return offloadedChecks.sum();
+    }
+    
+    /**
+     * Verificações recusadas por fila cheia
+     */
+    public long getRejectedChecks() {
+        return rejectedChecks.sum();
+    }
+    
+    /**
+     * Verificações que excederam o prazo
+     */
+    public long getTimedOutChecks() {
+        return timedOutChecks.sum();
+    }
+    
+    /**
+     * Tamanho atual da fila do executor isolado
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Threads daemon nomeadas para facilitar a identificação em thread dumps
+     */
+    private static final class PrimeCheckThreadFactory implements ThreadFactory {
+        
+        private final AtomicInteger counter = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jwt-prime-check-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import java.math.BigInteger;
+import java.util.concurrent.CancellationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.jfr.JwtPrimeCheckEvent;
+import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+
+/**
+ * Validador de números primos de precisão arbitrária com custo limitado
+ *
+ * - Valores que cabem em um long: caminho rápido apenas com primitivos
+ *   (divisão por primos pequenos + Miller-Rabin determinístico com aritmética de Montgomery).
+ * - Valores maiores: teste Baillie-PSW (Miller-Rabin base 2 + Lucas forte com parâmetros de Selfridge).
+ *
+ * O número máximo de dígitos é configurável, limitando o custo de parsing e do teste
+ * para Seeds arbitrariamente grandes.
+ */
+public class BailliePswPrimeNumberValidator implements PrimeNumberValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BailliePswPrimeNumberValidator.class);
+    private static final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
+
+    // Até 18 dígitos o valor sempre cabe em um long
+    private static final int MAX_LONG_SAFE_DIGITS = 18;
+
+    private static final int[] SMALL_PRIMES = {
+        3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83, 89, 97
+    };
+
+    // Abaixo de 101^2, um número sem fatores até 97 é primo
+    private static final long SMALL_PRIMES_LIMIT = 101L * 101L;
+
+    // Bases de Jim Sinclair: Miller-Rabin determinístico para todo n < 2^64
+    private static final long[] MILLER_RABIN_BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+    private static final BigInteger SMALL_PRIMES_PRODUCT = smallPrimesProduct();
+    private static final BigInteger TWO = BigInteger.TWO;
+
+    private final int maxDigits;
+
+    public BailliePswPrimeNumberValidator(JwtValidationProperties properties) {
+        this(properties.getPrimeCheck().getMaxDigits());
+    }
+
+    public BailliePswPrimeNumberValidator(int maxDigits) {
+        this.maxDigits = maxDigits;
+    }
+
+    @Override
+    public boolean isPrime(long number) {
+        if (number < 2) {
+            return false;
+        }
+        if (number < 4) {
+            return true;
+        }
+        if ((number & 1) == 0) {
+            return false;
+        }
+
+        for (int prime : SMALL_PRIMES) {
+            if (number == prime) {
+                return true;
+            }
+            if (number % prime == 0) {
+                return false;
+            }
+        }
+
+        if (number < SMALL_PRIMES_LIMIT) {
+            return true;
+        }
+
+        return millerRabin64(number);
+    }
+
+    @Override
+    public boolean isPrime(String decimalNumber) {
+        long start = System.nanoTime();
+        JwtPrimeCheckEvent event = new JwtPrimeCheckEvent();
+        event.begin();
+        boolean prime = isPrimeDecimal(decimalNumber);
+        event.complete(decimalNumber, prime, maxDigits);
+        statistics.recordPrimeCheck(decimalNumber != null ? decimalNumber.length() : 0, System.nanoTime() - start);
+        return prime;
+    }
+
+    private boolean isPrimeDecimal(String decimalNumber) {
+        if (decimalNumber == null || decimalNumber.isEmpty()) {
+            return false;
+        }
+
+        int digits = decimalNumber.length();
+        if (digits > maxDigits) {
+            logger.debug("Número com {} dígitos excede o máximo configurado de {}", digits, maxDigits);
+            return false;
+        }
+
+        if (digits <= MAX_LONG_SAFE_DIGITS) {
+            try {
+                return isPrime(Long.parseLong(decimalNumber));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < digits; i++) {
+            char c = decimalNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return isPrime(new BigInteger(decimalNumber));
+    }
+
+    /**
+     * Teste Baillie-PSW para números de precisão arbitrária.
+     * Valores que cabem em um long usam o caminho rápido primitivo.
+     */
+    public boolean isPrime(BigInteger number) {
+        if (number.signum() <= 0) {
+            return false;
+        }
+        if (number.bitLength() < Long.SIZE) {
+            return isPrime(number.longValue());
+        }
+        if (!number.testBit(0)) {
+            return false;
+        }
+
+        // Maior que 97: qualquer fator primo pequeno comum torna o número composto
+        if (!number.gcd(SMALL_PRIMES_PRODUCT).equals(BigInteger.ONE)) {
+            return false;
+        }
+
+        return isStrongProbablePrimeBase2(number) && isStrongLucasProbablePrime(number);
+    }
+
+    public int getMaxDigits() {
+        return maxDigits;
+    }
+
+    // ========== Caminho rápido primitivo (n < 2^63) ==========
+
+    /**
+     * Miller-Rabin determinístico para n ímpar, sem fatores até 97, usando multiplicação de Montgomery
+     */
+    private static boolean millerRabin64(long n) {
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>>= s;
+
+        // -n^-1 mod 2^64 por iteração de Newton (cada passo dobra os bits corretos)
+        long inverse = n;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - n * inverse;
+        }
+        long negInverse = -inverse;
+
+        // R = 2^64; one = R mod n, r2 = R^2 mod n
+        long one = Long.remainderUnsigned(-n, n);
+        long r2 = one;
+        for (int i = 0; i < Long.SIZE; i++) {
+            r2 = addMod(r2, r2, n);
+        }
+        long minusOne = n - one;
+
+        nextBase:
+        for (long base : MILLER_RABIN_BASES) {
+            long a = base % n;
+            if (a == 0) {
+                continue;
+            }
+
+            long x = montgomeryPow(montgomeryMultiply(a, r2, n, negInverse), d, one, n, negInverse);
+            if (x == one || x == minusOne) {
+                continue;
+            }
+
+            for (int r = 1; r < s; r++) {
+                x = montgomeryMultiply(x, x, n, negInverse);
+                if (x == minusOne) {
+                    continue nextBase;
+                }
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    private static long montgomeryPow(long base, long exponent, long one, long n, long negInverse) {
+        long result = one;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result = montgomeryMultiply(result, base, n, negInverse);
+            }
+            base = montgomeryMultiply(base, base, n, negInverse);
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * REDC(a * b) para a, b < n < 2^63
+     */
+    private static long montgomeryMultiply(long a, long b, long n, long negInverse) {
+        long low = a * b;
+        long high = Math.unsignedMultiplyHigh(a, b);
+        long m = low * negInverse;
+        long t = high + Math.unsignedMultiplyHigh(m, n) + (low != 0 ? 1 : 0);
+        return Long.compareUnsigned(t, n) >= 0 ? t - n : t;
+    }
+
+    private static long addMod(long a, long b, long n) {
+        long sum = a + b;
+        return Long.compareUnsigned(sum, n) >= 0 ? sum - n : sum;
+    }
+
+    // ========== Baillie-PSW (precisão arbitrária) ==========
+
+    private static boolean isStrongProbablePrimeBase2(BigInteger n) {
+        BigInteger nMinusOne = n.subtract(BigInteger.ONE);
+        int s = nMinusOne.getLowestSetBit();
+        BigInteger d = nMinusOne.shiftRight(s);
+
+        BigInteger x = TWO.modPow(d, n);
+        if (x.equals(BigInteger.ONE) || x.equals(nMinusOne)) {
+            return true;
+        }
+
+        for (int r = 1; r < s; r++) {
+            x = x.multiply(x).mod(n);
+            if (x.equals(nMinusOne)) {
+                return true;
+            }
+            if (x.equals(BigInteger.ONE)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Teste de Lucas forte com parâmetros de Selfridge (método A): P = 1, Q = (1 - D) / 4
+     */
+    private static boolean isStrongLucasProbablePrime(BigInteger n) {
+        // Quadrados perfeitos nunca encontram D com Jacobi(D/n) = -1
+        BigInteger root = n.sqrt();
+        if (root.multiply(root).equals(n)) {
+            return false;
+        }
+
+        long d = 5;
+        while (true) {
+            int jacobi = jacobi(BigInteger.valueOf(d), n);
+            if (jacobi == -1) {
+                break;
+            }
+            if (jacobi == 0 && BigInteger.valueOf(Math.abs(d)).compareTo(n) < 0) {
+                return false;
+            }
+            d = d > 0 ? -(d + 2) : -(d - 2);
+        }
+
+        BigInteger bigD = BigInteger.valueOf(d);
+        BigInteger q = BigInteger.valueOf((1 - d) / 4);
+
+        // n + 1 = k * 2^s, k ímpar
+        BigInteger nPlusOne = n.add(BigInteger.ONE);
+        int s = nPlusOne.getLowestSetBit();
+        BigInteger k = nPlusOne.shiftRight(s);
+
+        // U_1 = 1, V_1 = P = 1, Q^1 = Q
+        BigInteger u = BigInteger.ONE;
+        BigInteger v = BigInteger.ONE;
+        BigInteger qk = q.mod(n);
+
+        for (int bit = k.bitLength() - 2; bit >= 0; bit--) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Verificação de primalidade cancelada");
+            }
+
+            // Duplicação: U_2k = U_k V_k, V_2k = V_k^2 - 2 Q^k
+            u = u.multiply(v).mod(n);
+            v = subtractMod(v.multiply(v).mod(n), doubleMod(qk, n), n);
+            qk = qk.multiply(qk).mod(n);
+
+            if (k.testBit(bit)) {
+                // Incremento: U_k+1 = (P U_k + V_k) / 2, V_k+1 = (D U_k + P V_k) / 2
+                BigInteger nextU = halveMod(addMod(u, v, n), n);
+                BigInteger nextV = halveMod(bigD.multiply(u).add(v).mod(n), n);
+                u = nextU;
+                v = nextV;
+                qk = qk.multiply(q).mod(n);
+            }
+        }
+
+        if (u.signum() == 0 || v.signum() == 0) {
+            return true;
+        }
+
+        for (int r = 1; r < s; r++) {
+            v = subtractMod(v.multiply(v).mod(n), doubleMod(qk, n), n);
+            if (v.signum() == 0) {
+                return true;
+            }
+            qk = qk.multiply(qk).mod(n);
+        }
+
+        return false;
+    }
+
+    // Operações aditivas mod n sem divisão (operandos em [0, n))
+
+    private static BigInteger addMod(BigInteger a, BigInteger b, BigInteger n) {
+        BigInteger sum = a.add(b);
+        return sum.compareTo(n) >= 0 ? sum.subtract(n) : sum;
+    }
+
+    private static BigInteger subtractMod(BigInteger a, BigInteger b, BigInteger n) {
+        BigInteger difference = a.subtract(b);
+        return difference.signum() < 0 ? difference.add(n) : difference;
+    }
+
+    private static BigInteger doubleMod(BigInteger a, BigInteger n) {
+        return addMod(a, a, n);
+    }
+
+    /**
+     * x / 2 mod n para n ímpar e 0 <= x < n
+     */
+    private static BigInteger halveMod(BigInteger x, BigInteger n) {
+        return x.testBit(0) ? x.add(n).shiftRight(1) : x.shiftRight(1);
+    }
+
+    /**
+     * Símbolo de Jacobi (a/n) para n ímpar positivo
+     */
+    private static int jacobi(BigInteger a, BigInteger n) {
+        a = a.mod(n);
+        int result = 1;
+
+        while (a.signum() != 0) {
+            int twos = a.getLowestSetBit();
+            a = a.shiftRight(twos);
+
+            int nMod8 = n.intValue() & 7;
+            if ((twos & 1) == 1 && (nMod8 == 3 || nMod8 == 5)) {
+                result = -result;
+            }
+
+            // Reciprocidade quadrática
+            if ((a.intValue() & 3) == 3 && (n.intValue() & 3) == 3) {
+                result = -result;
+            }
+
+            BigInteger previousA = a;
+            a = n.mod(previousA);
+            n = previousA;
+        }
+
+        return n.equals(BigInteger.ONE) ? result : 0;
+    }
+
+    private static BigInteger smallPrimesProduct() {
+        BigInteger product = BigInteger.ONE;
+        for (int prime : SMALL_PRIMES) {
+            product = product.multiply(BigInteger.valueOf(prime));
+        }
+        return product;
+    }
+}
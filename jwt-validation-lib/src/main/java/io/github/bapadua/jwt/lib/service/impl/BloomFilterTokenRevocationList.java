@@ -0,0 +1,367 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.TokenRevocationList;
+
+/**
+ * Lista de revogação carregada de um arquivo local, consultada sem String.hashCode nem HashMap
+ *
+ * - Cada token é reduzido a um fingerprint de 64 bits (FNV-1a sobre os chars + mistura final).
+ * - Um filtro de Bloom de tamanho fixo descarta quase todos os tokens não revogados.
+ * - Os positivos do filtro são confirmados em um conjunto exato de longs (endereçamento aberto).
+ *
+ * Com a lista vazia a consulta retorna sem calcular o fingerprint.
+ *
+ * O arquivo tem um token por linha (linhas vazias e iniciadas por # são ignoradas) e termina
+ * com a linha {@value #END_MARKER}: sem ela o arquivo é tratado como escrita em andamento e
+ * nada é publicado, para que uma lista truncada não libere tokens revogados.
+ *
+ * Quando observado, qualquer evento no diretório (inclusive a troca do link ..data de um
+ * ConfigMap do Kubernetes) agenda uma recarga após reload-debounce sem novos eventos. A
+ * recarga só acontece se o arquivo real (caminho resolvido, tamanho ou data de modificação)
+ * mudou, e a nova versão das estruturas é publicada por troca atômica de referência: consultas
+ * em andamento continuam usando a versão anterior. Uma recarga com falha mantém a versão anterior.
+ */
+public class BloomFilterTokenRevocationList implements TokenRevocationList, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BloomFilterTokenRevocationList.class);
+
+    /**
+     * Última linha obrigatória do arquivo: marca o conteúdo como completo
+     */
+    public static final String END_MARKER = "# end";
+
+    private static final int MAX_BLOOM_FILTER_BITS = 1 << 30;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final Snapshot EMPTY = new Snapshot(new TokenBloomFilter(Long.SIZE, 0), new LongOpenAddressingSet(0));
+
+    private final boolean enabled;
+    private final Path file;
+    private final int bloomFilterBits;
+    private final long debounceNanos;
+    private final WatchService watchService;
+
+    private volatile Snapshot snapshot = EMPTY;
+    private FileVersion loadedVersion;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder confirmedRevocations = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder reloadFailures = new LongAdder();
+    private volatile long lastReloadNanos;
+
+    public BloomFilterTokenRevocationList(JwtValidationProperties properties) {
+        this(properties.getRevocation());
+    }
+
+    public BloomFilterTokenRevocationList(JwtValidationProperties.Revocation settings) {
+        this.enabled = settings.isEnabled();
+        this.file = settings.getFile();
+        this.bloomFilterBits = settings.getBloomFilterBits();
+        this.debounceNanos = settings.getReloadDebounce().toNanos();
+
+        if (!enabled) {
+            this.watchService = null;
+            return;
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("jwt.validation.revocation.file é obrigatório quando a revogação está habilitada");
+        }
+        if (bloomFilterBits < Long.SIZE || bloomFilterBits > MAX_BLOOM_FILTER_BITS) {
+            throw new IllegalArgumentException("bloom-filter-bits deve estar entre " + Long.SIZE + " e " + MAX_BLOOM_FILTER_BITS);
+        }
+
+        reload();
+        this.watchService = settings.isWatch() ? startWatching() : null;
+    }
+
+    @Override
+    public boolean isRevoked(String jwtToken) {
+        Snapshot current = snapshot;
+        if (current.revoked().size() == 0) {
+            return false;
+        }
+
+        lookups.increment();
+        long fingerprint = fingerprint(jwtToken);
+        if (!current.bloomFilter().mightContain(fingerprint)) {
+            return false;
+        }
+
+        bloomPositives.increment();
+        if (current.revoked().contains(fingerprint)) {
+            confirmedRevocations.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Relê o arquivo e publica a nova versão da lista
+     * @return true se a recarga foi concluída, false se a versão anterior foi mantida
+     */
+    public synchronized boolean reload() {
+        long start = System.nanoTime();
+        try {
+            FileVersion version = FileVersion.of(file);
+            long[] fingerprints = readFingerprints(file);
+            if (!version.equals(FileVersion.of(file))) {
+                throw new IOException("arquivo alterado durante a leitura");
+            }
+
+            TokenBloomFilter bloomFilter = new TokenBloomFilter(bloomFilterBits, fingerprints.length);
+            LongOpenAddressingSet revoked = new LongOpenAddressingSet(fingerprints.length);
+            for (long fingerprint : fingerprints) {
+                bloomFilter.add(fingerprint);
+                revoked.add(fingerprint);
+            }
+
+            snapshot = new Snapshot(bloomFilter, revoked);
+            loadedVersion = version;
+            lastReloadNanos = System.nanoTime() - start;
+            reloads.increment();
+            logger.info("Lista de revogação carregada: {} tokens, k={}, falsos positivos esperados {}",
+                    revoked.size(), bloomFilter.hashFunctions(), bloomFilter.expectedFalsePositiveRate(revoked.size()));
+            return true;
+
+        } catch (NoSuchFileException e) {
+            reloadFailures.increment();
+            logger.warn("Arquivo da lista de revogação não encontrado: {} - mantendo a versão anterior", file);
+            return false;
+        } catch (IOException e) {
+            reloadFailures.increment();
+            logger.error("Falha ao carregar a lista de revogação {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Fingerprint de 64 bits do token: FNV-1a sobre os chars seguido da mistura final do MurmurHash3.
+     * Nunca retorna 0 (reservado no conjunto exato).
+     */
+    static long fingerprint(String jwtToken) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0, length = jwtToken.length(); i < length; i++) {
+            hash = (hash ^ jwtToken.charAt(i)) * FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? FNV_OFFSET_BASIS : hash;
+    }
+
+    private static long[] readFingerprints(Path file) throws IOException {
+        long[] fingerprints = new long[64];
+        int count = 0;
+        boolean complete = false;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String token = line.trim();
+                if (token.isEmpty()) {
+                    continue;
+                }
+                // Só vale como última linha não vazia
+                complete = token.equals(END_MARKER);
+                if (token.startsWith("#")) {
+                    continue;
+                }
+                if (count == fingerprints.length) {
+                    fingerprints = Arrays.copyOf(fingerprints, count * 2);
+                }
+                fingerprints[count++] = fingerprint(token);
+            }
+        }
+        if (!complete) {
+            throw new IOException("arquivo incompleto, sem a linha final '" + END_MARKER + "'");
+        }
+        return Arrays.copyOf(fingerprints, count);
+    }
+
+    /**
+     * Observa o diretório do arquivo; os eventos não são filtrados pelo nome, pois a troca de
+     * um link simbólico (ConfigMap) não gera evento para o próprio arquivo
+     */
+    private WatchService startWatching() {
+        Path directory = file.toAbsolutePath().getParent();
+        try {
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+            Thread watcher = new Thread(() -> watch(service), "jwt-revocation-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            return service;
+
+        } catch (IOException e) {
+            logger.warn("Não foi possível observar {} - a lista de revogação não será recarregada automaticamente: {}",
+                    directory, e.getMessage());
+            return null;
+        }
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                // Debounce: a escrita termina antes de um intervalo inteiro sem eventos
+                do {
+                    key.pollEvents();
+                    key.reset();
+                    key = service.poll(debounceNanos, TimeUnit.NANOSECONDS);
+                } while (key != null);
+
+                reloadIfChanged();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.debug("Observação da lista de revogação encerrada");
+        }
+    }
+
+    private synchronized void reloadIfChanged() {
+        try {
+            if (FileVersion.of(file).equals(loadedVersion)) {
+                logger.debug("Evento no diretório da lista de revogação sem alteração no arquivo");
+                return;
+            }
+        } catch (IOException e) {
+            // Arquivo ausente ou em troca: reload registra a falha e mantém a versão anterior
+        }
+        reload();
+    }
+
+    /**
+     * Consultas que chegaram ao filtro de Bloom (lista não vazia)
+     */
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Consultas aceitas pelo filtro de Bloom e encaminhadas ao conjunto exato
+     */
+    public long getBloomPositives() {
+        return bloomPositives.sum();
+    }
+
+    /**
+     * Tokens revogados encontrados
+     */
+    public long getConfirmedRevocations() {
+        return confirmedRevocations.sum();
+    }
+
+    /**
+     * Positivos do filtro de Bloom descartados pelo conjunto exato
+     */
+    public long getFalsePositives() {
+        return bloomPositives.sum() - confirmedRevocations.sum();
+    }
+
+    /**
+     * Taxa observada de falsos positivos entre os tokens não revogados (0.0 a 1.0)
+     */
+    public double getFalsePositiveRate() {
+        long negatives = lookups.sum() - confirmedRevocations.sum();
+        return negatives <= 0 ? 0.0 : (double) getFalsePositives() / negatives;
+    }
+
+    /**
+     * Taxa teórica de falsos positivos da versão atual do filtro
+     */
+    public double getExpectedFalsePositiveRate() {
+        Snapshot current = snapshot;
+        return current.bloomFilter().expectedFalsePositiveRate(current.revoked().size());
+    }
+
+    /**
+     * Quantidade de tokens distintos na versão atual da lista
+     */
+    public int getRevokedTokens() {
+        return snapshot.revoked().size();
+    }
+
+    /**
+     * Recargas concluídas (incluindo a carga inicial)
+     */
+    public long getReloads() {
+        return reloads.sum();
+    }
+
+    /**
+     * Recargas que falharam e mantiveram a versão anterior
+     */
+    public long getReloadFailures() {
+        return reloadFailures.sum();
+    }
+
+    /**
+     * Duração da última recarga concluída, em milissegundos
+     */
+    public double getLastReloadMillis() {
+        return lastReloadNanos / 1_000_000.0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Falha ao encerrar a observação da lista de revogação: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Identificação do conteúdo lido: caminho real (após links simbólicos), tamanho e modificação
+     */
+    private record FileVersion(Path realPath, long size, long lastModifiedNanos) {
+
+        static FileVersion of(Path file) throws IOException {
+            Path realPath = file.toRealPath();
+            BasicFileAttributes attributes = Files.readAttributes(realPath, BasicFileAttributes.class);
+            return new FileVersion(realPath, attributes.size(), attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Versão imutável da lista: filtro e conjunto exato são sempre publicados juntos
+     */
+    private record Snapshot(TokenBloomFilter bloomFilter, LongOpenAddressingSet revoked) {
+    }
+}
@@ -6,21 +6,33 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
+import io.github.bapadua.jwt.lib.jfr.JwtClaimsExtractionEvent;
 import io.github.bapadua.jwt.lib.service.JwtClaimsExtractor;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.ValidationStage;
 
 /**
  * Implementação padrão do extrator de claims JWT
  * Aplica o princípio Single Responsibility
  */
-@Component
 public class DefaultJwtClaimsExtractor implements JwtClaimsExtractor {
     
     private static final Logger logger = LoggerFactory.getLogger(DefaultJwtClaimsExtractor.class);
+    private static final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
     
     @Override
     public Map<String, String> extractClaims(String jwtToken) {
+        long start = System.nanoTime();
+        JwtClaimsExtractionEvent event = new JwtClaimsExtractionEvent();
+        event.begin();
+        Map<String, String> claims = decodeClaims(jwtToken);
+        event.complete(jwtToken, claims);
+        statistics.recordStage(ValidationStage.EXTRACTION, System.nanoTime() - start);
+        return claims;
+    }
+    
+    private Map<String, String> decodeClaims(String jwtToken) {
         try {
             String[] parts = jwtToken.split("\\.");
             if (parts.length != 3) {
@@ -7,30 +7,39 @@ import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
+import io.github.bapadua.jwt.lib.jfr.JwtClaimsValidationEvent;
 import io.github.bapadua.jwt.lib.service.JwtClaimsValidator;
 import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.ValidationStage;
 
 /**
  * Implementação padrão do validador de claims JWT
  * Aplica os princípios Single Responsibility e Dependency Inversion
  */
-@Component
 public class DefaultJwtClaimsValidator implements JwtClaimsValidator {
     
     private static final Logger logger = LoggerFactory.getLogger(DefaultJwtClaimsValidator.class);
+    private static final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
     
     // Valores válidos para a claim Role
     private static final Set<String> VALID_ROLES = new HashSet<>(Arrays.asList("Admin", "Member", "External"));
     
     // Tamanho máximo da claim Name
-    private static final int MAX_NAME_LENGTH = 256;
+    public static final int MAX_NAME_LENGTH = 256;
     
     private final PrimeNumberValidator primeNumberValidator;
+    private final TemporalClaimsValidator temporalClaimsValidator;
     
     public DefaultJwtClaimsValidator(PrimeNumberValidator primeNumberValidator) {
+        this(primeNumberValidator, TemporalClaimsValidator.disabled());
+    }
+    
+    public DefaultJwtClaimsValidator(PrimeNumberValidator primeNumberValidator,
+                                     TemporalClaimsValidator temporalClaimsValidator) {
         this.primeNumberValidator = primeNumberValidator;
+        this.temporalClaimsValidator = temporalClaimsValidator;
     }
     
     /**
@@ -40,9 +49,20 @@ public class DefaultJwtClaimsValidator implements JwtClaimsValidator {
      */
     @Override
     public boolean validateClaims(Map<String, String> claims) {
-        // Deve conter exatamente 3 claims (Name, Role e Seed)
-        if (claims.size() != 3) {
-            logger.warn("JWT deve conter exatamente 3 claims, mas contém: {}", claims.size());
+        long start = System.nanoTime();
+        JwtClaimsValidationEvent event = new JwtClaimsValidationEvent();
+        event.begin();
+        boolean valid = checkClaims(claims);
+        event.complete(claims, valid);
+        statistics.recordStage(ValidationStage.CLAIMS, System.nanoTime() - start);
+        return valid;
+    }
+    
+    private boolean checkClaims(Map<String, String> claims) {
+        // Deve conter exatamente 3 claims (Name, Role e Seed), além de exp/nbf/iat quando habilitadas
+        int customClaims = claims.size() - temporalClaimsValidator.countTemporalClaims(claims);
+        if (customClaims != 3) {
+            logger.warn("JWT deve conter exatamente 3 claims, mas contém: {}", customClaims);
             return false;
         }
         
@@ -52,6 +72,11 @@ public class DefaultJwtClaimsValidator implements JwtClaimsValidator {
             return false;
         }
         
+        // Validar exp/nbf/iat antes da verificação de primalidade, que é a mais cara
+        if (!temporalClaimsValidator.validate(claims)) {
+            return false;
+        }
+        
         // Validar Name
         String name = claims.get("Name");
         if (!isValidName(name)) {
@@ -77,6 +102,11 @@ public class DefaultJwtClaimsValidator implements JwtClaimsValidator {
         return true;
     }
     
+    @Override
+    public long validUntil(Map<String, String> claims) {
+        return temporalClaimsValidator.validUntil(claims);
+    }
+    
     /**
      * Valida a claim Name:
      * - Não pode conter números
@@ -106,18 +136,14 @@ public class DefaultJwtClaimsValidator implements JwtClaimsValidator {
     
     /**
      * Valida a claim Seed:
-     * - Deve ser um número primo
+     * - Deve ser um número primo (em notação decimal)
      */
     private boolean isValidSeed(String seed) {
         if (seed == null || seed.trim().isEmpty()) {
             return false;
         }
         
-        try {
-            long number = Long.parseLong(seed);
-            return primeNumberValidator.isPrime(number);
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        // Precisão arbitrária quando suportada pelo validador de primos injetado
+        return primeNumberValidator.isPrime(seed);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
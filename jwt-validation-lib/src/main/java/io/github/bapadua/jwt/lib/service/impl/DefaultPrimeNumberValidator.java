@@ -1,14 +1,11 @@
 package io.github.bapadua.jwt.lib.service.impl;
 
-import org.springframework.stereotype.Component;
-
 import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
 
 /**
  * Implementação padrão do validador de números primos
  * Aplica o princípio Single Responsibility
  */
-@Component
 public class DefaultPrimeNumberValidator implements PrimeNumberValidator {
     
     @Override
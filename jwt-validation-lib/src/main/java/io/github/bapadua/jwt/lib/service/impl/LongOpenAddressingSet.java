@@ -0,0 +1,63 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+/**
+ * Conjunto de longs com endereçamento aberto e sondagem linear
+ * 
+ * Sem boxing e sem objetos por entrada: os valores ficam diretamente em um long[]
+ * com fator de carga de no máximo 0.5. O valor 0 é reservado para slot vazio.
+ * Dimensionado uma única vez - não cresce após a construção.
+ */
+final class LongOpenAddressingSet {
+    
+    private static final long EMPTY = 0L;
+    
+    private final long[] slots;
+    private final int mask;
+    private int size;
+    
+    LongOpenAddressingSet(int expectedEntries) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedEntries) * 2 - 1) << 1;
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+    
+    /**
+     * Adiciona o valor (diferente de 0)
+     * @return true se o valor ainda não estava presente
+     */
+    boolean add(long value) {
+        if (value == EMPTY) {
+            throw new IllegalArgumentException("O valor 0 é reservado para slots vazios");
+        }
+        if (size >= slots.length / 2) {
+            throw new IllegalArgumentException("Capacidade do conjunto excedida: " + size);
+        }
+        
+        int index = (int) value & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        return true;
+    }
+    
+    boolean contains(long value) {
+        int index = (int) value & mask;
+        long current;
+        while ((current = slots[index]) != EMPTY) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+    
+    int size() {
+        return size;
+    }
+}
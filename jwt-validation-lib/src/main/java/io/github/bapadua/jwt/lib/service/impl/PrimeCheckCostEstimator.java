@@ -0,0 +1,46 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+/**
+ * Estimador de custo da verificação de primalidade da Seed
+ * 
+ * Com o BailliePswPrimeNumberValidator, valores que cabem em um long têm custo limitado
+ * (Miller-Rabin determinístico), enquanto o custo do Baillie-PSW cresce com o comprimento
+ * em bits do número. A decisão usa apenas o comprimento em bits, estimado a partir da
+ * quantidade de dígitos para não exigir o parsing do número.
+ */
+public final class PrimeCheckCostEstimator {
+    
+    // log2(10)
+    private static final double BITS_PER_DIGIT = 3.321928094887362;
+    
+    private final int inlineMaxBits;
+    
+    public PrimeCheckCostEstimator(int inlineMaxBits) {
+        this.inlineMaxBits = inlineMaxBits;
+    }
+    
+    /**
+     * Comprimento em bits do número (0 para valores não positivos)
+     */
+    public static int bitLength(long number) {
+        return number <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(number);
+    }
+    
+    /**
+     * Comprimento máximo em bits de um número decimal com a quantidade de dígitos informada
+     */
+    public static int estimateBitLength(int decimalDigits) {
+        return (int) Math.ceil(decimalDigits * BITS_PER_DIGIT);
+    }
+    
+    /**
+     * Indica se a verificação é barata o suficiente para rodar na thread do request
+     */
+    public boolean isCheap(int bitLength) {
+        return bitLength <= inlineMaxBits;
+    }
+    
+    public int getInlineMaxBits() {
+        return inlineMaxBits;
+    }
+}
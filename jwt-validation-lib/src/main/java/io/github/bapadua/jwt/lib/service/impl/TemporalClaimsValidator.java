@@ -0,0 +1,160 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.time.CoarseClock;
+import io.github.bapadua.jwt.lib.time.NumericDate;
+
+/**
+ * Validação das claims temporais exp, nbf e iat (RFC 7519)
+ *
+ * - exp: recusado a partir de exp + tolerância
+ * - nbf: recusado antes de nbf - tolerância
+ * - iat: recusado se emitido depois de agora + tolerância
+ *
+ * O horário vem do CoarseClock compartilhado como long de segundos, sem alocar Instant.
+ * Desabilitada por padrão: sem ela exp/nbf/iat contam como claims extras e o token é recusado.
+ */
+public class TemporalClaimsValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemporalClaimsValidator.class);
+
+    private final boolean enabled;
+    private final long clockSkewSeconds;
+    private final boolean requireExpiration;
+    private final LongSupplier epochSecondClock;
+
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder notYetValid = new LongAdder();
+    private final LongAdder issuedInFuture = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+
+    public TemporalClaimsValidator(JwtValidationProperties properties) {
+        // Lambda para só iniciar o relógio quando a validação temporal for de fato usada
+        this(properties.getTemporal(), () -> CoarseClock.shared().epochSecond());
+    }
+
+    public TemporalClaimsValidator(JwtValidationProperties.Temporal settings, LongSupplier epochSecondClock) {
+        this.enabled = settings.isEnabled();
+        this.clockSkewSeconds = settings.getClockSkew().toSeconds();
+        this.requireExpiration = settings.isRequireExpiration();
+        this.epochSecondClock = epochSecondClock;
+    }
+
+    /**
+     * Instância desabilitada, para validadores construídos manualmente
+     */
+    public static TemporalClaimsValidator disabled() {
+        return new TemporalClaimsValidator(new JwtValidationProperties.Temporal(), () -> 0L);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Quantidade de claims temporais presentes (não contam no limite de claims do desafio)
+     */
+    public int countTemporalClaims(Map<String, String> claims) {
+        if (!enabled) {
+            return 0;
+        }
+        int count = 0;
+        if (claims.containsKey("exp")) count++;
+        if (claims.containsKey("nbf")) count++;
+        if (claims.containsKey("iat")) count++;
+        return count;
+    }
+
+    /**
+     * Valida exp, nbf e iat contra o horário atual
+     * @return true se as claims temporais presentes são válidas agora (ou se a validação está desabilitada)
+     */
+    public boolean validate(Map<String, String> claims) {
+        if (!enabled) {
+            return true;
+        }
+
+        long expiration = NumericDate.parse(claims.get("exp"));
+        long notBefore = NumericDate.parse(claims.get("nbf"));
+        long issuedAt = NumericDate.parse(claims.get("iat"));
+
+        if (expiration == NumericDate.INVALID || notBefore == NumericDate.INVALID || issuedAt == NumericDate.INVALID) {
+            malformed.increment();
+            logger.warn("Claims temporais com formato inválido (exp={}, nbf={}, iat={})",
+                    claims.get("exp"), claims.get("nbf"), claims.get("iat"));
+            return false;
+        }
+        if (expiration == NumericDate.ABSENT && requireExpiration) {
+            malformed.increment();
+            logger.warn("Claim exp obrigatória ausente");
+            return false;
+        }
+
+        long now = epochSecondClock.getAsLong();
+
+        if (expiration != NumericDate.ABSENT && now >= expiration + clockSkewSeconds) {
+            expired.increment();
+            logger.warn("JWT expirado em {} (agora {})", expiration, now);
+            return false;
+        }
+        if (notBefore != NumericDate.ABSENT && now < notBefore - clockSkewSeconds) {
+            notYetValid.increment();
+            logger.warn("JWT ainda não é válido (nbf {}, agora {})", notBefore, now);
+            return false;
+        }
+        if (issuedAt != NumericDate.ABSENT && issuedAt > now + clockSkewSeconds) {
+            issuedInFuture.increment();
+            logger.warn("JWT emitido no futuro (iat {}, agora {})", issuedAt, now);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Primeiro segundo em que o token deixa de ser aceito (exp + tolerância)
+     * @return epoch-second exclusivo, ou JwtValidationResult.NO_EXPIRATION
+     */
+    public long validUntil(Map<String, String> claims) {
+        if (!enabled) {
+            return JwtValidationResult.NO_EXPIRATION;
+        }
+        long expiration = NumericDate.parse(claims.get("exp"));
+        return NumericDate.isPresent(expiration) ? expiration + clockSkewSeconds : JwtValidationResult.NO_EXPIRATION;
+    }
+
+    /**
+     * Tokens recusados por exp
+     */
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    /**
+     * Tokens recusados por nbf
+     */
+    public long getNotYetValid() {
+        return notYetValid.sum();
+    }
+
+    /**
+     * Tokens recusados por iat no futuro
+     */
+    public long getIssuedInFuture() {
+        return issuedInFuture.sum();
+    }
+
+    /**
+     * Tokens recusados por claims temporais malformadas ou exp obrigatória ausente
+     */
+    public long getMalformed() {
+        return malformed.sum();
+    }
+}
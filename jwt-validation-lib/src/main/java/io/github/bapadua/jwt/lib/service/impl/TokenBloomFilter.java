@@ -0,0 +1,79 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+/**
+ * Filtro de Bloom de tamanho fixo sobre fingerprints de 64 bits
+ * 
+ * Os bits ficam em um long[] no heap. As k posições são derivadas do próprio fingerprint
+ * por double hashing (metade baixa + i * metade alta), sem recalcular hash do token.
+ * Imutável após a construção pelo BloomFilterTokenRevocationList.
+ */
+final class TokenBloomFilter {
+    
+    private static final int MAX_HASH_FUNCTIONS = 16;
+    
+    private final long[] words;
+    private final int mask;
+    private final int hashFunctions;
+    
+    /**
+     * @param bits tamanho do filtro, arredondado para a potência de 2 seguinte (mínimo 64)
+     * @param expectedEntries quantidade de fingerprints que serão adicionados
+     */
+    TokenBloomFilter(int bits, int expectedEntries) {
+        int size = Math.max(Long.SIZE, Integer.highestOneBit(Math.max(1, bits - 1)) << 1);
+        this.words = new long[size / Long.SIZE];
+        this.mask = size - 1;
+        this.hashFunctions = optimalHashFunctions(size, expectedEntries);
+    }
+    
+    void add(long fingerprint) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = (h1 + i * h2) & mask;
+            words[bit >>> 6] |= 1L << bit;
+        }
+    }
+    
+    boolean mightContain(long fingerprint) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Taxa teórica de falsos positivos: (1 - e^(-k n / m))^k
+     */
+    double expectedFalsePositiveRate(int entries) {
+        if (entries == 0) {
+            return 0.0;
+        }
+        double bits = mask + 1.0;
+        return Math.pow(1 - Math.exp(-hashFunctions * entries / bits), hashFunctions);
+    }
+    
+    int bitSize() {
+        return mask + 1;
+    }
+    
+    int hashFunctions() {
+        return hashFunctions;
+    }
+    
+    /**
+     * k ótimo = (m / n) ln 2, limitado para manter o custo da consulta previsível
+     */
+    private static int optimalHashFunctions(int bits, int expectedEntries) {
+        if (expectedEntries <= 0) {
+            return 1;
+        }
+        long k = Math.round((double) bits / expectedEntries * Math.log(2));
+        return (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, k));
+    }
+}
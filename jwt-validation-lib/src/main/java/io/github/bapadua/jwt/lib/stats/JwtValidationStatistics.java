@@ -0,0 +1,183 @@
+package io.github.bapadua.jwt.lib.stats;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Estatísticas de validação do processo: latência por etapa, motivos e custo da verificação de primalidade
+ * 
+ * Compartilhada pelo processo, para que as etapas montadas sem Spring (Lambda, servidor
+ * standalone, sidecars) também registrem. Todos os contadores são LongAdders: o registro não
+ * bloqueia e a leitura (Actuator) não disputa com o caminho do request. A instância compartilhada
+ * lê System.currentTimeMillis(), sem o CoarseClock, cuja thread só deve iniciar quando a
+ * validação temporal for usada.
+ * 
+ * O que roda dentro de {@link #unrecorded(Supplier)} (avaliação sombra das engines candidatas)
+ * não é registrado aqui nem nos eventos JFR, para não misturar a candidata às etapas em produção.
+ */
+public final class JwtValidationStatistics {
+    
+    /**
+     * Faixas de tamanho da Seed para o custo da verificação de primalidade
+     */
+    public enum SeedSize {
+        /** Até 18 dígitos: caminho primitivo (long) */
+        LONG(18),
+        /** Até 256 bits */
+        UP_TO_256_BITS(77),
+        /** Até 1024 bits */
+        UP_TO_1024_BITS(308),
+        /** Acima de 1024 bits */
+        LARGER(Integer.MAX_VALUE);
+        
+        private final int maxDigits;
+        
+        SeedSize(int maxDigits) {
+            this.maxDigits = maxDigits;
+        }
+        
+        static SeedSize of(int digits) {
+            for (SeedSize size : values()) {
+                if (digits <= size.maxDigits) {
+                    return size;
+                }
+            }
+            return LARGER;
+        }
+    }
+    
+    private static final ValidationStage[] STAGES = ValidationStage.values();
+    private static final JwtValidationReason[] REASONS = JwtValidationReason.values();
+    private static final SeedSize[] SEED_SIZES = SeedSize.values();
+    
+    private static final ThreadLocal<Boolean> UNRECORDED = new ThreadLocal<>();
+    
+    private final RollingLatency[] stages = new RollingLatency[STAGES.length];
+    private final LongAdder[] reasons = new LongAdder[REASONS.length];
+    private final LongAdder[] primeChecks = new LongAdder[SEED_SIZES.length];
+    private final LongAdder[] primeCheckNanos = new LongAdder[SEED_SIZES.length];
+    
+    public JwtValidationStatistics(LongSupplier epochSecondClock) {
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new RollingLatency(epochSecondClock);
+        }
+        for (int i = 0; i < reasons.length; i++) {
+            reasons[i] = new LongAdder();
+        }
+        for (int i = 0; i < primeChecks.length; i++) {
+            primeChecks[i] = new LongAdder();
+            primeCheckNanos[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Instância compartilhada do processo
+     */
+    public static JwtValidationStatistics shared() {
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Executa sem registrar estatísticas nem eventos JFR na thread atual
+     */
+    public static <R> R unrecorded(Supplier<R> work) {
+        Boolean previous = UNRECORDED.get();
+        UNRECORDED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            UNRECORDED.set(previous);
+        }
+    }
+    
+    /**
+     * false dentro de {@link #unrecorded(Supplier)}
+     */
+    public static boolean isRecording() {
+        return UNRECORDED.get() == null;
+    }
+    
+    public void recordStage(ValidationStage stage, long nanos) {
+        if (isRecording()) {
+            stages[stage.ordinal()].record(nanos);
+        }
+    }
+    
+    /**
+     * Registra uma validação completa: latência da etapa VALIDATION e o motivo do resultado
+     */
+    public void recordValidation(JwtValidationReason reason, long nanos) {
+        if (isRecording()) {
+            stages[ValidationStage.VALIDATION.ordinal()].record(nanos);
+            reasons[reason.ordinal()].increment();
+        }
+    }
+    
+    /**
+     * Registra uma verificação de primalidade: latência da etapa PRIME_CHECK e custo pela faixa da Seed
+     */
+    public void recordPrimeCheck(int seedDigits, long nanos) {
+        if (!isRecording()) {
+            return;
+        }
+        stages[ValidationStage.PRIME_CHECK.ordinal()].record(nanos);
+        int size = SeedSize.of(seedDigits).ordinal();
+        primeChecks[size].increment();
+        primeCheckNanos[size].add(nanos);
+    }
+    
+    /**
+     * Zera etapas, motivos e custo da verificação de primalidade (ex.: ao fim do aquecimento do JIT)
+     */
+    public void reset() {
+        for (RollingLatency stage : stages) {
+            stage.reset();
+        }
+        for (LongAdder reason : reasons) {
+            reason.reset();
+        }
+        for (int i = 0; i < primeChecks.length; i++) {
+            primeChecks[i].reset();
+            primeCheckNanos[i].reset();
+        }
+    }
+    
+    public RollingLatency.Snapshot getStage(ValidationStage stage) {
+        return stages[stage.ordinal()].snapshot();
+    }
+    
+    /**
+     * Validações por motivo desde o início do processo
+     */
+    public Map<JwtValidationReason, Long> getReasonCounts() {
+        Map<JwtValidationReason, Long> counts = new EnumMap<>(JwtValidationReason.class);
+        for (JwtValidationReason reason : REASONS) {
+            counts.put(reason, reasons[reason.ordinal()].sum());
+        }
+        return counts;
+    }
+    
+    /**
+     * Verificações de primalidade por faixa de tamanho da Seed
+     */
+    public long getPrimeChecks(SeedSize size) {
+        return primeChecks[size.ordinal()].sum();
+    }
+    
+    /**
+     * Custo médio da verificação de primalidade na faixa, em microssegundos
+     */
+    public double getPrimeCheckMeanMicros(SeedSize size) {
+        long count = primeChecks[size.ordinal()].sum();
+        return count == 0 ? 0.0 : primeCheckNanos[size.ordinal()].sum() / 1000.0 / count;
+    }
+    
+    private static final class Holder {
+        private static final JwtValidationStatistics INSTANCE = new JwtValidationStatistics(() -> System.currentTimeMillis() / 1000);
+    }
+}
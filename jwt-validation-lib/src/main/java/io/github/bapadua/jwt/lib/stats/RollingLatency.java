@@ -0,0 +1,223 @@
+package io.github.bapadua.jwt.lib.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Contagem e histograma de latência em janela deslizante, sem locks
+ * 
+ * A janela é dividida em fatias de tempo; cada fatia guarda a contagem, a soma e um
+ * histograma log-linear (4 sub-faixas por potência de 2, erro relativo máximo de ~25%)
+ * em LongAdders. O registro só incrementa células listradas e a leitura só soma -
+ * leitores nunca disputam com o caminho do request.
+ * 
+ * Ao entrar em uma fatia antiga, a primeira thread a reivindicá-la zera os contadores;
+ * amostras que chegam durante essa troca são descartadas. Os valores são aproximados.
+ */
+public final class RollingLatency {
+    
+    static final int SLOTS = 6;
+    static final int SLOT_SECONDS = 10;
+    
+    // Latências acima de 2^36 ns (~69 s) caem no último bucket
+    private static final int MAX_EXPONENT = 36;
+    static final int BUCKETS = 4 * (MAX_EXPONENT - 1) + 4;
+    
+    private static final long RESETTING = -1;
+    
+    private final Slot[] slots = new Slot[SLOTS];
+    private final LongAdder total = new LongAdder();
+    private final LongSupplier epochSecondClock;
+    private volatile long createdAtSecond;
+    
+    public RollingLatency(LongSupplier epochSecondClock) {
+        this.epochSecondClock = epochSecondClock;
+        this.createdAtSecond = epochSecondClock.getAsLong();
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new Slot();
+        }
+    }
+    
+    /**
+     * Registra uma execução com a duração informada
+     */
+    public void record(long nanos) {
+        total.increment();
+        
+        long slotEpoch = epochSecondClock.getAsLong() / SLOT_SECONDS;
+        Slot slot = slots[(int) (slotEpoch % SLOTS)];
+        long current = slot.epoch.get();
+        if (current != slotEpoch) {
+            if (current == RESETTING || !slot.epoch.compareAndSet(current, RESETTING)) {
+                return;
+            }
+            slot.reset();
+            slot.epoch.set(slotEpoch);
+        }
+        
+        slot.count.increment();
+        slot.sumNanos.add(nanos);
+        slot.buckets[bucketIndex(nanos)].increment();
+    }
+    
+    /**
+     * Descarta o total e as fatias; a janela volta a contar a partir de agora
+     */
+    public void reset() {
+        for (Slot slot : slots) {
+            slot.epoch.set(RESETTING);
+            slot.reset();
+            slot.epoch.set(Long.MIN_VALUE);
+        }
+        total.reset();
+        createdAtSecond = epochSecondClock.getAsLong();
+    }
+    
+    /**
+     * Soma as fatias dentro da janela (a fatia atual entra parcialmente)
+     */
+    public Snapshot snapshot() {
+        long nowSecond = epochSecondClock.getAsLong();
+        long currentEpoch = nowSecond / SLOT_SECONDS;
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        long sumNanos = 0;
+        
+        for (Slot slot : slots) {
+            long epoch = slot.epoch.get();
+            if (epoch > currentEpoch - SLOTS && epoch <= currentEpoch) {
+                count += slot.count.sum();
+                sumNanos += slot.sumNanos.sum();
+                for (int i = 0; i < BUCKETS; i++) {
+                    counts[i] += slot.buckets[i].sum();
+                }
+            }
+        }
+        
+        // Janela efetiva: as fatias completas anteriores mais o trecho decorrido da atual,
+        // limitada ao tempo desde a criação
+        long windowSeconds = (SLOTS - 1) * SLOT_SECONDS + (nowSecond % SLOT_SECONDS) + 1;
+        long elapsed = Math.max(1, Math.min(windowSeconds, nowSecond - createdAtSecond + 1));
+        return new Snapshot(total.sum(), count, elapsed, sumNanos, counts);
+    }
+    
+    static int bucketIndex(long nanos) {
+        if (nanos < 4) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - 2)) & 3;
+        return 4 * (exponent - 1) + subBucket;
+    }
+    
+    /**
+     * Maior valor representado pelo bucket (limite superior, conservador para percentis)
+     */
+    static long bucketUpperBound(int index) {
+        if (index < 4) {
+            return index;
+        }
+        int exponent = index / 4 + 1;
+        int subBucket = index % 4;
+        return ((4L + subBucket + 1) << (exponent - 2)) - 1;
+    }
+    
+    /**
+     * Estado agregado da janela no momento da leitura
+     */
+    public static final class Snapshot {
+        
+        private final long total;
+        private final long count;
+        private final long windowSeconds;
+        private final long sumNanos;
+        private final long[] buckets;
+        
+        Snapshot(long total, long count, long windowSeconds, long sumNanos, long[] buckets) {
+            this.total = total;
+            this.count = count;
+            this.windowSeconds = windowSeconds;
+            this.sumNanos = sumNanos;
+            this.buckets = buckets;
+        }
+        
+        /**
+         * Execuções desde o início do processo
+         */
+        public long getTotal() {
+            return total;
+        }
+        
+        /**
+         * Execuções dentro da janela
+         */
+        public long getCount() {
+            return count;
+        }
+        
+        public long getWindowSeconds() {
+            return windowSeconds;
+        }
+        
+        public double getThroughputPerSecond() {
+            return (double) count / windowSeconds;
+        }
+        
+        public double getMeanMicros() {
+            return count == 0 ? 0.0 : sumNanos / 1000.0 / count;
+        }
+        
+        /**
+         * Percentil (0 a 100) em microssegundos, pelo limite superior do bucket
+         */
+        public double getPercentileMicros(double percentile) {
+            if (count == 0) {
+                return 0.0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return bucketUpperBound(i) / 1000.0;
+                }
+            }
+            return bucketUpperBound(buckets.length - 1) / 1000.0;
+        }
+        
+        public double getMaxMicros() {
+            for (int i = buckets.length - 1; i >= 0; i--) {
+                if (buckets[i] > 0) {
+                    return bucketUpperBound(i) / 1000.0;
+                }
+            }
+            return 0.0;
+        }
+    }
+    
+    private static final class Slot {
+        
+        final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        final LongAdder count = new LongAdder();
+        final LongAdder sumNanos = new LongAdder();
+        final LongAdder[] buckets = new LongAdder[BUCKETS];
+        
+        Slot() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+        
+        void reset() {
+            count.reset();
+            sumNanos.reset();
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.bapadua.jwt.lib.stats;
+
+/**
+ * Etapas da validação com latência medida pelo JwtValidationStatistics
+ */
+public enum ValidationStage {
+    
+    /** Extração do token da request e validação no JwtValidationAspect */
+    ASPECT,
+    
+    /** Validação completa no DefaultJwtValidationService */
+    VALIDATION,
+    
+    /** Decodificação do payload em claims */
+    EXTRACTION,
+    
+    /** Regras das claims, incluindo a verificação da Seed */
+    CLAIMS,
+    
+    /** Verificação de primalidade da Seed */
+    PRIME_CHECK
+}
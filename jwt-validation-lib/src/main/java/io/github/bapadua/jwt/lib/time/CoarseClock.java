@@ -0,0 +1,64 @@
+package io.github.bapadua.jwt.lib.time;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Relógio de baixa resolução compartilhado
+ * 
+ * Uma thread daemon atualiza o horário a cada milissegundo; as leituras são apenas
+ * leituras de campos volatile long - sem chamadas ao sistema e sem alocar Instant.
+ * A thread só é criada no primeiro acesso a shared().
+ */
+public final class CoarseClock {
+    
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private volatile long epochMillis;
+    private volatile long epochSecond;
+    
+    private CoarseClock() {
+        tick();
+        Thread ticker = new Thread(this::run, "jwt-coarse-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+    
+    /**
+     * Instância compartilhada (inicialização preguiçosa e thread-safe pelo holder)
+     */
+    public static CoarseClock shared() {
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Segundos desde a epoch, com atraso máximo de ~1 ms
+     */
+    public long epochSecond() {
+        return epochSecond;
+    }
+    
+    /**
+     * Milissegundos desde a epoch, com atraso máximo de ~1 ms
+     */
+    public long epochMillis() {
+        return epochMillis;
+    }
+    
+    private void run() {
+        while (true) {
+            LockSupport.parkNanos(TICK_NANOS);
+            tick();
+        }
+    }
+    
+    private void tick() {
+        long now = System.currentTimeMillis();
+        epochMillis = now;
+        epochSecond = Math.floorDiv(now, 1000L);
+    }
+    
+    private static final class Holder {
+        private static final CoarseClock INSTANCE = new CoarseClock();
+    }
+}
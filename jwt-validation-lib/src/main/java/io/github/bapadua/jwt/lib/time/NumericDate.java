@@ -0,0 +1,59 @@
+package io.github.bapadua.jwt.lib.time;
+
+/**
+ * Conversão de claims NumericDate (RFC 7519: segundos desde a epoch) para long primitivo
+ */
+public final class NumericDate {
+    
+    /** Claim ausente */
+    public static final long ABSENT = Long.MIN_VALUE;
+    
+    /** Claim presente, mas não é um NumericDate */
+    public static final long INVALID = Long.MIN_VALUE + 1;
+    
+    private NumericDate() {
+    }
+    
+    /**
+     * Converte o valor da claim, descartando a parte fracionária (ex: "1700000000.5")
+     * @return segundos desde a epoch, ABSENT ou INVALID
+     */
+    public static long parse(String value) {
+        if (value == null) {
+            return ABSENT;
+        }
+        
+        int length = value.length();
+        int end = value.indexOf('.');
+        if (end < 0) {
+            end = length;
+        }
+        // Até 18 dígitos o valor sempre cabe em um long
+        if (end == 0 || end > 18) {
+            return INVALID;
+        }
+        
+        long seconds = 0;
+        for (int i = 0; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            seconds = seconds * 10 + (c - '0');
+        }
+        for (int i = end + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+        }
+        return seconds;
+    }
+    
+    /**
+     * Indica se o valor convertido representa um horário
+     */
+    public static boolean isPresent(long epochSecond) {
+        return epochSecond != ABSENT && epochSecond != INVALID;
+    }
+}
@@ -0,0 +1,348 @@
+package io.github.bapadua.jwt.lib.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.github.bapadua.jwt.lib.annotation.TokenPolicy;
+import io.github.bapadua.jwt.lib.annotation.ValidateJwt;
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.jfr.JwtAspectValidationEvent;
+import io.github.bapadua.jwt.lib.jfr.JwtAspectValidationEvent.SourceKind;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.ValidationStage;
+
+/**
+ * Validação do token em propriedades do @RequestBody antes do binding pelo Jackson
+ *
+ * Para métodos @ValidateJwt cujo token viria de propriedades do body (bodyField ou campos
+ * anotados com @ValidateJwt), o body JSON é lido uma única vez, até jwt.validation.body-extraction.max-bytes,
+ * e percorrido com o parser de streaming lendo só essas propriedades. O mesmo buffer segue
+ * para o binding.
+ *
+ * - token inválido: rejeitado aqui, com a mesma resposta do JwtValidationAspect
+ *   (false para ResponseEntity<Boolean>, IllegalArgumentException nos demais)
+ * - token válido: o resultado fica no RequestScopedValidationMemo e o aspect o reaproveita
+ * - sem token no body, body acima do limite ou JSON que o parser não entende: nada muda,
+ *   a decisão fica com o aspect depois do binding
+ *
+ * Métodos com token também em header configurado, @RequestHeader, @PathVariable ou @RequestParam
+ * ficam de fora, pois essas origens têm precedência sobre o body no aspect; o mesmo vale
+ * para DTOs com anotações do Jackson, cujos nomes no JSON podem não ser os dos campos.
+ */
+@ControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EarlyBodyTokenValidationAdvice extends RequestBodyAdviceAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EarlyBodyTokenValidationAdvice.class);
+    private static final JwtValidationStatistics statistics = JwtValidationStatistics.shared();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final BodyTokenPlan NO_PLAN = new BodyTokenPlan(null, false, new String[0], new boolean[0]);
+
+    private final JwtValidationService jwtValidationService;
+    private final RequestScopedValidationMemo validationMemo;
+    private final InFlightValidationCoalescer validationCoalescer;
+    private final int maxBytes;
+    private final ConcurrentMap<Method, BodyTokenPlan> plans = new ConcurrentHashMap<>();
+
+    private final LongAdder bodiesScanned = new LongAdder();
+    private final LongAdder bodiesOverLimit = new LongAdder();
+    private final LongAdder earlyRejections = new LongAdder();
+
+    public EarlyBodyTokenValidationAdvice(JwtValidationService jwtValidationService,
+                                          RequestScopedValidationMemo validationMemo,
+                                          InFlightValidationCoalescer validationCoalescer,
+                                          JwtValidationProperties properties) {
+        int maxBytes = properties.getBodyExtraction().getMaxBytes();
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("jwt.validation.body-extraction.max-bytes deve ser positivo: " + maxBytes);
+        }
+        this.jwtValidationService = jwtValidationService;
+        this.validationMemo = validationMemo;
+        this.validationCoalescer = validationCoalescer;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        Method method = methodParameter.getMethod();
+        return method != null && methodParameter.hasParameterAnnotation(RequestBody.class)
+                && plans.computeIfAbsent(method, EarlyBodyTokenValidationAdvice::plan) != NO_PLAN;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+        HttpHeaders headers = inputMessage.getHeaders();
+        MediaType contentType = headers.getContentType();
+        if (contentType == null || !isJson(contentType) || headers.getContentLength() > maxBytes) {
+            return inputMessage;
+        }
+
+        InputStream body = inputMessage.getBody();
+        byte[] buffer = body.readNBytes(maxBytes + 1);
+        if (buffer.length > maxBytes) {
+            // Chunked acima do limite: devolve o que já foi lido seguido do restante do stream
+            bodiesOverLimit.increment();
+            return new BufferedInputMessage(headers, new SequenceInputStream(new ByteArrayInputStream(buffer), body));
+        }
+        bodiesScanned.increment();
+
+        BodyTokenPlan plan = plans.get(parameter.getMethod());
+        String token = plan.select(buffer);
+        if (token != null) {
+            validateBeforeBinding(parameter.getMethod(), plan, token);
+        }
+        return new BufferedInputMessage(headers, new ByteArrayInputStream(buffer));
+    }
+
+    /**
+     * Resposta de ResponseEntity<Boolean> para tokens rejeitados antes do binding
+     */
+    @ExceptionHandler(RejectedBodyTokenException.class)
+    public ResponseEntity<Boolean> handleRejectedBodyToken(RejectedBodyTokenException ex) {
+        return ResponseEntity.ok(false);
+    }
+
+    private void validateBeforeBinding(Method method, BodyTokenPlan plan, String token) {
+        long start = System.nanoTime();
+        JwtAspectValidationEvent event = new JwtAspectValidationEvent();
+        event.begin();
+
+        JwtValidationResult result = validationMemo.validate(token,
+                jwtToken -> validationCoalescer.validate(jwtToken, jwtValidationService::validate));
+        if (result.isValid()) {
+            return;
+        }
+
+        event.source(SourceKind.BODY_FIELD);
+        event.complete(method, token, result.getReason());
+        statistics.recordStage(ValidationStage.ASPECT, System.nanoTime() - start);
+        earlyRejections.increment();
+        logger.debug("Token do body rejeitado antes do binding: {}", result.getReason());
+
+        if (plan.booleanResponse()) {
+            throw new RejectedBodyTokenException();
+        }
+        throw new IllegalArgumentException(plan.validateJwt().errorMessage());
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                || (contentType.getSubtype() != null && contentType.getSubtype().endsWith("+json"));
+    }
+
+    /**
+     * Propriedades do body a ler, na ordem de precedência do JwtValidationAspect, ou NO_PLAN
+     * quando a extração antecipada não decide sozinha qual token o aspect usaria
+     */
+    private static BodyTokenPlan plan(Method method) {
+        ValidateJwt validateJwt = method.getAnnotation(ValidateJwt.class);
+        if (validateJwt == null || !validateJwt.enableBodyFieldExtraction() || !validateJwt.headerName().isEmpty()) {
+            return NO_PLAN;
+        }
+        // ALL e ANY combinam vários tokens; a decisão fica com o aspect e o MultiTokenValidator
+        if (validateJwt.policy() == TokenPolicy.ALL || validateJwt.policy() == TokenPolicy.ANY) {
+            return NO_PLAN;
+        }
+
+        Class<?> bodyType = null;
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.isAnnotationPresent(RequestHeader.class) || parameter.isAnnotationPresent(PathVariable.class)
+                    || parameter.isAnnotationPresent(RequestParam.class) || parameter.isAnnotationPresent(ValidateJwt.class)) {
+                return NO_PLAN;
+            }
+            if (parameter.isAnnotationPresent(RequestBody.class)) {
+                bodyType = parameter.getType();
+            }
+        }
+        if (bodyType == null || hasJacksonAnnotation(bodyType.getAnnotations())) {
+            return NO_PLAN;
+        }
+
+        List<String> fields = new ArrayList<>();
+        List<Boolean> removeBearerPrefix = new ArrayList<>();
+        if (!validateJwt.bodyField().isEmpty()) {
+            try {
+                Field field = bodyType.getDeclaredField(validateJwt.bodyField());
+                if (field.getType() == String.class) {
+                    if (hasJacksonAnnotation(field.getAnnotations())) {
+                        return NO_PLAN;
+                    }
+                    fields.add(field.getName());
+                    removeBearerPrefix.add(false);
+                }
+            } catch (NoSuchFieldException e) {
+                // Sem o campo, o aspect passa direto para os campos anotados
+            }
+        }
+        for (Field field : bodyType.getDeclaredFields()) {
+            ValidateJwt fieldAnnotation = field.getAnnotation(ValidateJwt.class);
+            if (fieldAnnotation != null && field.getType() == String.class && validateJwt.policy() != TokenPolicy.FIELD) {
+                if (hasJacksonAnnotation(field.getAnnotations())) {
+                    return NO_PLAN;
+                }
+                fields.add(field.getName());
+                removeBearerPrefix.add(fieldAnnotation.removeBearerPrefix());
+            }
+        }
+        if (fields.isEmpty()) {
+            return NO_PLAN;
+        }
+
+        boolean[] bearer = new boolean[removeBearerPrefix.size()];
+        for (int i = 0; i < bearer.length; i++) {
+            bearer[i] = removeBearerPrefix.get(i);
+        }
+        return new BodyTokenPlan(validateJwt, returnsBooleanResponseEntity(method), fields.toArray(String[]::new), bearer);
+    }
+
+    private static boolean hasJacksonAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean returnsBooleanResponseEntity(Method method) {
+        return method.getGenericReturnType() instanceof ParameterizedType type
+                && type.getRawType().equals(ResponseEntity.class)
+                && type.getActualTypeArguments().length == 1
+                && type.getActualTypeArguments()[0].equals(Boolean.class);
+    }
+
+    /**
+     * Bodies lidos e percorridos pelo parser antes do binding
+     */
+    public long getBodiesScanned() {
+        return bodiesScanned.sum();
+    }
+
+    /**
+     * Bodies acima de max-bytes, repassados ao binding sem extração antecipada
+     */
+    public long getBodiesOverLimit() {
+        return bodiesOverLimit.sum();
+    }
+
+    /**
+     * Requests rejeitados antes do binding por token inválido no body
+     */
+    public long getEarlyRejections() {
+        return earlyRejections.sum();
+    }
+
+    /**
+     * Propriedades candidatas em ordem de precedência: bodyField (sem remoção do Bearer)
+     * seguido dos campos @ValidateJwt na ordem de declaração
+     */
+    private record BodyTokenPlan(ValidateJwt validateJwt, boolean booleanResponse, String[] fields,
+                                 boolean[] removeBearerPrefix) {
+
+        /**
+         * Token que o aspect extrairia do objeto após o binding, ou null se o body não o define
+         * (propriedade ausente, vazia, objeto/array no lugar da string ou JSON inválido)
+         */
+        String select(byte[] body) throws IOException {
+            String[] values = new String[fields.length];
+            try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    for (int i = 0; i < fields.length; i++) {
+                        if (fields[i].equals(field)) {
+                            if (value.isStructStart()) {
+                                // O binding falharia para um campo String; a resposta fica com ele
+                                return null;
+                            }
+                            // Última ocorrência vence, como no binding; escalares viram texto
+                            values[i] = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                        }
+                    }
+                    parser.skipChildren();
+                }
+            } catch (JsonProcessingException e) {
+                return null;
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                String value = values[i];
+                if (value != null && !value.trim().isEmpty()) {
+                    value = value.trim();
+                    if (removeBearerPrefix[i] && value.toLowerCase().startsWith("bearer ")) {
+                        value = value.substring(7).trim();
+                    }
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Token rejeitado em método que retorna ResponseEntity<Boolean>; vira ResponseEntity.ok(false)
+     */
+    static final class RejectedBodyTokenException extends RuntimeException {
+
+        RejectedBodyTokenException() {
+            super("Token JWT do body rejeitado antes do binding", null, false, false);
+        }
+    }
+
+    private record BufferedInputMessage(HttpHeaders headers, InputStream body) implements HttpInputMessage {
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+    }
+}
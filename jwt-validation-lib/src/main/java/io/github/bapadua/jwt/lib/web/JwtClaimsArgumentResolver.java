@@ -0,0 +1,29 @@
+package io.github.bapadua.jwt.lib.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import io.github.bapadua.jwt.lib.model.JwtClaims;
+
+/**
+ * Resolve parâmetros JwtClaims de controllers como null.
+ * 
+ * O valor real é injetado pelo JwtValidationAspect quando @ValidateJwt(injectClaims = true);
+ * este resolver apenas impede que o Spring MVC tente fazer binding de JwtClaims como @ModelAttribute.
+ */
+public class JwtClaimsArgumentResolver implements HandlerMethodArgumentResolver {
+    
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return JwtClaims.class.isAssignableFrom(parameter.getParameterType());
+    }
+    
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.bapadua.jwt.lib.web;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.time.CoarseClock;
+
+/**
+ * Memo de validações com escopo de request
+ * 
+ * Um mesmo request HTTP pode passar várias vezes pelo @ValidateJwt (advice de método,
+ * advice de parâmetro, chamadas aninhadas). O resultado de cada token é guardado como
+ * atributo do request, garantindo que cada token seja validado no máximo uma vez por request.
+ * 
+ * Fora de um request (ex: threads de background) a validação é sempre executada.
+ * Resultados válidos com exp não são reaproveitados depois de expirar, mesmo em requests longos.
+ */
+public class RequestScopedValidationMemo {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RequestScopedValidationMemo.class);
+    
+    static final String MEMO_ATTRIBUTE = RequestScopedValidationMemo.class.getName() + ".MEMO";
+    
+    private final LongAdder validations = new LongAdder();
+    private final LongAdder duplicatesAvoided = new LongAdder();
+    
+    /**
+     * Retorna o resultado memorizado no request atual ou executa a validação e o memoriza
+     * 
+     * @param jwtToken token a ser validado (chave do memo)
+     * @param validator função que executa a validação completa
+     * @return resultado da validação
+     */
+    public JwtValidationResult validate(String jwtToken, Function<String, JwtValidationResult> validator) {
+        JwtValidationResult result = getCached(jwtToken);
+        if (result != null) {
+            return result;
+        }
+        result = validator.apply(jwtToken);
+        remember(jwtToken, result);
+        return result;
+    }
+    
+    /**
+     * Resultado memorizado no request atual, sem validar
+     * 
+     * Para quem valida fora da thread do request: consulta aqui, valida onde quiser e
+     * devolve o resultado com {@link #remember(String, JwtValidationResult)}.
+     * 
+     * @return resultado ainda utilizável ou null se ausente, expirado ou fora de um request
+     */
+    public JwtValidationResult getCached(String jwtToken) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        
+        JwtValidationResult result = getOrCreateMemo(attributes).get(jwtToken);
+        // O relógio só é consultado para resultados com prazo de validade
+        if (result != null && result.getValidUntilEpochSecond() != JwtValidationResult.NO_EXPIRATION
+                && result.isExpiredAt(CoarseClock.shared().epochSecond())) {
+            logger.debug("Resultado memorizado expirou durante o request - validando novamente");
+            return null;
+        }
+        if (result != null) {
+            duplicatesAvoided.increment();
+            logger.debug("Resultado de validação reaproveitado do request atual: {}", result.getReason());
+        }
+        return result;
+    }
+    
+    /**
+     * Registra uma validação executada e memoriza o resultado no request atual (se houver)
+     */
+    public void remember(String jwtToken, JwtValidationResult result) {
+        validations.increment();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            getOrCreateMemo(attributes).put(jwtToken, result);
+        }
+    }
+    
+    /**
+     * Quantidade de validações efetivamente executadas
+     */
+    public long getValidations() {
+        return validations.sum();
+    }
+    
+    /**
+     * Quantidade de validações duplicadas evitadas pelo memo
+     */
+    public long getDuplicateValidationsAvoided() {
+        return duplicatesAvoided.sum();
+    }
+    
+    /**
+     * Zera os contadores (fim do aquecimento do JIT, para não misturar o tráfego sintético)
+     */
+    public void resetCounters() {
+        validations.reset();
+        duplicatesAvoided.reset();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, JwtValidationResult> getOrCreateMemo(RequestAttributes attributes) {
+        Object memo = attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo instanceof Map<?, ?> existing) {
+            return (Map<String, JwtValidationResult>) existing;
+        }
+        
+        // Poucos tokens por request - capacidade inicial pequena
+        Map<String, JwtValidationResult> created = new HashMap<>(4);
+        attributes.setAttribute(MEMO_ATTRIBUTE, created, RequestAttributes.SCOPE_REQUEST);
+        return created;
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.bapadua.jwt.lib.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.PrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.BailliePswPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.service.impl.DefaultPrimeNumberValidator;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics;
+import io.github.bapadua.jwt.lib.stats.JwtValidationStatistics.SeedSize;
+
+/**
+ * Testes unitários para SwitchableEngine (via SwitchablePrimeNumberValidator)
+ */
+class SwitchableEngineTest {
+
+    // 2^61 - 1: primo que cabe em um long; 2^89 - 1: primo que só o Baillie-PSW reconhece
+    private static final String LONG_PRIME = "2305843009213693951";
+    private static final String BIG_PRIME = "618970019642690137449562111";
+
+    private final ShadowEvaluator shadowEvaluator = new ShadowEvaluator(new JwtValidationProperties.Engines.Shadow());
+
+    @AfterEach
+    void tearDown() {
+        shadowEvaluator.close();
+    }
+
+    private SwitchablePrimeNumberValidator validators(String primary, String... runtimeSelectable) {
+        Map<String, PrimeNumberValidator> engines = new LinkedHashMap<>();
+        engines.put("bailliePsw", new BailliePswPrimeNumberValidator(100));
+        engines.put("trialDivision", new DefaultPrimeNumberValidator());
+        return new SwitchablePrimeNumberValidator(engines, shadowEvaluator,
+                new JwtValidationProperties.Engines.Selection(primary, runtimeSelectable));
+    }
+
+    @Test
+    @DisplayName("Candidata deve ser comparada em modo sombra sem alterar a resposta da primária")
+    void testShadowComparisonRecordsMismatches() throws InterruptedException {
+        SwitchablePrimeNumberValidator validator = validators("bailliePsw");
+        validator.select("bailliePsw", "trialDivision", 1.0);
+
+        assertTrue(validator.isPrime(LONG_PRIME));
+        assertTrue(validator.isPrime(BIG_PRIME));
+
+        ShadowComparison comparison = validator.getComparison();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (comparison.getCompared() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(2, comparison.getSampled());
+        assertEquals(2, comparison.getCompared());
+        // A divisão por tentativas não aceita valores acima de um long
+        assertEquals(1, comparison.getMismatches());
+        assertEquals(0.5, comparison.getMismatchRate(), 1e-9);
+        assertTrue(comparison.getMeanCandidateMicros() > 0);
+    }
+
+    @Test
+    @DisplayName("Troca de primária deve valer para as chamadas seguintes e zerar a comparação")
+    void testSwitchPrimaryAtRuntime() {
+        SwitchablePrimeNumberValidator validator = validators("bailliePsw");
+        assertTrue(validator.isPrime(BIG_PRIME));
+        assertNull(validator.getCandidateName());
+
+        ShadowComparison previous = validator.getComparison();
+        validator.select("trialDivision", null, 0.0);
+
+        assertEquals("trialDivision", validator.getPrimaryName());
+        assertFalse(validator.isPrime(BIG_PRIME));
+        assertTrue(previous != validator.getComparison());
+        assertEquals(0, validator.getComparison().getSampled());
+    }
+
+    @Test
+    @DisplayName("Seleção inválida deve ser recusada mantendo a seleção atual")
+    void testInvalidSelectionIsRejected() {
+        SwitchablePrimeNumberValidator validator = validators("bailliePsw");
+
+        assertThrows(IllegalArgumentException.class, () -> validator.select("inexistente", null, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> validator.select("bailliePsw", "bailliePsw", 0.1));
+        assertThrows(IllegalArgumentException.class, () -> validator.select("bailliePsw", "trialDivision", 1.5));
+        assertThrows(IllegalArgumentException.class, () -> validators("inexistente"));
+
+        assertEquals("bailliePsw", validator.getPrimaryName());
+        assertNull(validator.getCandidateName());
+    }
+
+    @Test
+    @DisplayName("Troca em tempo de execução deve aceitar só as engines de runtime-selectable")
+    void testRuntimeSelectionIsRestricted() {
+        SwitchablePrimeNumberValidator validator = validators("bailliePsw", "bailliePsw");
+
+        assertThrows(IllegalArgumentException.class, () -> validator.selectAtRuntime("trialDivision", null, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> validator.selectAtRuntime("bailliePsw", "trialDivision", 0.1));
+        assertEquals("bailliePsw", validator.getPrimaryName());
+        assertNull(validator.getCandidateName());
+
+        // Pela configuração (select) a escolha continua livre
+        validator.select("trialDivision", null, 0.0);
+        assertEquals("trialDivision", validator.getPrimaryName());
+        assertEquals(Set.of("bailliePsw"), validator.getRuntimeSelectable());
+        assertTrue(validators("bailliePsw").getRuntimeSelectable().contains("trialDivision"));
+    }
+
+    @Test
+    @DisplayName("Candidata em modo sombra não deve registrar estatísticas de produção")
+    void testShadowCandidateIsNotRecorded() throws InterruptedException {
+        SwitchablePrimeNumberValidator validator = validators("trialDivision");
+        validator.select("trialDivision", "bailliePsw", 1.0);
+        long before = primeChecks();
+
+        assertTrue(validator.isPrime(LONG_PRIME));
+
+        ShadowComparison comparison = validator.getComparison();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (comparison.getCompared() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, comparison.getCompared());
+        assertEquals(before, primeChecks());
+
+        // Fora da avaliação sombra a mesma engine registra normalmente
+        validator.select("bailliePsw", null, 0.0);
+        assertTrue(validator.isPrime(LONG_PRIME));
+        assertEquals(before + 1, primeChecks());
+    }
+
+    private static long primeChecks() {
+        long total = 0;
+        for (SeedSize size : SeedSize.values()) {
+            total += JwtValidationStatistics.shared().getPrimeChecks(size);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.bapadua.jwt.lib.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
+/**
+ * Testes unitários para InFlightValidationCoalescer
+ */
+class InFlightValidationCoalescerTest {
+
+    @Test
+    @DisplayName("Validações concorrentes do mesmo token devem compartilhar uma única execução")
+    void testConcurrentValidationsAreCoalesced() throws Exception {
+        InFlightValidationCoalescer coalescer = new InFlightValidationCoalescer(true, Duration.ofSeconds(5));
+        JwtValidationResult expected = JwtValidationResult.valid(null);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<JwtValidationResult> leader = executor.submit(() -> coalescer.validate("a.b.c", token -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return expected;
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<JwtValidationResult>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> coalescer.validate("a.b.c", token -> {
+                    executions.incrementAndGet();
+                    return expected;
+                })));
+            }
+
+            // Aguarda os seguidores se registrarem antes de liberar o líder
+            while (coalescer.getCoalesced() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(expected, leader.get(5, TimeUnit.SECONDS));
+            for (Future<JwtValidationResult> follower : followers) {
+                assertSame(expected, follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1, coalescer.getLeaders());
+        assertEquals(0, coalescer.getInFlight());
+        assertEquals(0.75, coalescer.getCoalescingRatio(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Espera expirada deve validar na própria thread")
+    void testTimeoutFallsBackToOwnValidation() throws Exception {
+        InFlightValidationCoalescer coalescer = new InFlightValidationCoalescer(true, Duration.ofMillis(10));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JwtValidationResult fallback = JwtValidationResult.valid(null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> coalescer.validate("a.b.c", token -> {
+                leaderStarted.countDown();
+                await(release);
+                return JwtValidationResult.valid(null);
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            assertSame(fallback, coalescer.validate("a.b.c", token -> fallback));
+            assertEquals(1, coalescer.getFallbacks());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.bapadua.jwt.lib.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bapadua.jwt.lib.annotation.TokenPolicy;
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
+/**
+ * Testes unitários para MultiTokenValidator
+ */
+class MultiTokenValidatorTest {
+
+    private static final JwtValidationResult VALID = JwtValidationResult.valid(Map.of("Name", "Toninho"));
+    private static final JwtValidationResult INVALID = JwtValidationResult.invalid(JwtValidationReason.INVALID_CLAIMS);
+
+    private final MultiTokenValidator validator = new MultiTokenValidator(new JwtValidationProperties());
+
+    @AfterEach
+    void tearDown() {
+        validator.close();
+    }
+
+    @Test
+    @DisplayName("ALL deve decidir no primeiro inválido sem esperar os tokens ainda em validação")
+    void testAllShortCircuitsOnFirstInvalid() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            JwtValidationResult result = validator.validate(List.of("bad", "slow"), TokenPolicy.ALL, Map.of(), token -> {
+                if (token.equals("slow")) {
+                    await(release);
+                    return VALID;
+                }
+                return INVALID;
+            });
+
+            assertSame(INVALID, result);
+            assertEquals(1, validator.getShortCircuits());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Resultados que chegam depois da decisão não devem ser repassados")
+    void testLateResultsAreNotReported() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowFinished = new CountDownLatch(1);
+        List<String> reported = Collections.synchronizedList(new ArrayList<>());
+
+        JwtValidationResult result = validator.validate(List.of("bad", "slow"), TokenPolicy.ALL, Map.of(), token -> {
+            if (token.equals("slow")) {
+                slowStarted.countDown();
+                await(release);
+                slowFinished.countDown();
+                return VALID;
+            }
+            // Decide só com a validação paralela já em andamento, que o cancel(false) não interrompe
+            await(slowStarted);
+            return INVALID;
+        }, (token, tokenResult) -> reported.add(token));
+
+        assertSame(INVALID, result);
+        release.countDown();
+        assertTrue(slowFinished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("bad"), reported);
+    }
+
+    @Test
+    @DisplayName("Só resultados lidos antes da decisão e sem falha devem ser repassados")
+    void testReportsValidatedResults() {
+        List<String> reported = Collections.synchronizedList(new ArrayList<>());
+
+        JwtValidationResult result = validator.validate(List.of("a", "b", "c", "d"), TokenPolicy.ALL, Map.of("d", VALID),
+                token -> {
+                    if (token.equals("c")) {
+                        throw new IllegalStateException("falha");
+                    }
+                    return VALID;
+                }, (token, tokenResult) -> reported.add(token));
+
+        assertEquals(JwtValidationReason.ERROR, result.getReason());
+        assertFalse(reported.contains("c"));
+        assertFalse(reported.contains("d"));
+    }
+
+    @Test
+    @DisplayName("ALL com todos válidos deve validar em paralelo e retornar o resultado do primeiro token")
+    void testAllValidatesConcurrently() {
+        JwtValidationResult first = JwtValidationResult.valid(Map.of("Name", "Primeiro"));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        JwtValidationResult result = validator.validate(List.of("a", "b", "c"), TokenPolicy.ALL, Map.of(), token -> {
+            threads.add(Thread.currentThread().getName());
+            return token.equals("a") ? first : VALID;
+        });
+
+        assertSame(first, result);
+        assertEquals(1, validator.getInlineValidations());
+        assertEquals(2, validator.getParallelValidations());
+        assertTrue(threads.contains(Thread.currentThread().getName()));
+        assertTrue(threads.stream().anyMatch(name -> name.startsWith("jwt-multi-token-")));
+        assertEquals(0, validator.getShortCircuits());
+    }
+
+    @Test
+    @DisplayName("ANY deve decidir por um resultado já conhecido sem validar os demais")
+    void testAnyUsesKnownResults() {
+        JwtValidationResult result = validator.validate(List.of("a", "b"), TokenPolicy.ANY, Map.of("b", VALID), token -> {
+            throw new AssertionError("Não deveria validar " + token);
+        });
+
+        assertSame(VALID, result);
+        assertEquals(0, validator.getInlineValidations() + validator.getParallelValidations());
+    }
+
+    @Test
+    @DisplayName("ANY sem token válido deve retornar o resultado do primeiro; falhas do validador viram ERROR")
+    void testAnyWithoutValidToken() {
+        JwtValidationResult result = validator.validate(List.of("a", "b"), TokenPolicy.ANY, Map.of(), token -> {
+            if (token.equals("b")) {
+                throw new IllegalStateException("falha");
+            }
+            return INVALID;
+        });
+        assertSame(INVALID, result);
+
+        JwtValidationResult error = validator.validate(List.of("b", "a"), TokenPolicy.ANY, Map.of(), token -> {
+            if (token.equals("b")) {
+                throw new IllegalStateException("falha");
+            }
+            return INVALID;
+        });
+        assertEquals(JwtValidationReason.ERROR, error.getReason());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.exception.PrimeCheckRejectedException;
+import io.github.bapadua.jwt.lib.model.JwtValidationReason;
+
+/**
+ * Testes unitários para AdmissionControlledPrimeNumberValidator
+ */
+class AdmissionControlledPrimeNumberValidatorTest {
+
+    // Primo de Mersenne 2^19937 - 1 (6002 dígitos) - Baillie-PSW leva segundos
+    private static final String HUGE_PRIME = BigInteger.ONE.shiftLeft(19937).subtract(BigInteger.ONE).toString();
+
+    @Test
+    @DisplayName("Seeds pequenas devem ser verificadas na própria thread")
+    void testCheapChecksRunInline() {
+        try (AdmissionControlledPrimeNumberValidator validator = newValidator(1, 1, Duration.ofSeconds(1))) {
+            assertTrue(validator.isPrime("7841"));
+            assertFalse(validator.isPrime("7843"));
+            assertTrue(validator.isPrime(9_223_372_036_854_775_783L));
+            assertEquals(3, validator.getInlineChecks());
+            assertEquals(0, validator.getOffloadedChecks());
+        }
+    }
+
+    @Test
+    @DisplayName("Verificação cara acima do prazo deve falhar fechada com PRIME_CHECK_TIMEOUT")
+    void testExpensiveCheckTimesOut() {
+        try (AdmissionControlledPrimeNumberValidator validator = newValidator(1, 1, Duration.ofMillis(5))) {
+            PrimeCheckRejectedException ex = assertThrows(PrimeCheckRejectedException.class,
+                    () -> validator.isPrime(HUGE_PRIME));
+            assertEquals(JwtValidationReason.PRIME_CHECK_TIMEOUT, ex.getReason());
+            assertEquals(1, validator.getTimedOutChecks());
+        }
+    }
+
+    @Test
+    @DisplayName("Fila cheia deve falhar fechada com PRIME_CHECK_REJECTED")
+    void testFullQueueRejects() {
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try (AdmissionControlledPrimeNumberValidator validator = newValidator(1, 1, Duration.ofSeconds(30))) {
+            // Ocupa a única thread do executor e a única posição da fila
+            callers.submit(() -> validator.isPrime(HUGE_PRIME));
+            while (validator.getOffloadedChecks() < 1) {
+                Thread.onSpinWait();
+            }
+            callers.submit(() -> validator.isPrime(HUGE_PRIME));
+            while (validator.getQueueSize() < 1) {
+                Thread.onSpinWait();
+            }
+
+            PrimeCheckRejectedException ex = assertThrows(PrimeCheckRejectedException.class,
+                    () -> validator.isPrime(HUGE_PRIME));
+            assertEquals(JwtValidationReason.PRIME_CHECK_REJECTED, ex.getReason());
+            assertEquals(1, validator.getRejectedChecks());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Seeds acima do máximo de dígitos devem ser recusadas sem usar o executor")
+    void testTooManyDigitsIsRejectedInline() {
+        try (AdmissionControlledPrimeNumberValidator validator = newValidator(1, 1, Duration.ofSeconds(1))) {
+            assertFalse(validator.isPrime(HUGE_PRIME + "1"));
+            assertEquals(0, validator.getOffloadedChecks());
+        }
+    }
+
+    private static AdmissionControlledPrimeNumberValidator newValidator(int threads, int queueCapacity, Duration deadline) {
+        JwtValidationProperties.PrimeCheck settings = new JwtValidationProperties.PrimeCheck();
+        settings.setThreads(threads);
+        settings.setQueueCapacity(queueCapacity);
+        settings.setDeadline(deadline);
+        settings.setMaxDigits(HUGE_PRIME.length());
+        return new AdmissionControlledPrimeNumberValidator(
+                new BailliePswPrimeNumberValidator(settings.getMaxDigits()), settings);
+    }
+}
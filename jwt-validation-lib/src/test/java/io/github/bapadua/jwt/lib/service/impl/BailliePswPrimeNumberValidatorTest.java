@@ -0,0 +1,70 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para BailliePswPrimeNumberValidator
+ */
+class BailliePswPrimeNumberValidatorTest {
+
+    private final BailliePswPrimeNumberValidator validator = new BailliePswPrimeNumberValidator(100);
+    private final DefaultPrimeNumberValidator trialDivision = new DefaultPrimeNumberValidator();
+
+    @Test
+    @DisplayName("Caminho primitivo deve concordar com a divisão por tentativa")
+    void testLongPathMatchesTrialDivision() {
+        for (long n = -10; n < 200_000; n++) {
+            assertEquals(trialDivision.isPrime(n), validator.isPrime(n), "n = " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Pseudoprimos fortes e números de Carmichael devem ser rejeitados")
+    void testKnownPseudoprimes() {
+        // Pseudoprimos fortes base 2 e números de Carmichael
+        long[] composites = {2047, 3277, 4033, 561, 1105, 1729, 3215031751L, 3825123056546413051L};
+        for (long n : composites) {
+            assertEquals(BigInteger.valueOf(n).isProbablePrime(64), validator.isPrime(n), "n = " + n);
+        }
+        assertFalse(validator.isPrime("318665857834031151167461"));
+        assertFalse(validator.isPrime("3317044064679887385961981"));
+    }
+
+    @Test
+    @DisplayName("Seeds de 64, 128 e 256 bits devem concordar com BigInteger.isProbablePrime")
+    void testArbitraryPrecisionMatchesBigInteger() {
+        Random random = new Random(42);
+        for (int bits : new int[] {62, 64, 128, 256}) {
+            for (int i = 0; i < 50; i++) {
+                BigInteger prime = BigInteger.probablePrime(bits, random);
+                assertTrue(validator.isPrime(prime.toString()), "primo de " + bits + " bits: " + prime);
+
+                BigInteger candidate = new BigInteger(bits, random).setBit(0);
+                assertEquals(candidate.isProbablePrime(64), validator.isPrime(candidate.toString()), "n = " + candidate);
+
+                BigInteger semiprime = prime.multiply(BigInteger.probablePrime(bits / 2, random));
+                assertFalse(validator.isPrime(semiprime.toString()), "semiprimo: " + semiprime);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Valores não numéricos ou acima do máximo de dígitos devem ser rejeitados")
+    void testInvalidInput() {
+        assertFalse(validator.isPrime((String) null));
+        assertFalse(validator.isPrime(""));
+        assertFalse(validator.isPrime("78a1"));
+        assertFalse(validator.isPrime("-7841"));
+        assertFalse(validator.isPrime("1234567890123456789012345678901234567890x"));
+        assertFalse(validator.isPrime("1".repeat(101)));
+        assertTrue(validator.isPrime("7841"));
+    }
+}
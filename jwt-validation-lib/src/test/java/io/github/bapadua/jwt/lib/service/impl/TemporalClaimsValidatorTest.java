@@ -0,0 +1,78 @@
+package io.github.bapadua.jwt.lib.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+
+/**
+ * Testes unitários para TemporalClaimsValidator
+ */
+class TemporalClaimsValidatorTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    private final TemporalClaimsValidator temporalValidator = new TemporalClaimsValidator(settings(true), () -> NOW);
+    private final DefaultJwtClaimsValidator claimsValidator =
+            new DefaultJwtClaimsValidator(new DefaultPrimeNumberValidator(), temporalValidator);
+
+    @Test
+    @DisplayName("exp deve ser aceita até o limite da tolerância e recusada a partir dele")
+    void testExpirationHonorsClockSkew() {
+        assertTrue(claimsValidator.validateClaims(claims("exp", NOW + 60)));
+        assertTrue(claimsValidator.validateClaims(claims("exp", NOW - 29)));
+        assertFalse(claimsValidator.validateClaims(claims("exp", NOW - 30)));
+
+        assertEquals(NOW + 90, claimsValidator.validUntil(claims("exp", NOW + 60)));
+        assertEquals(1, temporalValidator.getExpired());
+    }
+
+    @Test
+    @DisplayName("nbf e iat no futuro além da tolerância devem ser recusados")
+    void testNotBeforeAndIssuedAt() {
+        assertTrue(claimsValidator.validateClaims(claims("nbf", NOW + 30)));
+        assertFalse(claimsValidator.validateClaims(claims("nbf", NOW + 31)));
+        assertTrue(claimsValidator.validateClaims(claims("iat", NOW + 30)));
+        assertFalse(claimsValidator.validateClaims(claims("iat", NOW + 31)));
+        assertFalse(claimsValidator.validateClaims(claims("exp", "amanhã")));
+
+        assertEquals(1, temporalValidator.getNotYetValid());
+        assertEquals(1, temporalValidator.getIssuedInFuture());
+        assertEquals(1, temporalValidator.getMalformed());
+    }
+
+    @Test
+    @DisplayName("Com a validação desabilitada, exp continua contando como claim extra")
+    void testDisabledKeepsChallengeRules() {
+        DefaultJwtClaimsValidator withoutTemporal = new DefaultJwtClaimsValidator(new DefaultPrimeNumberValidator(),
+                new TemporalClaimsValidator(settings(false), () -> NOW));
+
+        assertFalse(withoutTemporal.validateClaims(claims("exp", NOW + 60)));
+        assertEquals(JwtValidationResult.NO_EXPIRATION, withoutTemporal.validUntil(claims("exp", NOW + 60)));
+    }
+
+    private static Map<String, String> claims(String temporalClaim, Object value) {
+        Map<String, String> claims = new HashMap<>();
+        claims.put("Name", "Toninho Araujo");
+        claims.put("Role", "Admin");
+        claims.put("Seed", "7841");
+        claims.put(temporalClaim, String.valueOf(value));
+        return claims;
+    }
+
+    private static JwtValidationProperties.Temporal settings(boolean enabled) {
+        JwtValidationProperties.Temporal settings = new JwtValidationProperties.Temporal();
+        settings.setEnabled(enabled);
+        settings.setClockSkew(Duration.ofSeconds(30));
+        return settings;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.bapadua.jwt.lib.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes da janela deslizante de latência
+ */
+class RollingLatencyTest {
+
+    private final AtomicLong epochSecond = new AtomicLong(1_000_000);
+    private final RollingLatency latency = new RollingLatency(epochSecond::get);
+
+    @Test
+    @DisplayName("Percentis devem cair no bucket da latência registrada, com erro limitado")
+    void testPercentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            latency.record(i * 1000L);
+        }
+
+        RollingLatency.Snapshot snapshot = latency.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMeanMicros(), 0.001);
+        assertWithinBucketError(500, snapshot.getPercentileMicros(50));
+        assertWithinBucketError(990, snapshot.getPercentileMicros(99));
+        assertWithinBucketError(1000, snapshot.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Fatias fora da janela devem ser descartadas e reaproveitadas")
+    void testWindowSlides() {
+        latency.record(10_000);
+        epochSecond.addAndGet(RollingLatency.SLOT_SECONDS);
+        latency.record(20_000);
+
+        assertEquals(2, latency.snapshot().getCount());
+
+        epochSecond.addAndGet((long) RollingLatency.SLOTS * RollingLatency.SLOT_SECONDS);
+        latency.record(30_000);
+
+        RollingLatency.Snapshot snapshot = latency.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(3, snapshot.getTotal());
+        assertWithinBucketError(30, snapshot.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Reset deve descartar total e fatias e recomeçar a janela")
+    void testReset() {
+        epochSecond.addAndGet(RollingLatency.SLOT_SECONDS * 3L);
+        latency.record(10_000);
+        latency.record(20_000);
+
+        latency.reset();
+        epochSecond.incrementAndGet();
+        latency.record(30_000);
+
+        RollingLatency.Snapshot snapshot = latency.snapshot();
+        assertEquals(1, snapshot.getTotal());
+        assertEquals(1, snapshot.getCount());
+        assertEquals(2, snapshot.getWindowSeconds());
+        assertWithinBucketError(30, snapshot.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Cada bucket deve conter os valores do seu intervalo")
+    void testBucketBounds() {
+        for (long value : new long[]{0, 1, 3, 4, 7, 8, 1023, 1024, 1_000_000, 123_456_789_012L}) {
+            int index = RollingLatency.bucketIndex(value);
+            assertTrue(value <= RollingLatency.bucketUpperBound(index), "valor " + value);
+            assertTrue(index == 0 || value > RollingLatency.bucketUpperBound(index - 1), "valor " + value);
+        }
+        assertEquals(RollingLatency.BUCKETS - 1, RollingLatency.bucketIndex(Long.MAX_VALUE));
+    }
+
+    private static void assertWithinBucketError(double expected, double actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.25, "esperado ~" + expected + ", obtido " + actual);
+    }
+}
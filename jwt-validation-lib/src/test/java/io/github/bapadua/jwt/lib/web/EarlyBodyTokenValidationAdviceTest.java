@@ -0,0 +1,192 @@
+package io.github.bapadua.jwt.lib.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.github.bapadua.jwt.lib.annotation.ValidateJwt;
+import io.github.bapadua.jwt.lib.config.JwtValidationProperties;
+import io.github.bapadua.jwt.lib.service.InFlightValidationCoalescer;
+import io.github.bapadua.jwt.lib.service.JwtValidationService;
+
+/**
+ * Testes unitários para EarlyBodyTokenValidationAdvice
+ */
+class EarlyBodyTokenValidationAdviceTest {
+
+    private static final String VALID = "valid.token.here";
+
+    private final List<String> validated = new ArrayList<>();
+    private EarlyBodyTokenValidationAdvice advice;
+
+    @BeforeEach
+    void setUp() {
+        JwtValidationService service = new JwtValidationService() {
+            @Override
+            public boolean isValidJwt(String jwtToken) {
+                validated.add(jwtToken);
+                return VALID.equals(jwtToken);
+            }
+
+            @Override
+            public boolean isValidJwtStructure(String jwtToken) {
+                return true;
+            }
+        };
+        JwtValidationProperties properties = new JwtValidationProperties();
+        properties.getBodyExtraction().setMaxBytes(256);
+        advice = new EarlyBodyTokenValidationAdvice(service, new RequestScopedValidationMemo(),
+                new InFlightValidationCoalescer(properties), properties);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Token inválido no body deve ser rejeitado antes do binding, lendo só as propriedades do token")
+    void testInvalidTokenRejectedBeforeBinding() throws Exception {
+        MethodParameter booleanEndpoint = bodyParameter("booleanEndpoint");
+        MethodParameter objectEndpoint = bodyParameter("objectEndpoint");
+        assertTrue(supports(booleanEndpoint));
+
+        // otherData como objeto faria o binding falhar; a rejeição vem antes
+        String body = "{\"otherData\":{\"nested\":[1,2]},\"authToken\":\"Bearer invalid\",\"jwtToken\":\"\"}";
+        assertThrows(EarlyBodyTokenValidationAdvice.RejectedBodyTokenException.class,
+                () -> beforeBodyRead(booleanEndpoint, body));
+        assertEquals(List.of("invalid"), validated);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> beforeBodyRead(objectEndpoint, "{\"jwtToken\":\"other\"}"));
+        assertEquals("token ruim", error.getMessage());
+        assertEquals(2, advice.getEarlyRejections());
+    }
+
+    @Test
+    @DisplayName("Token válido deve liberar o mesmo body para o binding e ficar no memo do request")
+    void testValidTokenPassesBufferedBody() throws Exception {
+        MethodParameter parameter = bodyParameter("specificFieldEndpoint");
+        String body = "{\"userToken\":\"ignored\",\"adminToken\":\" " + VALID + " \"}";
+
+        HttpInputMessage message = beforeBodyRead(parameter, body);
+
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), message.getBody().readAllBytes());
+        assertEquals(List.of(VALID), validated);
+        assertEquals(1, advice.getBodiesScanned());
+        assertEquals(0, advice.getEarlyRejections());
+    }
+
+    @Test
+    @DisplayName("Sem token no body, acima do limite ou com outras origens de token, a decisão fica com o aspect")
+    void testFallsBackToAspect() throws Exception {
+        MethodParameter parameter = bodyParameter("booleanEndpoint");
+
+        beforeBodyRead(parameter, "{\"otherData\":\"x\"}");
+        beforeBodyRead(parameter, "{\"jwtToken\":{\"not\":\"string\"}}");
+        beforeBodyRead(parameter, "not json");
+
+        String large = "{\"jwtToken\":\"invalid\",\"otherData\":\"" + "x".repeat(300) + "\"}";
+        MockHttpInputMessage chunked = new MockHttpInputMessage(large.getBytes(StandardCharsets.UTF_8));
+        chunked.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        HttpInputMessage message = advice.beforeBodyRead(chunked, parameter, parameter.getParameterType(),
+                MappingJackson2HttpMessageConverter.class);
+        assertArrayEquals(large.getBytes(StandardCharsets.UTF_8), message.getBody().readAllBytes());
+
+        assertEquals(List.of(), validated);
+        assertEquals(1, advice.getBodiesOverLimit());
+        assertFalse(supports(bodyParameter("headerEndpoint")));
+    }
+
+    private boolean supports(MethodParameter parameter) {
+        return advice.supports(parameter, parameter.getParameterType(), MappingJackson2HttpMessageConverter.class);
+    }
+
+    private HttpInputMessage beforeBodyRead(MethodParameter parameter, String body) throws IOException {
+        assertTrue(supports(parameter));
+        MockHttpInputMessage message = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        message.getHeaders().setContentLength(body.length());
+        return advice.beforeBodyRead(message, parameter, parameter.getParameterType(),
+                MappingJackson2HttpMessageConverter.class);
+    }
+
+    private static MethodParameter bodyParameter(String methodName) {
+        for (var method : SampleController.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                for (int i = 0; i < method.getParameterCount(); i++) {
+                    if (method.getParameters()[i].isAnnotationPresent(RequestBody.class)) {
+                        return new MethodParameter(method, i);
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException(methodName);
+    }
+
+    static class SampleController {
+
+        @ValidateJwt
+        ResponseEntity<Boolean> booleanEndpoint(@RequestBody TokenRequest request) {
+            return ResponseEntity.ok(true);
+        }
+
+        @ValidateJwt(errorMessage = "token ruim")
+        ResponseEntity<String> objectEndpoint(@RequestBody TokenRequest request) {
+            return ResponseEntity.ok("ok");
+        }
+
+        @ValidateJwt(bodyField = "adminToken")
+        ResponseEntity<Boolean> specificFieldEndpoint(@RequestBody MultiTokenRequest request) {
+            return ResponseEntity.ok(true);
+        }
+
+        @ValidateJwt
+        ResponseEntity<Boolean> headerEndpoint(@RequestHeader("Authorization") String authorization,
+                                               @RequestBody TokenRequest request) {
+            return ResponseEntity.ok(true);
+        }
+    }
+
+    static class TokenRequest {
+        @ValidateJwt
+        String jwtToken;
+
+        @ValidateJwt(removeBearerPrefix = true)
+        String authToken;
+
+        String otherData;
+    }
+
+    static class MultiTokenRequest {
+        @ValidateJwt(optional = true)
+        String userToken;
+
+        @ValidateJwt
+        String adminToken;
+    }
+}
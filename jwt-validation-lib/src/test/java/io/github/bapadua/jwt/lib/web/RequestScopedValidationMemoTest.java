@@ -0,0 +1,86 @@
+package io.github.bapadua.jwt.lib.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.github.bapadua.jwt.lib.model.JwtValidationResult;
+import io.github.bapadua.jwt.lib.time.CoarseClock;
+
+/**
+ * Testes unitários para RequestScopedValidationMemo
+ */
+class RequestScopedValidationMemoTest {
+
+    private final RequestScopedValidationMemo memo = new RequestScopedValidationMemo();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Mesmo token no mesmo request deve ser validado apenas uma vez")
+    void testSameTokenValidatedOncePerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        AtomicInteger calls = new AtomicInteger();
+        JwtValidationResult expected = JwtValidationResult.valid(Map.of("Name", "Toninho Araujo"));
+
+        JwtValidationResult first = memo.validate("a.b.c", token -> { calls.incrementAndGet(); return expected; });
+        JwtValidationResult second = memo.validate("a.b.c", token -> { calls.incrementAndGet(); return expected; });
+
+        assertSame(first, second);
+        assertEquals(1, calls.get());
+        assertEquals(1, memo.getDuplicateValidationsAvoided());
+    }
+
+    @Test
+    @DisplayName("Requests diferentes não compartilham resultados")
+    void testDifferentRequestsDoNotShareResults() {
+        AtomicInteger calls = new AtomicInteger();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        memo.validate("a.b.c", token -> { calls.incrementAndGet(); return JwtValidationResult.valid(null); });
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        memo.validate("a.b.c", token -> { calls.incrementAndGet(); return JwtValidationResult.valid(null); });
+
+        assertEquals(2, calls.get());
+        assertEquals(0, memo.getDuplicateValidationsAvoided());
+    }
+
+    @Test
+    @DisplayName("Fora de um request a validação é sempre executada")
+    void testNoRequestContextAlwaysValidates() {
+        AtomicInteger calls = new AtomicInteger();
+
+        memo.validate("a.b.c", token -> { calls.incrementAndGet(); return JwtValidationResult.valid(null); });
+        memo.validate("a.b.c", token -> { calls.incrementAndGet(); return JwtValidationResult.valid(null); });
+
+        assertEquals(2, calls.get());
+        assertEquals(2, memo.getValidations());
+    }
+
+    @Test
+    @DisplayName("Resultado válido expirado não deve ser reaproveitado")
+    void testExpiredResultIsRevalidated() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        AtomicInteger calls = new AtomicInteger();
+        long alreadyExpired = CoarseClock.shared().epochSecond();
+
+        memo.validate("a.b.c", token -> { calls.incrementAndGet(); return JwtValidationResult.valid(null, alreadyExpired); });
+        memo.validate("a.b.c", token -> { calls.incrementAndGet(); return JwtValidationResult.valid(null, alreadyExpired); });
+
+        assertEquals(2, calls.get());
+        assertEquals(0, memo.getDuplicateValidationsAvoided());
+    }
+}
@@ -56,7 +56,8 @@ resource "aws_lambda_function" "jwt_lambda" {
 
   environment {
     variables = {
-      ENVIRONMENT = var.environment
+      ENVIRONMENT            = var.environment
+      JWT_WARMUP_VALIDATIONS = var.warmup_validations
     }
   }
 
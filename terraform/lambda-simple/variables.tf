@@ -36,4 +36,10 @@ variable "lambda_memory_size" {
   description = "Memória em MB"
   type        = number
   default     = 512
-} 
\ No newline at end of file
+} 
+
+variable "warmup_validations" {
+  description = "Validações sintéticas no primeiro evento de warm-up da instância (0 desabilita)"
+  type        = number
+  default     = 0
+}